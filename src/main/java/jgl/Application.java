@@ -20,9 +20,28 @@ public interface Application {
      */
     void render();
 
+    /**
+     * Renders the application's graphics between two simulation steps. This method is called once
+     * per frame instead of {@link #render()}; when the application runs with a fixed timestep,
+     * {@code alpha} is how far the frame lies between the last simulation step and the next, so
+     * that moving objects can be drawn at {@code previous + (current - previous) * alpha} and
+     * appear smooth even when the frame rate and the step rate differ.
+     * <p>
+     * By default this method ignores {@code alpha} and calls {@link #render()}.
+     *
+     * @param alpha The fraction of a fixed timestep accumulated since the last update, from 0
+     *              inclusive to 1 exclusive, or 1 when the application runs with a variable timestep
+     * @see JGL#setFixedTimestep(double)
+     */
+    default void render(double alpha) {
+        render();
+    }
+
     /**
      * Updates the application's state. This method is called once per frame
-     * before rendering, with the time elapsed since the last update.
+     * before rendering, with the time elapsed since the last update, or, when the
+     * application runs with a fixed timestep, as many times as there are whole
+     * timesteps to catch up on, always with that timestep.
      *
      * @param delta The time elapsed since the last update in seconds
      */
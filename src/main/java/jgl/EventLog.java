@@ -0,0 +1,227 @@
+package jgl;
+
+import jgl.event.Event;
+import jgl.event.events.*;
+import jgl.io.buffer.DynamicByteBuffer;
+
+import java.util.function.Supplier;
+
+/**
+ * The binary format shared by {@link EventRecorder} and {@link EventReplayer}.
+ * <p>
+ * A log is a single bit-packed stream. It starts with a 32-bit magic number and an 8-bit version, followed by one
+ * entry per event and a terminating tag. Each entry starts with a 4-bit tag naming the event class, then one bit that
+ * is set if the event was published in a later frame than the previous one, followed in that case by the number of
+ * frames skipped, then the time since the previous event in microseconds, then the fields of the event. Unbounded
+ * numbers are written as a 6-bit bit length followed by that many bits, so the small deltas that make up most of a log
+ * take a few bits each; coordinates and sizes are written as the 16-bit values the events store.
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+final class EventLog {
+
+    /**
+     * The first four bytes of every log, "JGLR".
+     */
+    static final int MAGIC = 0x4A474C52;
+    static final int VERSION = 1;
+    static final int TAG_BITS = 4;
+    static final int END = (1 << TAG_BITS) - 1;
+
+    /**
+     * The event classes a log can hold, indexed by tag. Only these exact classes are recorded.
+     */
+    private static final Class<?>[] TYPES = {
+            KeyPressEvent.class, KeyReleaseEvent.class,
+            MousePressEvent.class, MouseReleaseEvent.class,
+            MouseMoveEvent.class, MouseDragEvent.class,
+            MouseScrollEvent.class, WindowResizeEvent.class
+    };
+
+    private static final int KEY_PRESS = 0, KEY_RELEASE = 1, MOUSE_PRESS = 2, MOUSE_RELEASE = 3;
+    private static final int MOUSE_MOVE = 4, MOUSE_DRAG = 5, MOUSE_SCROLL = 6, WINDOW_RESIZE = 7;
+
+    private EventLog() {
+        // Inaccessible
+    }
+
+    /**
+     * Returns the tag of an event.
+     *
+     * @param event the event
+     * @return the tag of the event's class, or -1 if the class cannot be logged
+     */
+    static int tagOf(Event event) {
+        Class<?> type = event.getClass();
+        for (int tag = 0; tag < TYPES.length; tag++) {
+            if (TYPES[tag] == type)
+                return tag;
+        }
+        return -1;
+    }
+
+    /**
+     * Creates one event of every class a log can hold, indexed by tag, for reading entries into.
+     *
+     * @return the events
+     */
+    static Event[] newEvents() {
+        Supplier<?>[] factories = {
+                () -> new KeyPressEvent(0, 0), () -> new KeyReleaseEvent(0, 0),
+                () -> new MousePressEvent(0, 0, 0, 0), () -> new MouseReleaseEvent(0, 0, 0, 0),
+                () -> new MouseMoveEvent(0, 0, 0, 0, 0, 0), () -> new MouseDragEvent(0, 0, 0, 0, 0, 0),
+                () -> new MouseScrollEvent(0, 0), () -> new WindowResizeEvent(0, 0, 0, 0)
+        };
+        Event[] events = new Event[factories.length];
+        for (int i = 0; i < events.length; i++)
+            events[i] = (Event) factories[i].get();
+        return events;
+    }
+
+    /**
+     * Writes the fields of an event.
+     *
+     * @param log   the log to write to
+     * @param tag   the tag of the event
+     * @param event the event
+     */
+    static void write(DynamicByteBuffer log, int tag, Event event) {
+        switch (tag) {
+            case KEY_PRESS, KEY_RELEASE -> {
+                KeyEvent key = (KeyEvent) event;
+                log.writeBits(key.getKey(), 16);
+                log.writeBits(modifiers(key.isShiftDown(), key.isCtrlDown(), key.isAltDown(), key.isSuperDown()), 4);
+            }
+            case MOUSE_PRESS, MOUSE_RELEASE -> writeMouse(log, (MouseEvent) event);
+            case MOUSE_MOVE, MOUSE_DRAG -> {
+                MouseMoveEvent move = (MouseMoveEvent) event;
+                writeMouse(log, move);
+                writeSigned(log, move.getDeltaX());
+                writeSigned(log, move.getDeltaY());
+                int count = move.getSampleCount();
+                writeUnsigned(log, count);
+                int x = move.getX(), y = move.getY();
+                for (int i = 0; i < count; i++) {
+                    writeSigned(log, move.getSampleX(i) - x);
+                    writeSigned(log, move.getSampleY(i) - y);
+                    x = move.getSampleX(i);
+                    y = move.getSampleY(i);
+                }
+            }
+            case MOUSE_SCROLL -> {
+                MouseScrollEvent scroll = (MouseScrollEvent) event;
+                log.writeBits(scroll.xOffset(), 16);
+                log.writeBits(scroll.yOffset(), 16);
+            }
+            case WINDOW_RESIZE -> {
+                WindowResizeEvent resize = (WindowResizeEvent) event;
+                log.writeBits(resize.getOldWidth(), 16);
+                log.writeBits(resize.getOldHeight(), 16);
+                log.writeBits(resize.getNewWidth(), 16);
+                log.writeBits(resize.getNewHeight(), 16);
+            }
+            default -> throw new IllegalArgumentException("Unknown event tag: " + tag);
+        }
+    }
+
+    /**
+     * Reads the fields of an event into an event of the tag's class.
+     *
+     * @param log   the log to read from
+     * @param tag   the tag of the event
+     * @param event a reset event of the tag's class, from {@link #newEvents()}
+     * @return {@code event}, filled
+     * @throws IllegalArgumentException if the tag is not known
+     */
+    static Event read(DynamicByteBuffer log, int tag, Event event) {
+        switch (tag) {
+            case KEY_PRESS, KEY_RELEASE -> {
+                KeyEvent key = (KeyEvent) event;
+                key.setKey((short) log.readBits(16));
+                key.setModifiers(log.readBits(4));
+            }
+            case MOUSE_PRESS, MOUSE_RELEASE -> readMouse(log, (MouseEvent) event);
+            case MOUSE_MOVE, MOUSE_DRAG -> {
+                MouseMoveEvent move = (MouseMoveEvent) event;
+                readMouse(log, move);
+                move.setToX((short) (move.getX() + readSigned(log)));
+                move.setToY((short) (move.getY() + readSigned(log)));
+                int count = (int) readUnsigned(log);
+                int x = move.getX(), y = move.getY();
+                for (int i = 0; i < count; i++) {
+                    x += readSigned(log);
+                    y += readSigned(log);
+                    move.addSample(x, y);
+                }
+            }
+            case MOUSE_SCROLL -> {
+                MouseScrollEvent scroll = (MouseScrollEvent) event;
+                scroll.setXOffset((short) log.readBits(16));
+                scroll.setYOffset((short) log.readBits(16));
+            }
+            case WINDOW_RESIZE -> {
+                WindowResizeEvent resize = (WindowResizeEvent) event;
+                resize.setOldWidth((short) log.readBits(16));
+                resize.setOldHeight((short) log.readBits(16));
+                resize.setNewWidth((short) log.readBits(16));
+                resize.setNewHeight((short) log.readBits(16));
+            }
+            default -> throw new IllegalArgumentException("Unknown event tag: " + tag);
+        }
+        return event;
+    }
+
+    private static void writeMouse(DynamicByteBuffer log, MouseEvent event) {
+        log.writeBits(event.getX(), 16);
+        log.writeBits(event.getY(), 16);
+        log.writeBits(event.getButton(), 8);
+        log.writeBits(modifiers(event.isShiftDown(), event.isCtrlDown(), event.isAltDown(), event.isSuperDown()), 4);
+    }
+
+    private static void readMouse(DynamicByteBuffer log, MouseEvent event) {
+        event.setX((short) log.readBits(16));
+        event.setY((short) log.readBits(16));
+        event.setButton((byte) log.readBits(8));
+        event.setModifiers(log.readBits(4));
+    }
+
+    /**
+     * Packs the four modifier flags the events expose in the order of the GLFW modifier bits.
+     */
+    private static int modifiers(boolean shift, boolean ctrl, boolean alt, boolean superKey) {
+        return (shift ? 1 : 0) | (ctrl ? 2 : 0) | (alt ? 4 : 0) | (superKey ? 8 : 0);
+    }
+
+    /**
+     * Writes a non-negative number as its bit length followed by its significant bits.
+     *
+     * @param log   the log to write to
+     * @param value the number, which must not be negative
+     */
+    static void writeUnsigned(DynamicByteBuffer log, long value) {
+        int length = 64 - Long.numberOfLeadingZeros(value);
+        log.writeBits(length, 6);
+        log.writeBits(value, length);
+    }
+
+    /**
+     * Reads a number written by {@link #writeUnsigned(DynamicByteBuffer, long)}.
+     *
+     * @param log the log to read from
+     * @return the number
+     */
+    static long readUnsigned(DynamicByteBuffer log) {
+        int length = log.readBits(6);
+        return log.readLongBits(length);
+    }
+
+    private static void writeSigned(DynamicByteBuffer log, int value) {
+        writeUnsigned(log, DynamicByteBuffer.zigZagEncode(value) & 0xFFFFFFFFL);
+    }
+
+    private static int readSigned(DynamicByteBuffer log) {
+        return DynamicByteBuffer.zigZagDecode((int) readUnsigned(log));
+    }
+}
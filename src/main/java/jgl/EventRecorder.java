@@ -0,0 +1,133 @@
+package jgl;
+
+import jgl.event.Event;
+import jgl.io.buffer.DynamicByteBuffer;
+
+import java.util.Arrays;
+
+/**
+ * Records the input events published through {@link JGL} into a compact binary log, for replaying with an
+ * {@link EventReplayer}.
+ * <p>
+ * Every recorded event is stored with the frame it was published in and the time since the previous event, bit-packed
+ * into a {@link DynamicByteBuffer}: a typical mouse move takes a few bytes. The input events of the mouse, keyboard and
+ * window are recorded; events of other classes, including subclasses of the input events, are counted by
+ * {@link #getSkippedEvents()} and left out.
+ * </p>
+ * <p>
+ * <b>Usage Example:</b>
+ * <pre>
+ * EventRecorder recorder = new EventRecorder();
+ * JGL.record(recorder);
+ * ...
+ * JGL.record(null);
+ * Files.write(path, recorder.finish());
+ * </pre>
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> Events may be recorded from any thread that publishes them.
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @see EventReplayer
+ * @since October 17th, 2026
+ */
+public final class EventRecorder {
+
+    private final DynamicByteBuffer log = new DynamicByteBuffer(new byte[4096]);
+    private long lastFrame;
+    private long startTime;
+    private long lastMicros;
+    private boolean started;
+    private byte[] finished;
+    private int recorded;
+    private int skipped;
+
+    /**
+     * Creates an empty recorder.
+     */
+    public EventRecorder() {
+        log.writeBits(EventLog.MAGIC, 32);
+        log.writeBits(EventLog.VERSION, 8);
+    }
+
+    /**
+     * Starts the clock of this recorder. Called by {@link JGL#record(EventRecorder)}; the frame it is called in is the
+     * first frame of the log.
+     *
+     * @param frame the current frame
+     */
+    synchronized void start(long frame) {
+        if (started)
+            return;
+        started = true;
+        lastFrame = frame;
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Records an event published in the given frame. Does nothing once the recorder is finished.
+     *
+     * @param event the published event
+     * @param frame the frame the event was published in
+     */
+    synchronized void record(Event event, long frame) {
+        if (finished != null || !started)
+            return;
+        int tag = EventLog.tagOf(event);
+        if (tag < 0) {
+            skipped++;
+            return;
+        }
+
+        log.writeBits(tag, EventLog.TAG_BITS);
+        if (frame > lastFrame) {
+            log.writeBit(true);
+            EventLog.writeUnsigned(log, frame - lastFrame - 1);
+            lastFrame = frame;
+        } else {
+            log.writeBit(false);
+        }
+        long micros = Math.max(lastMicros, (System.nanoTime() - startTime) / 1000);
+        EventLog.writeUnsigned(log, micros - lastMicros);
+        lastMicros = micros;
+
+        EventLog.write(log, tag, event);
+        recorded++;
+    }
+
+    /**
+     * Ends the log and returns it. Events published afterwards are not recorded, and later calls return the same log.
+     *
+     * @return the recorded log
+     */
+    public synchronized byte[] finish() {
+        if (finished == null) {
+            log.writeBits(EventLog.END, EventLog.TAG_BITS);
+            log.flushBits();
+            finished = Arrays.copyOf(log.getData(), log.getWritePosition());
+        }
+        return finished.clone();
+    }
+
+    /**
+     * @return {@code true} if {@link #finish()} has been called
+     */
+    public synchronized boolean isFinished() {
+        return finished != null;
+    }
+
+    /**
+     * @return the number of events recorded so far
+     */
+    public synchronized int getRecordedEvents() {
+        return recorded;
+    }
+
+    /**
+     * @return the number of published events left out because their class cannot be recorded
+     */
+    public synchronized int getSkippedEvents() {
+        return skipped;
+    }
+}
@@ -0,0 +1,120 @@
+package jgl;
+
+import jgl.event.Event;
+import jgl.io.buffer.DynamicByteBuffer;
+
+import java.util.Objects;
+
+/**
+ * Replays a log written by an {@link EventRecorder}, publishing each event through {@link JGL#publish(Event)} in the
+ * same frame, relative to the start of the replay, as it was recorded in.
+ * <p>
+ * Together with a recorder this makes input-heavy scenes reproducible: a session is recorded once, and every later run
+ * given the same log sees the same events at the same frame boundaries, with no one driving the window. Each replayed
+ * event is published from one reused instance per event class, so listeners that keep an event must keep a
+ * {@linkplain Event#copy() copy}.
+ * </p>
+ * <p>
+ * <b>Usage Example:</b>
+ * <pre>
+ * JGL.replay(new EventReplayer(Files.readAllBytes(path)));
+ * </pre>
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @see EventRecorder
+ * @since October 17th, 2026
+ */
+public final class EventReplayer {
+
+    private final DynamicByteBuffer log;
+    private final Event[] events = EventLog.newEvents();
+    private long frame;
+    private long nextFrame;
+    private int nextTag;
+    private long nextMicros;
+    private long timestamp;
+    private int replayed;
+
+    /**
+     * Creates a replayer of a recorded log.
+     *
+     * @param log the log returned by {@link EventRecorder#finish()}
+     * @throws NullPointerException     if {@code log} is {@code null}
+     * @throws IllegalArgumentException if {@code log} is not a log of a supported version
+     */
+    public EventReplayer(byte[] log) {
+        Objects.requireNonNull(log, "Log cannot be null");
+        this.log = new DynamicByteBuffer(log.clone());
+        if (log.length < 5 || this.log.readBits(32) != EventLog.MAGIC)
+            throw new IllegalArgumentException("Not an event log");
+        int version = this.log.readBits(8);
+        if (version != EventLog.VERSION)
+            throw new IllegalArgumentException("Unsupported event log version: " + version);
+        readEntry();
+    }
+
+    /**
+     * Publishes the events recorded for the next frame. Called by {@link JGL} once per frame, right after polling for
+     * input.
+     *
+     * @return the number of events published
+     */
+    int advance() {
+        int published = 0;
+        while (nextTag != EventLog.END && nextFrame <= frame) {
+            Event event = events[nextTag];
+            event.reset();
+            EventLog.read(log, nextTag, event);
+            timestamp = nextMicros * 1000;
+            readEntry();
+            JGL.publish(event);
+            published++;
+        }
+        replayed += published;
+        frame++;
+        return published;
+    }
+
+    /**
+     * Reads the tag, frame and time of the next entry, leaving its fields for {@link #advance()}.
+     */
+    private void readEntry() {
+        nextTag = log.readBits(EventLog.TAG_BITS);
+        if (nextTag == EventLog.END)
+            return;
+        if (log.readBit())
+            nextFrame += EventLog.readUnsigned(log) + 1;
+        nextMicros += EventLog.readUnsigned(log);
+    }
+
+    /**
+     * @return {@code true} if every event of the log has been published
+     */
+    public boolean isFinished() {
+        return nextTag == EventLog.END;
+    }
+
+    /**
+     * @return the number of frames replayed so far
+     */
+    public long getFrame() {
+        return frame;
+    }
+
+    /**
+     * Returns when the event being published, or last published, was recorded.
+     *
+     * @return the time since the start of the recording, in nanoseconds, at microsecond precision
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the number of events published so far
+     */
+    public int getReplayedEvents() {
+        return replayed;
+    }
+}
@@ -0,0 +1,109 @@
+package jgl;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Paces a loop to a target number of frames per second without busy-waiting for the whole frame.
+ * <p>
+ * Each call to {@link #sync()} waits until the deadline of the current frame in two phases: it parks
+ * the thread until shortly before the deadline, then spins on {@link System#nanoTime()} for the rest.
+ * Parking costs no CPU but may wake late by anything from tens of microseconds to a few milliseconds
+ * depending on the operating system, so the length of the spin is learned from how late recent parks
+ * woke up: it grows at once after a wake-up past the deadline and otherwise settles slowly at twice
+ * the typical lateness.
+ * </p>
+ * <p>
+ * Deadlines are spaced exactly one frame apart rather than measured from when {@code sync} returns,
+ * so the frame rate does not drift. A frame that overruns its deadline by more than a whole frame
+ * starts a new schedule instead of being followed by a burst of unpaced frames.
+ * </p>
+ * <p>
+ * <b>Usage Example:</b>
+ * <pre>
+ * FrameLimiter limiter = new FrameLimiter(60);
+ * while (running) {
+ *     tick();
+ *     limiter.sync();
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+public final class FrameLimiter {
+
+    private static final long MIN_SPIN_NANOS = 50_000;
+    private static final long INITIAL_SPIN_NANOS = 1_000_000;
+
+    private long periodNanos;
+    private long deadline;
+    private boolean scheduled;
+    private long spinNanos = INITIAL_SPIN_NANOS;
+
+    /**
+     * Creates a limiter for the given frame rate. The first frame starts when {@link #sync()} is
+     * first called.
+     *
+     * @param framesPerSecond the target frame rate
+     * @throws IllegalArgumentException if {@code framesPerSecond} is not positive
+     */
+    public FrameLimiter(double framesPerSecond) {
+        setTargetFramesPerSecond(framesPerSecond);
+    }
+
+    /**
+     * Changes the target frame rate, starting a new schedule with the next call to {@link #sync()}.
+     *
+     * @param framesPerSecond the target frame rate
+     * @throws IllegalArgumentException if {@code framesPerSecond} is not positive
+     */
+    public void setTargetFramesPerSecond(double framesPerSecond) {
+        if (!(framesPerSecond > 0))
+            throw new IllegalArgumentException("The target frame rate must be positive.");
+        periodNanos = Math.max(1, (long) (1e9 / framesPerSecond));
+        reset();
+    }
+
+    /**
+     * @return the target frame rate
+     */
+    public double getTargetFramesPerSecond() {
+        return 1e9 / periodNanos;
+    }
+
+    /**
+     * Starts a new schedule with the next call to {@link #sync()}, which then returns immediately.
+     * Call this after a deliberate pause so the frames that follow are not treated as late.
+     */
+    public void reset() {
+        scheduled = false;
+    }
+
+    /**
+     * Waits until the end of the current frame and starts the next one.
+     */
+    public void sync() {
+        long now = System.nanoTime();
+        if (!scheduled || now - deadline > periodNanos) {
+            scheduled = true;
+            deadline = now + periodNanos;
+            return;
+        }
+
+        long wake = deadline - spinNanos;
+        for (long sleep = wake - now; sleep > 0; sleep = wake - now) {
+            LockSupport.parkNanos(sleep);
+            now = System.nanoTime();
+            long late = now - wake;
+            if (late > spinNanos)
+                spinNanos = Math.min(late, periodNanos);
+            else if (late >= 0)
+                spinNanos = Math.max(MIN_SPIN_NANOS, spinNanos - ((spinNanos - (late << 1)) >> 3));
+        }
+        while (System.nanoTime() - deadline < 0)
+            Thread.onSpinWait();
+
+        deadline += periodNanos;
+    }
+}
@@ -2,7 +2,12 @@ package jgl;
 
 import jgl.event.Event;
 import jgl.event.EventListener;
+import jgl.event.EventMetrics;
 import jgl.event.EventPublisher;
+import jgl.event.EventQueue;
+import jgl.event.OverflowPolicy;
+import jgl.event.Subscription;
+import jgl.io.pool.ObjectPool;
 
 import static org.lwjgl.glfw.GLFW.*;
 import static org.lwjgl.opengl.GL11.GL_COLOR_BUFFER_BIT;
@@ -19,8 +24,17 @@ import static org.lwjgl.opengl.GL11.glClear;
 public class JGL {
 
     private static final EventPublisher events = new EventPublisher();
+    private static final EventQueue queue = new EventQueue(256);
+    private static boolean queueEvents;
+    private static long eventBudgetNanos = 2_000_000;
     private static double deltaTime;
     private static short framesPerSecond;
+    private static long frame;
+    private static EventReplayer replayer;
+    private static double fixedTimestep;
+    private static int maxCatchUpSteps = 5;
+    private static double accumulator;
+    private static FrameLimiter limiter;
 
     /**
      * Initializes the OpenGL-based application and sets up the main application loop.
@@ -56,9 +70,27 @@ public class JGL {
             lastTime = now;
 
             glfwPollEvents();
+            Mouse.flush();
+            if (replayer != null) {
+                replayer.advance();
+                if (replayer.isFinished())
+                    replayer = null;
+            }
+            queue.drain(events, eventBudgetNanos);
 
-            application.update(deltaTime);
-            application.render();
+            if (fixedTimestep > 0) {
+                accumulator += deltaTime;
+                for (int steps = 0; accumulator >= fixedTimestep && steps < maxCatchUpSteps; steps++) {
+                    application.update(fixedTimestep);
+                    accumulator -= fixedTimestep;
+                }
+                if (accumulator >= fixedTimestep)
+                    accumulator %= fixedTimestep;
+                application.render(accumulator / fixedTimestep);
+            } else {
+                application.update(deltaTime);
+                application.render(1);
+            }
 
             fpsTime += deltaTime;
             frames++;
@@ -70,6 +102,9 @@ public class JGL {
                 frames = 0;
             }
             glfwSwapBuffers(Window.getAddress());
+            if (limiter != null)
+                limiter.sync();
+            frame++;
 
             Mouse.resetScroll();
         }
@@ -96,6 +131,144 @@ public class JGL {
         events.register(eventType, listener);
     }
 
+    /**
+     * Registers an {@code EventListener} for a specific type of {@code Event} with an explicit priority.
+     * Listeners with higher priorities handle events first; listeners of equal priority handle them in
+     * the order they were subscribed. Use this for lambdas and method references, which cannot carry an
+     * {@link jgl.event.EventPriority} annotation.
+     *
+     * @param <T>       the type of {@code Event} the listener will handle
+     * @param eventType the class object representing the type of event to be handled
+     * @param listener  the {@code EventListener} responsible for handling the specified event type
+     * @param priority  the priority of the listener; higher values handle events earlier
+     * @throws NullPointerException if {@code eventType} or {@code listener} is null
+     */
+    public static <T extends Event> void subscribe(Class<T> eventType, EventListener<T> listener, int priority) {
+        if (eventType == null)
+            throw new NullPointerException("A null event type cannot be registered for event listeners.");
+        if (listener == null)
+            throw new NullPointerException("A null EventListener cannot be registered for " + eventType.getSimpleName() + " events.");
+
+        events.register(eventType, listener, priority);
+    }
+
+    /**
+     * Registers every method of an object annotated with {@link jgl.event.Subscribe} as a handler of the
+     * event type of its parameter, so that one object can handle several event types without a listener
+     * class per type.
+     *
+     * @param subscriber the object whose annotated methods handle events
+     * @throws NullPointerException     if {@code subscriber} is null
+     * @throws IllegalArgumentException if the object has no valid annotated methods
+     */
+    public static void subscribe(Object subscriber) {
+        if (subscriber == null)
+            throw new NullPointerException("A null subscriber cannot be registered for events.");
+
+        events.registerSubscriber(subscriber);
+    }
+
+    /**
+     * Unregisters the annotated methods of an object registered with {@link #subscribe(Object)}.
+     *
+     * @param subscriber the registered object
+     * @return {@code true} if the object was registered
+     * @throws NullPointerException if {@code subscriber} is null
+     */
+    public static boolean unsubscribe(Object subscriber) {
+        if (subscriber == null)
+            throw new NullPointerException("A null subscriber cannot be unregistered from events.");
+
+        return events.unregisterSubscriber(subscriber);
+    }
+
+    /**
+     * Registers an {@code EventListener} for a specific type of {@code Event} and returns a subscription
+     * that unregisters it when closed, for listeners that only live as long as a screen or a tool.
+     *
+     * @param <T>       the type of {@code Event} the listener will handle
+     * @param eventType the class object representing the type of event to be handled
+     * @param listener  the {@code EventListener} responsible for handling the specified event type
+     * @return the subscription of the listener
+     * @throws NullPointerException if {@code eventType} or {@code listener} is null
+     */
+    public static <T extends Event> Subscription subscribeScoped(Class<T> eventType, EventListener<T> listener) {
+        if (eventType == null)
+            throw new NullPointerException("A null event type cannot be registered for event listeners.");
+        if (listener == null)
+            throw new NullPointerException("A null EventListener cannot be registered for " + eventType.getSimpleName() + " events.");
+
+        return events.registerScoped(eventType, listener, 0);
+    }
+
+    /**
+     * Registers an {@code EventListener} for a specific type of {@code Event} without keeping it alive.
+     * The listener is notified for as long as something else references it, and is unregistered
+     * automatically once it is garbage collected, so objects that keep their listeners in fields can be
+     * discarded without unsubscribing.
+     *
+     * @param <T>       the type of {@code Event} the listener will handle
+     * @param eventType the class object representing the type of event to be handled
+     * @param listener  the {@code EventListener} responsible for handling the specified event type
+     * @return the subscription of the listener, which can also be closed explicitly
+     * @throws NullPointerException if {@code eventType} or {@code listener} is null
+     */
+    public static <T extends Event> Subscription subscribeWeak(Class<T> eventType, EventListener<T> listener) {
+        if (eventType == null)
+            throw new NullPointerException("A null event type cannot be registered for event listeners.");
+        if (listener == null)
+            throw new NullPointerException("A null EventListener cannot be registered for " + eventType.getSimpleName() + " events.");
+
+        return events.registerWeak(eventType, listener, 0);
+    }
+
+    /**
+     * Registers an {@code EventListener} that only handles events with the given routing key, such as
+     * the key code of a {@code KeyEvent} or the button of a {@code MouseEvent}. Keyed listeners are found
+     * through an index when an event is published, so any number of single-key bindings costs the same
+     * as one.
+     *
+     * @param <T>       the type of {@code Event} the listener will handle; must implement {@link jgl.event.KeyedEvent}
+     * @param eventType the class object representing the type of event to be handled
+     * @param key       the routing key of the events the listener will handle
+     * @param listener  the {@code EventListener} responsible for handling the specified event type
+     * @throws NullPointerException     if {@code eventType} or {@code listener} is null
+     * @throws IllegalArgumentException if {@code eventType} does not carry a routing key, or if {@code key} is
+     *                                  {@link jgl.event.KeyedEvent#UNKEYED}
+     */
+    public static <T extends Event> void subscribe(Class<T> eventType, int key, EventListener<T> listener) {
+        if (eventType == null)
+            throw new NullPointerException("A null event type cannot be registered for event listeners.");
+        if (listener == null)
+            throw new NullPointerException("A null EventListener cannot be registered for " + eventType.getSimpleName() + " events.");
+
+        events.registerKeyed(eventType, key, listener, 0);
+    }
+
+    /**
+     * Registers an {@code EventListener} that handles events of a specific type asynchronously, on a
+     * virtual thread, so that slow work such as saving or network sends does not hold up the frame.
+     * The listener receives copies of the events in publication order, one at a time. At most
+     * {@code backlog} events wait for it; when that many are waiting, {@code overflow} decides whether
+     * publishing drops the event or waits for room.
+     *
+     * @param <T>       the type of {@code Event} the listener will handle
+     * @param eventType the class object representing the type of event to be handled
+     * @param listener  the {@code EventListener} responsible for handling the specified event type
+     * @param backlog   the maximum number of events waiting for the listener
+     * @param overflow  what to do with an event that arrives while the backlog is full
+     * @throws NullPointerException     if {@code eventType}, {@code listener} or {@code overflow} is null
+     * @throws IllegalArgumentException if {@code backlog} is not positive
+     */
+    public static <T extends Event> void subscribeAsync(Class<T> eventType, EventListener<T> listener, int backlog, OverflowPolicy overflow) {
+        if (eventType == null)
+            throw new NullPointerException("A null event type cannot be registered for event listeners.");
+        if (listener == null)
+            throw new NullPointerException("A null EventListener cannot be registered for " + eventType.getSimpleName() + " events.");
+
+        events.registerAsync(eventType, listener, 0, backlog, overflow);
+    }
+
     /**
      * Publishes the specified {@code Event} to the event bus, allowing all
      * registered listeners for the event's type to handle it. If the event
@@ -110,6 +283,238 @@ public class JGL {
         events.publish(event);
     }
 
+    /**
+     * Queues the specified {@code Event} to be published on the main thread at the start of the next
+     * frame, after input has been polled. Queued events are published in order, within the per-frame
+     * budget set by {@link #setEventBudget(double)}.
+     *
+     * @param event the event to be published later; must not be null
+     * @throws NullPointerException if the provided event is null
+     */
+    public static void enqueue(Event event) {
+        if (event == null)
+            throw new NullPointerException("A null event cannot be queued on the event bus.");
+        queue.offer(event);
+    }
+
+    /**
+     * Publishes an input event taken from {@code pool}, either immediately or through the event queue
+     * depending on {@link #setEventQueueing(boolean)}. The event is freed to the pool once it has been
+     * handled.
+     *
+     * @param event the pooled event to publish
+     * @param pool  the pool the event was obtained from
+     * @param <T>   the type of the event
+     */
+    static <T extends Event> void post(T event, ObjectPool<T> pool) {
+        if (queueEvents) {
+            queue.offer(event, pool);
+            return;
+        }
+        try {
+            events.publish(event);
+        } finally {
+            pool.free(event);
+        }
+    }
+
+    /**
+     * Sets whether input events from the mouse, keyboard and window are queued instead of being
+     * published from inside {@code glfwPollEvents}. Queued input is handled right after polling, in
+     * the order it arrived, and spread over several frames if it does not fit in the event budget.
+     *
+     * @param queue {@code true} to queue input events, {@code false} to publish them immediately
+     */
+    public static void setEventQueueing(boolean queue) {
+        queueEvents = queue;
+    }
+
+    /**
+     * @return {@code true} if input events are queued rather than published immediately
+     */
+    public static boolean isEventQueueing() {
+        return queueEvents;
+    }
+
+    /**
+     * Sets how long the event queue may spend publishing events each frame. Events left over when
+     * the budget runs out are carried over to the next frame; at least one event is published per
+     * frame regardless of the budget.
+     *
+     * @param seconds the per-frame budget in seconds
+     * @throws IllegalArgumentException if {@code seconds} is negative or not a number
+     */
+    public static void setEventBudget(double seconds) {
+        if (!(seconds >= 0))
+            throw new IllegalArgumentException("The event budget cannot be negative.");
+        eventBudgetNanos = seconds >= Long.MAX_VALUE / 1e9 ? Long.MAX_VALUE : (long) (seconds * 1e9);
+    }
+
+    /**
+     * @return the per-frame event budget in seconds
+     */
+    public static double getEventBudget() {
+        return eventBudgetNanos / 1e9;
+    }
+
+    /**
+     * Sets whether publication is measured: how many events of each type are published, how long
+     * each listener takes to handle them, and how long whole publications take. Turning the metrics
+     * on starts from empty counters, and turning them off discards the counters.
+     *
+     * @param enabled {@code true} to measure publication, {@code false} to stop measuring
+     * @see #getEventMetrics()
+     */
+    public static void setEventMetricsEnabled(boolean enabled) {
+        events.setMetricsEnabled(enabled);
+    }
+
+    /**
+     * @return {@code true} if publication is being measured
+     */
+    public static boolean isEventMetricsEnabled() {
+        return events.isMetricsEnabled();
+    }
+
+    /**
+     * Takes a snapshot of the event metrics, with the slowest listeners first.
+     *
+     * @return the metrics measured since they were enabled or reset, or an empty snapshot if they
+     * are disabled
+     */
+    public static EventMetrics getEventMetrics() {
+        return events.metrics();
+    }
+
+    /**
+     * Clears the event metrics, if they are enabled.
+     */
+    public static void resetEventMetrics() {
+        events.resetMetrics();
+    }
+
+    /**
+     * Returns the number of events that asynchronous listeners with {@link OverflowPolicy#DROP}
+     * have discarded because their backlog was full.
+     *
+     * @return the number of dropped events
+     * @see #subscribeAsync(Class, EventListener, int, OverflowPolicy)
+     */
+    public static long getDroppedEvents() {
+        return events.getDroppedEvents();
+    }
+
+    /**
+     * Sets the timestep the application is simulated with. With a fixed timestep, the time of each
+     * frame is accumulated and {@link Application#update(double)} is called once for every whole
+     * timestep accumulated, always with exactly that timestep, so the simulation advances the same
+     * way whatever the frame rate; the remainder is passed to {@link Application#render(double)} as
+     * the interpolation alpha. With a timestep of 0, the default, the application is updated once per
+     * frame with the time elapsed since the previous frame.
+     *
+     * @param seconds the length of one simulation step in seconds, or 0 for a variable timestep
+     * @throws IllegalArgumentException if {@code seconds} is negative, infinite or not a number
+     * @see #setMaxCatchUpSteps(int)
+     */
+    public static void setFixedTimestep(double seconds) {
+        if (!(seconds >= 0) || seconds == Double.POSITIVE_INFINITY)
+            throw new IllegalArgumentException("The fixed timestep must be finite and cannot be negative.");
+        fixedTimestep = seconds;
+        accumulator = 0;
+    }
+
+    /**
+     * @return the length of one simulation step in seconds, or 0 if the timestep is variable
+     */
+    public static double getFixedTimestep() {
+        return fixedTimestep;
+    }
+
+    /**
+     * Sets how many fixed timesteps may be simulated in a single frame. When a frame takes longer
+     * than this many timesteps, for example after the window was dragged or the machine stalled,
+     * the time beyond them is dropped and the simulation falls behind the clock rather than
+     * spending ever longer catching up.
+     *
+     * @param steps the maximum number of updates per frame
+     * @throws IllegalArgumentException if {@code steps} is less than 1
+     */
+    public static void setMaxCatchUpSteps(int steps) {
+        if (steps < 1)
+            throw new IllegalArgumentException("At least one update per frame is required.");
+        maxCatchUpSteps = steps;
+    }
+
+    /**
+     * @return the maximum number of fixed timesteps simulated in a single frame
+     */
+    public static int getMaxCatchUpSteps() {
+        return maxCatchUpSteps;
+    }
+
+    /**
+     * Limits the frame rate of the application loop. Each frame then waits after presenting until
+     * its deadline, sleeping for most of the wait and spinning only for the last fraction of a
+     * millisecond, so a capped application uses little CPU even with {@link SwapInterval#OFF}.
+     *
+     * @param framesPerSecond the target frame rate, or 0 for no limit
+     * @throws IllegalArgumentException if {@code framesPerSecond} is negative or not a number
+     * @see FrameLimiter
+     */
+    public static void setTargetFramesPerSecond(double framesPerSecond) {
+        if (!(framesPerSecond >= 0))
+            throw new IllegalArgumentException("The target frame rate cannot be negative.");
+        if (framesPerSecond == 0)
+            limiter = null;
+        else if (limiter == null)
+            limiter = new FrameLimiter(framesPerSecond);
+        else
+            limiter.setTargetFramesPerSecond(framesPerSecond);
+    }
+
+    /**
+     * @return the target frame rate, or 0 if the frame rate is not limited
+     */
+    public static double getTargetFramesPerSecond() {
+        return limiter == null ? 0 : limiter.getTargetFramesPerSecond();
+    }
+
+    /**
+     * Starts recording every published event with the given recorder, or stops recording. Only one
+     * recorder is active at a time; starting another stops the previous one without finishing it.
+     *
+     * @param recorder the recorder to record with, or {@code null} to stop recording
+     * @see EventRecorder
+     */
+    public static void record(EventRecorder recorder) {
+        if (recorder == null) {
+            events.setTap(null);
+            return;
+        }
+        recorder.start(frame);
+        events.setTap(event -> recorder.record(event, frame));
+    }
+
+    /**
+     * Starts replaying a recorded log, or stops the current replay. Replayed events are published
+     * right after the input of each frame, starting with the next frame, until the log is exhausted.
+     *
+     * @param replayer the replayer to play, or {@code null} to stop replaying
+     * @see EventReplayer
+     */
+    public static void replay(EventReplayer replayer) {
+        JGL.replayer = replayer;
+    }
+
+    /**
+     * Returns the index of the current frame, counting from 0 for the first frame of the application.
+     *
+     * @return the current frame index
+     */
+    public static long getFrame() {
+        return frame;
+    }
+
     /**
      * Retrieves the current frames per second (FPS) value, providing an
      * indication of the application's performance and rendering speed.
@@ -154,6 +559,7 @@ public class JGL {
      * 4. Terminates GLFW to release any remaining native resources.
      */
     private static void dispose() {
+        queue.clear();
         Keyboard.dispose();
         Mouse.dispose();
         Window.dispose();
@@ -4,6 +4,7 @@ import jgl.event.events.KeyEvent;
 import jgl.event.events.KeyPressEvent;
 import jgl.event.events.KeyReleaseEvent;
 import jgl.event.listeners.KeyListener;
+import jgl.io.pool.Pool;
 import static org.lwjgl.glfw.GLFW.GLFW_KEY_LAST;
 import static org.lwjgl.glfw.GLFW.GLFW_MOD_ALT;
 import static org.lwjgl.glfw.GLFW.GLFW_MOD_CONTROL;
@@ -36,8 +37,12 @@ import org.lwjgl.glfw.GLFWKeyCallback;
  */
 public final class Keyboard {
 
-    private static final KeyPressEvent pressEvent = new KeyPressEvent(0, 0);
-    private static final KeyReleaseEvent releaseEvent = new KeyReleaseEvent(0, 0);
+    /**
+     * Pools of key event instances for reuse. Each event is returned to its pool once it has been
+     * handled, which happens immediately or after the event queue drains, see {@link JGL#setEventQueueing(boolean)}.
+     */
+    private static final Pool<KeyPressEvent> pressEvents = new Pool<>(() -> new KeyPressEvent(0, 0), 64);
+    private static final Pool<KeyReleaseEvent> releaseEvents = new Pool<>(() -> new KeyReleaseEvent(0, 0), 64);
 
     /**
      * The GLFW key callback responsible for handling key press, release, and repeat
@@ -89,21 +94,21 @@ public final class Keyboard {
             currentKey = (short) key;
             modifierState = (byte) mods;
 
-            KeyEvent event = null;
-
             switch (action) {
-                case GLFW_PRESS, GLFW_REPEAT -> event = pressEvent;
+                case GLFW_PRESS, GLFW_REPEAT -> {
+                    KeyPressEvent event = pressEvents.obtain();
+                    event.setKey(key);
+                    event.setModifiers(modifierState);
+                    JGL.post(event, pressEvents);
+                }
                 case GLFW_RELEASE -> {
-                    event = releaseEvent;
                     currentKey = -1;
+                    KeyReleaseEvent event = releaseEvents.obtain();
+                    event.setKey(key);
+                    event.setModifiers(modifierState);
+                    JGL.post(event, releaseEvents);
                 }
             }
-
-            if (event != null) {
-                event.setKey(key);
-                event.setModifiers(modifierState);
-                JGL.publish(event);
-            }
         });
     }
 
@@ -3,6 +3,7 @@ package jgl;
 import jgl.event.events.*;
 import jgl.event.listeners.MouseListener;
 import jgl.event.listeners.MouseScrollListener;
+import jgl.io.pool.Pool;
 import org.lwjgl.glfw.GLFWCursorPosCallback;
 import org.lwjgl.glfw.GLFWMouseButtonCallback;
 import org.lwjgl.glfw.GLFWScrollCallback;
@@ -35,13 +36,14 @@ import static org.lwjgl.glfw.GLFW.*;
 public final class Mouse {
 
     /**
-     * Pre-allocated mouse event instances for reuse.
+     * Pools of mouse event instances for reuse. Each event is returned to its pool once it has been
+     * handled, which happens immediately or after the event queue drains, see {@link JGL#setEventQueueing(boolean)}.
      */
-    private static final MousePressEvent pressEvent = new MousePressEvent(0, 0, 0, 0);
-    private static final MouseReleaseEvent releaseEvent = new MouseReleaseEvent(0, 0, 0, 0);
-    private static final MouseMoveEvent moveEvent = new MouseMoveEvent(0, 0, 0, 0, 0, 0);
-    private static final MouseDragEvent dragEvent = new MouseDragEvent(0, 0, 0, 0, 0, 0);
-    private static final MouseScrollEvent scrollEvent = new MouseScrollEvent(0, 0);
+    private static final Pool<MousePressEvent> pressEvents = new Pool<>(() -> new MousePressEvent(0, 0, 0, 0), 64);
+    private static final Pool<MouseReleaseEvent> releaseEvents = new Pool<>(() -> new MouseReleaseEvent(0, 0, 0, 0), 64);
+    private static final Pool<MouseMoveEvent> moveEvents = new Pool<>(() -> new MouseMoveEvent(0, 0, 0, 0, 0, 0), 256);
+    private static final Pool<MouseDragEvent> dragEvents = new Pool<>(() -> new MouseDragEvent(0, 0, 0, 0, 0, 0), 256);
+    private static final Pool<MouseScrollEvent> scrollEvents = new Pool<>(() -> new MouseScrollEvent(0, 0), 64);
 
     /**
      * GLFW callback for handling mouse movement. This callback updates cursor
@@ -89,6 +91,27 @@ public final class Mouse {
     private static byte scrollX;
     private static byte scrollY;
 
+    /**
+     * Whether cursor and scroll samples are merged into one event per frame, and whether merged
+     * movement keeps the individual samples.
+     */
+    private static volatile boolean coalesce;
+    private static volatile boolean sampleHistory;
+
+    /**
+     * The movement merged since the last flush, or {@code null} if the cursor has not moved, together
+     * with the pool it was obtained from.
+     */
+    private static MouseMoveEvent pendingMotion;
+    private static Pool<? extends MouseMoveEvent> pendingPool;
+
+    /**
+     * The scrolling accumulated since the last flush. Offsets are summed unrounded, since smooth
+     * scrolling devices report fractions of a step, and only whole steps are posted.
+     */
+    private static double pendingScrollX, pendingScrollY;
+    private static boolean scrollPending;
+
     /**
      * Private constructor prevents instantiation. This class is purely static.
      */
@@ -109,40 +132,33 @@ public final class Mouse {
             x = (short) xpos;
             y = (short) ypos;
 
-            MouseMoveEvent event = moveEvent;
-
-            if (buttonState > 0)
-                event = dragEvent;
-
-            event.setX(fromX);
-            event.setY(fromY);
-            event.setToX(x);
-            event.setToY(y);
-            event.setButton(buttonState);
-            event.setModifiers(modifierState);
-
-            JGL.publish(event);
+            if (coalesce) {
+                coalesceMotion(fromX, fromY);
+            } else if (buttonState > 0) {
+                MouseDragEvent event = dragEvents.obtain();
+                fill(event, fromX, fromY);
+                JGL.post(event, dragEvents);
+            } else {
+                MouseMoveEvent event = moveEvents.obtain();
+                fill(event, fromX, fromY);
+                JGL.post(event, moveEvents);
+            }
         });
 
         mouseButtonCallback = glfwSetMouseButtonCallback(Window.getAddress(), (win, button, action, mods) -> {
             if (button < 0 || button > GLFW_MOUSE_BUTTON_LAST) return;
 
-            MouseEvent event = null;
-
+            flushMotion();
             if (action == GLFW_PRESS) {
-                event = pressEvent;
                 buttonState |= (byte) (1 << button);
+                MousePressEvent event = pressEvents.obtain();
+                fill(event, button);
+                JGL.post(event, pressEvents);
             } else if (action == GLFW_RELEASE) {
-                event = releaseEvent;
                 buttonState &= (byte) ~(1 << button);
-            }
-
-            if (event != null) {
-                event.setX(x);
-                event.setY(y);
-                event.setButton(button);
-                event.setModifiers(modifierState);
-                JGL.publish(event);
+                MouseReleaseEvent event = releaseEvents.obtain();
+                fill(event, button);
+                JGL.post(event, releaseEvents);
             }
 
             modifierState = (byte) mods;
@@ -152,13 +168,157 @@ public final class Mouse {
             scrollX = (byte) xoff;
             scrollY = (byte) yoff;
 
-            scrollEvent.setXOffset(scrollX);
-            scrollEvent.setYOffset(scrollY);
+            if (coalesce) {
+                pendingScrollX += xoff;
+                pendingScrollY += yoff;
+                scrollPending = true;
+                return;
+            }
+
+            MouseScrollEvent event = scrollEvents.obtain();
+            event.setXOffset(scrollX);
+            event.setYOffset(scrollY);
 
-            JGL.publish(scrollEvent);
+            JGL.post(event, scrollEvents);
         });
     }
 
+    /**
+     * Merges a cursor sample into the pending movement. Moving and dragging are kept apart, so a sample
+     * of the other kind first flushes what is pending.
+     *
+     * @param fromX the x-coordinate the cursor moved from
+     * @param fromY the y-coordinate the cursor moved from
+     */
+    private static void coalesceMotion(short fromX, short fromY) {
+        Pool<? extends MouseMoveEvent> pool = buttonState > 0 ? dragEvents : moveEvents;
+        if (pendingMotion != null && pendingPool != pool)
+            flushMotion();
+
+        if (pendingMotion == null) {
+            pendingMotion = pool.obtain();
+            pendingPool = pool;
+            fill(pendingMotion, fromX, fromY);
+        } else {
+            pendingMotion.setToX(x);
+            pendingMotion.setToY(y);
+            pendingMotion.setButton(buttonState);
+            pendingMotion.setModifiers(modifierState);
+        }
+        if (sampleHistory)
+            pendingMotion.addSample(x, y);
+    }
+
+    /**
+     * Posts the pending movement, if any. Called before every button event so that merged movement is
+     * never reordered with the presses and releases around it.
+     */
+    @SuppressWarnings("unchecked")
+    private static void flushMotion() {
+        MouseMoveEvent event = pendingMotion;
+        if (event == null)
+            return;
+        pendingMotion = null;
+        JGL.post(event, (Pool<MouseMoveEvent>) pendingPool);
+    }
+
+    /**
+     * Posts the movement and scrolling merged since the last call as one event each. Called by
+     * {@link JGL} once per frame, right after polling for input.
+     */
+    static void flush() {
+        flushMotion();
+        if (scrollPending) {
+            scrollPending = false;
+            int x = (int) pendingScrollX;
+            int y = (int) pendingScrollY;
+            if (x == 0 && y == 0)
+                return;
+
+            // The fractions left over are carried into the next frame rather than lost.
+            pendingScrollX -= x;
+            pendingScrollY -= y;
+            MouseScrollEvent event = scrollEvents.obtain();
+            event.setXOffset(x);
+            event.setYOffset(y);
+            JGL.post(event, scrollEvents);
+        }
+    }
+
+    /**
+     * Sets whether cursor movement and scrolling are merged into one event per frame instead of one
+     * event per sample from the operating system, which can be hundreds per frame with a high
+     * polling-rate mouse.
+     * <p>
+     * While coalescing, consecutive moves become a single {@link MouseMoveEvent}, consecutive drags a
+     * single {@link MouseDragEvent}, and scrolling a single {@link MouseScrollEvent} whose offsets are the
+     * whole steps of the frame's summed scrolling; fractions of a step, as reported by trackpads and
+     * smooth-scrolling wheels, are carried into the next frame. Merged events are published after the
+     * frame's other input, except that pending movement is always published before a button press or
+     * release, so the position of every button event is preceded by the movement that led to it.
+     * </p>
+     *
+     * @param coalesce {@code true} to merge movement and scrolling per frame
+     * @see #setSampleHistory(boolean)
+     */
+    public static void setCoalescing(boolean coalesce) {
+        Mouse.coalesce = coalesce;
+    }
+
+    /**
+     * @return {@code true} if movement and scrolling are merged into one event per frame
+     */
+    public static boolean isCoalescing() {
+        return coalesce;
+    }
+
+    /**
+     * Sets whether merged movement keeps every cursor sample it stands for, readable through
+     * {@link MouseMoveEvent#getSampleX(int)} and {@link MouseMoveEvent#getSampleY(int)}. Only drawing
+     * tools and similar consumers that need the exact path should turn this on.
+     *
+     * @param keep {@code true} to record the samples of merged movement
+     */
+    public static void setSampleHistory(boolean keep) {
+        sampleHistory = keep;
+    }
+
+    /**
+     * @return {@code true} if merged movement keeps its cursor samples
+     */
+    public static boolean isSampleHistory() {
+        return sampleHistory;
+    }
+
+    /**
+     * Fills a move or drag event with the movement from the given position to the current cursor position.
+     *
+     * @param event the event to fill
+     * @param fromX the x-coordinate the cursor moved from
+     * @param fromY the y-coordinate the cursor moved from
+     */
+    private static void fill(MouseMoveEvent event, short fromX, short fromY) {
+        event.setX(fromX);
+        event.setY(fromY);
+        event.setToX(x);
+        event.setToY(y);
+        event.setButton(buttonState);
+        event.setModifiers(modifierState);
+    }
+
+    /**
+     * Fills a button event with the given button and the current cursor position.
+     *
+     * @param event  the event to fill
+     * @param button the button that was pressed or released
+     */
+    private static void fill(MouseEvent event, int button) {
+        event.setX(x);
+        event.setY(y);
+        event.setButton(button);
+        event.setModifiers(modifierState);
+    }
+
     /**
      * Adds a {@code MouseListener} to the system to handle mouse-related events.
      * The listener will be subscribed to receive notifications for various mouse events,
@@ -193,6 +353,8 @@ public final class Mouse {
      * the window or shutting down the engine to avoid native memory leaks.
      */
     static void dispose() {
+        pendingMotion = null;
+        scrollPending = false;
         if (cursorPosCallback != null) cursorPosCallback.free();
         if (mouseButtonCallback != null) mouseButtonCallback.free();
         if (scrollCallback != null) scrollCallback.free();
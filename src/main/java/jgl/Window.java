@@ -2,6 +2,7 @@ package jgl;
 
 import jgl.event.events.WindowResizeEvent;
 import jgl.event.listeners.WindowResizeListener;
+import jgl.io.pool.Pool;
 import org.lwjgl.glfw.*;
 import org.lwjgl.opengl.GL;
 import org.lwjgl.system.MemoryStack;
@@ -23,7 +24,7 @@ import static org.lwjgl.system.MemoryUtil.NULL;
  */
 public final class Window {
 
-    private static final WindowResizeEvent resizeEvent = new WindowResizeEvent(0, 0, 0, 0);
+    private static final Pool<WindowResizeEvent> resizeEvents = new Pool<>(() -> new WindowResizeEvent(0, 0, 0, 0), 16);
 
     // GLFW callback handlers
     private static GLFWFramebufferSizeCallback fbCallback;
@@ -76,11 +77,12 @@ public final class Window {
             Window.width = (short) newW;
             Window.height = (short) newH;
 
+            WindowResizeEvent resizeEvent = resizeEvents.obtain();
             resizeEvent.setOldHeight(oldHeight);
             resizeEvent.setOldWidth(oldWidth);
             resizeEvent.setNewHeight(Window.height);
             resizeEvent.setNewWidth(Window.width);
-            JGL.publish(resizeEvent);
+            JGL.post(resizeEvent, resizeEvents);
         });
         posCallback = glfwSetWindowPosCallback(address, (win, newX, newY) -> {
             Window.x = (short) newX;
@@ -1,6 +1,9 @@
 package jgl.compression;
 
-import java.nio.ByteBuffer;
+import jgl.io.pool.BufferPool;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 
@@ -34,29 +37,20 @@ public class Deflate implements CompressionStrategy {
         deflater.setInput(data);
         deflater.finish();
 
-        // Allocate a ByteBuffer with an initial capacity of half the input data length.
-        ByteBuffer compressedBuffer = ByteBuffer.allocate(data.length / 2);
-
-        byte[] buffer = new byte[1024];
-        while (!deflater.finished()) {
-            int compressedBytes = deflater.deflate(buffer);
-
-            // Ensure there is enough space in the ByteBuffer
-            if (compressedBuffer.remaining() < compressedBytes) {
-                ByteBuffer newBuffer = ByteBuffer.allocate(compressedBuffer.capacity() * 2);
-                compressedBuffer.flip();
-                newBuffer.put(compressedBuffer);
-                compressedBuffer = newBuffer;
+        // Start from a pooled array of half the input data length, and trade it for a larger pooled one when full.
+        byte[] output = BufferPool.obtainBytes(data.length / 2);
+        int length = 0;
+        try {
+            while (!deflater.finished()) {
+                if (length == output.length)
+                    output = grow(output, length);
+                length += deflater.deflate(output, length, output.length - length);
             }
-
-            compressedBuffer.put(buffer, 0, compressedBytes);
+            return Arrays.copyOf(output, length);
+        } finally {
+            deflater.end();
+            BufferPool.free(output);
         }
-        deflater.end();
-
-        compressedBuffer.flip();
-        byte[] compressedData = new byte[compressedBuffer.remaining()];
-        compressedBuffer.get(compressedData);
-        return compressedData;
     }
 
     /**
@@ -71,32 +65,38 @@ public class Deflate implements CompressionStrategy {
         Inflater inflater = new Inflater();
         inflater.setInput(data);
 
+        // Start from a pooled array of twice the input data length, and trade it for a larger pooled one when full.
+        byte[] output = BufferPool.obtainBytes(data.length * 2);
+        int length = 0;
         try {
-            // Allocate a ByteBuffer with an initial capacity of twice the input data length.
-            ByteBuffer decompressedBuffer = ByteBuffer.allocate(data.length * 2);
-
-            byte[] buffer = new byte[1024];
             while (!inflater.finished()) {
-                int decompressedBytes = inflater.inflate(buffer);
-
-                // Ensure there is enough space in the ByteBuffer
-                if (decompressedBuffer.remaining() < decompressedBytes) {
-                    ByteBuffer newBuffer = ByteBuffer.allocate(decompressedBuffer.capacity() * 2);
-                    decompressedBuffer.flip();
-                    newBuffer.put(decompressedBuffer);
-                    decompressedBuffer = newBuffer;
-                }
-
-                decompressedBuffer.put(buffer, 0, decompressedBytes);
+                if (length == output.length)
+                    output = grow(output, length);
+                int inflated = inflater.inflate(output, length, output.length - length);
+                if (inflated == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary()))
+                    throw new DataFormatException("Truncated Deflate data");
+                length += inflated;
             }
-            inflater.end();
-
-            decompressedBuffer.flip();
-            byte[] decompressedData = new byte[decompressedBuffer.remaining()];
-            decompressedBuffer.get(decompressedData);
-            return decompressedData;
+            return Arrays.copyOf(output, length);
         } catch (Exception e) {
             throw new RuntimeException("Failed to decompress using Deflate algorithm", e);
+        } finally {
+            inflater.end();
+            BufferPool.free(output);
         }
     }
+
+    /**
+     * Replaces a full pooled array with a pooled array of twice its length.
+     *
+     * @param output the full array, which is returned to the pool
+     * @param length the number of bytes to keep
+     * @return the larger array
+     */
+    static byte[] grow(byte[] output, int length) {
+        byte[] larger = BufferPool.obtainBytes(output.length * 2);
+        System.arraycopy(output, 0, larger, 0, length);
+        BufferPool.free(output);
+        return larger;
+    }
 }
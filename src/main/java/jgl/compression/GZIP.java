@@ -1,8 +1,11 @@
 package jgl.compression;
 
+import jgl.io.pool.BufferPool;
+
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -52,18 +55,23 @@ public class GZIP implements CompressionStrategy {
      */
     @Override
     public byte[] decompress(byte[] data) {
-        try (ByteArrayOutputStream decompressed = new ByteArrayOutputStream()) {
-            try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(data))) {
-                byte[] buffer = new byte[1024];
-                int bytesRead;
-                while ((bytesRead = gzipInputStream.read(buffer)) != -1) {
-                    decompressed.write(buffer, 0, bytesRead);
-                }
+        byte[] output = BufferPool.obtainBytes(data.length * 2);
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            int length = 0;
+            int bytesRead;
+            while (true) {
+                if (length == output.length)
+                    output = Deflate.grow(output, length);
+                if ((bytesRead = gzipInputStream.read(output, length, output.length - length)) == -1)
+                    break;
+                length += bytesRead;
             }
 
-            return decompressed.toByteArray();
+            return Arrays.copyOf(output, length);
         } catch (IOException e) {
             throw new RuntimeException("Failed to decompress using GZip algorithm", e);
+        } finally {
+            BufferPool.free(output);
         }
     }
 }
@@ -0,0 +1,43 @@
+package jgl.event;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@code Async} annotation marks the {@code handle} method of an {@code EventListener} to be run
+ * off the publishing thread, on a virtual thread of its own.
+ *
+ * <p>
+ * The {@code EventPublisher} hands each asynchronous listener a {@linkplain Event#copy() copy} of every
+ * event it accepts and returns immediately; the listener handles its copies one at a time, in the order
+ * they were published. Events wait in a backlog of at most {@link #backlog()} entries, and the
+ * {@link #overflow()} policy decides what happens when it is full. Because the listener runs after
+ * {@code publish} has returned, consuming an event there has no effect on other listeners.
+ *
+ * <p>
+ * This annotation is processed at runtime by the {@code EventPublisher}.
+ *
+ * @author Albert Beaupre
+ * @see EventPublisher#registerAsync(Class, EventListener, int, int, OverflowPolicy)
+ * @since October 17th, 2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Async {
+
+    /**
+     * The maximum number of events waiting to be handled; defaults to {@code 1024}.
+     *
+     * @return the backlog capacity
+     */
+    int backlog() default 1024;
+
+    /**
+     * What to do with an event that arrives while the backlog is full; defaults to {@link OverflowPolicy#BLOCK}.
+     *
+     * @return the overflow policy
+     */
+    OverflowPolicy overflow() default OverflowPolicy.BLOCK;
+}
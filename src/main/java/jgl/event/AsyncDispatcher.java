@@ -0,0 +1,99 @@
+package jgl.event;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs one asynchronous listener: copies of the events it accepts wait in a bounded mailbox, and a virtual thread,
+ * started whenever the mailbox stops being empty, hands them to the listener one at a time. At most one such thread
+ * runs per listener, which keeps the listener's events in publication order without any locking around the handler.
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class AsyncDispatcher implements EventListener {
+
+    private static final Logger logger = Logger.getLogger(AsyncDispatcher.class.getName());
+
+    private final EventListener listener;
+    private final ArrayBlockingQueue<Event> mailbox;
+    private final OverflowPolicy overflow;
+    private final LongAdder dropped;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Runnable drain = this::drain;
+
+    /**
+     * Creates the dispatcher of an asynchronous listener.
+     *
+     * @param listener the listener to run
+     * @param backlog  the capacity of the mailbox
+     * @param overflow what to do when the mailbox is full
+     * @param dropped  the counter of dropped events of the publisher
+     */
+    AsyncDispatcher(EventListener listener, int backlog, OverflowPolicy overflow, LongAdder dropped) {
+        this.listener = listener;
+        this.mailbox = new ArrayBlockingQueue<>(backlog);
+        this.overflow = overflow;
+        this.dropped = dropped;
+    }
+
+    /**
+     * @return the listener this dispatcher runs
+     */
+    EventListener listener() {
+        return listener;
+    }
+
+    /**
+     * Asks the listener on the publishing thread, since the event may change once {@code publish} returns.
+     */
+    @Override
+    public boolean canHandle(Event event) {
+        return listener.canHandle(event);
+    }
+
+    /**
+     * Queues a copy of the event for the listener, and starts a thread to deliver it unless one is running.
+     */
+    @Override
+    public void handle(Event event) {
+        Event copy = event.copy();
+        if (overflow == OverflowPolicy.DROP) {
+            if (!mailbox.offer(copy)) {
+                dropped.increment();
+                return;
+            }
+        } else {
+            try {
+                mailbox.put(copy);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped.increment();
+                return;
+            }
+        }
+        if (running.compareAndSet(false, true))
+            Thread.ofVirtual().name("jgl-async-" + listener.getClass().getSimpleName()).start(drain);
+    }
+
+    /**
+     * Delivers queued events until the mailbox is empty, then stops unless an event slipped in meanwhile.
+     */
+    private void drain() {
+        do {
+            Event event;
+            while ((event = mailbox.poll()) != null) {
+                try {
+                    listener.handle(event);
+                } catch (Throwable t) {
+                    logger.log(Level.SEVERE, "Asynchronous listener failed to handle " + event, t);
+                }
+            }
+            running.set(false);
+        } while (!mailbox.isEmpty() && running.compareAndSet(false, true));
+    }
+}
@@ -0,0 +1,146 @@
+package jgl.event;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters behind the {@link EventMetrics} of an {@link EventPublisher} while metrics are enabled.
+ * <p>
+ * Counters are created the first time an event class or listener is seen; from then on, recording a publication only
+ * looks them up and increments them, so measuring allocates nothing in steady state.
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+@SuppressWarnings("rawtypes")
+final class DispatchMetrics {
+
+    private final ConcurrentHashMap<Class<?>, LongAdder> counts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<EventListener, Timer> timers = new ConcurrentHashMap<>();
+    private final AtomicLongArray[] windows = {
+            new AtomicLongArray(EventMetrics.BUCKETS), new AtomicLongArray(EventMetrics.BUCKETS)
+    };
+    private final long windowNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private volatile int current;
+
+    /**
+     * Creates empty counters.
+     *
+     * @param windowNanos the length of one window of the latency histogram, in nanoseconds
+     */
+    DispatchMetrics(long windowNanos) {
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * Counts the publication of an event.
+     *
+     * @param eventClass the class of the event
+     */
+    void countPublish(Class<?> eventClass) {
+        LongAdder count = counts.get(eventClass);
+        if (count == null)
+            count = counts.computeIfAbsent(eventClass, c -> new LongAdder());
+        count.increment();
+    }
+
+    /**
+     * Returns the timer of a listener.
+     *
+     * @param listener the handler the publisher notifies
+     * @return the timer of the listener
+     */
+    Timer timer(EventListener listener) {
+        Timer timer = timers.get(listener);
+        return timer != null ? timer : timers.computeIfAbsent(listener, l -> new Timer());
+    }
+
+    /**
+     * Discards the timers of handlers that are no longer registered. The timers are keyed by handler, so without this
+     * an unregistered listener would stay reachable for as long as metrics are enabled.
+     *
+     * @param registered the handlers currently registered, compared by identity
+     */
+    void retain(Set<EventListener> registered) {
+        timers.keySet().removeIf(handler -> !registered.contains(handler));
+    }
+
+    /**
+     * Adds the duration of a publication to the latency histogram, first starting a new window if the current one has
+     * run out.
+     *
+     * @param start the value of {@link System#nanoTime()} when the publication started
+     * @param end   the value of {@link System#nanoTime()} when it ended
+     */
+    void recordLatency(long start, long end) {
+        long began = windowStart.get();
+        if (end - began >= windowNanos && windowStart.compareAndSet(began, end)) {
+            int next = current ^ 1;
+            AtomicLongArray stale = windows[next];
+            for (int i = 0; i < stale.length(); i++)
+                stale.set(i, 0);
+            current = next;
+        }
+        long nanos = end - start;
+        windows[current].incrementAndGet(nanos <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * Takes a snapshot of the counters.
+     *
+     * @return the snapshot
+     */
+    @SuppressWarnings("unchecked")
+    EventMetrics snapshot() {
+        Map<Class<? extends Event>, Long> publishCounts = new HashMap<>();
+        counts.forEach((eventClass, count) -> publishCounts.put((Class<? extends Event>) eventClass, count.sum()));
+
+        ArrayList<EventMetrics.ListenerTiming> listeners = new ArrayList<>();
+        timers.forEach((handler, timer) -> {
+            EventListener listener = handler instanceof AsyncDispatcher async ? async.listener()
+                    : handler instanceof Subscription.Handler subscription ? subscription.get() : handler;
+            // A weak listener may have been collected since its timer was last retained
+            if (listener != null)
+                listeners.add(new EventMetrics.ListenerTiming(listener, timer.calls.sum(), timer.total.sum(), timer.max.get()));
+        });
+        listeners.sort(Comparator.comparingLong(EventMetrics.ListenerTiming::totalNanos).reversed());
+
+        long[] histogram = new long[EventMetrics.BUCKETS];
+        for (AtomicLongArray window : windows) {
+            for (int i = 0; i < histogram.length; i++)
+                histogram[i] += window.get(i);
+        }
+        return new EventMetrics(publishCounts, listeners, histogram, System.nanoTime());
+    }
+
+    /**
+     * The handling time of one listener.
+     */
+    static final class Timer {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        /**
+         * Records one call of the listener.
+         *
+         * @param nanos how long the call took
+         */
+        void record(long nanos) {
+            calls.increment();
+            total.add(nanos);
+            long longest = max.get();
+            while (nanos > longest && !max.compareAndSet(longest, nanos))
+                longest = max.get();
+        }
+    }
+}
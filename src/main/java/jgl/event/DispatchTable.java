@@ -0,0 +1,95 @@
+package jgl.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The listeners an {@link EventPublisher} notifies for one concrete event class, flattened into arrays in notification
+ * order: one array for events no keyed listener is waiting for, and one per routing key that has keyed listeners, which
+ * merges them with the unkeyed listeners. The per-key arrays are found through an open-addressing table of primitive
+ * keys, so routing an event costs a hash probe and no boxing.
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+@SuppressWarnings("rawtypes")
+final class DispatchTable {
+
+    private static final EventListener[] NONE = new EventListener[0];
+
+    /**
+     * The listeners that receive every event of the class.
+     */
+    private final EventListener[] unkeyed;
+    private final int[] keys;
+    private final EventListener[][] routes;
+    private final int mask;
+
+    /**
+     * Builds the table from the registrations of an event class and its superclasses, in notification order.
+     *
+     * @param registrations the registrations to notify, most specific class first and each level sorted
+     */
+    DispatchTable(List<Registration> registrations) {
+        ArrayList<EventListener> unkeyed = new ArrayList<>();
+        ArrayList<Integer> distinct = new ArrayList<>();
+        for (Registration registration : registrations) {
+            Integer key = registration.key();
+            if (key == null)
+                unkeyed.add(registration.handler());
+            else if (!distinct.contains(key))
+                distinct.add(key);
+        }
+        this.unkeyed = unkeyed.toArray(NONE);
+
+        int capacity = distinct.isEmpty() ? 0 : Integer.highestOneBit(distinct.size() * 2 - 1) << 1;
+        this.keys = new int[capacity];
+        this.routes = new EventListener[capacity][];
+        this.mask = capacity - 1;
+
+        ArrayList<EventListener> route = new ArrayList<>();
+        for (int key : distinct) {
+            route.clear();
+            for (Registration registration : registrations) {
+                Integer registered = registration.key();
+                if (registered == null || registered == key)
+                    route.add(registration.handler());
+            }
+            int slot = mix(key) & mask;
+            while (routes[slot] != null)
+                slot = (slot + 1) & mask;
+            keys[slot] = key;
+            routes[slot] = route.toArray(NONE);
+        }
+    }
+
+    /**
+     * Returns the listeners to notify for an event, in order.
+     *
+     * @param event the event being published
+     * @return the listeners for the event's routing key, or the unkeyed listeners
+     */
+    EventListener[] route(Event event) {
+        if (routes.length == 0 || !(event instanceof KeyedEvent keyed))
+            return unkeyed;
+        int key = keyed.getRoutingKey();
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            EventListener[] route = routes[slot];
+            if (route == null)
+                return unkeyed;
+            if (keys[slot] == key)
+                return route;
+        }
+    }
+
+    /**
+     * Spreads the bits of a key so that consecutive key codes do not cluster.
+     *
+     * @param key the key to hash
+     * @return the mixed hash
+     */
+    private static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
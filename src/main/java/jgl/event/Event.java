@@ -1,5 +1,7 @@
 package jgl.event;
 
+import jgl.io.pool.Poolable;
+
 /**
  * An {@code Event} represents a publishable occurrence that can be handled by an {@code EventListener}
  * via an {@code EventPublisher}.
@@ -8,10 +10,15 @@ package jgl.event;
  * Events can be consumed to prevent further processing by subsequent {@code EventListener}s.
  * Subclasses should define specific event types for domain-specific use cases.
  *
+ * <p>
+ * Events are {@link Poolable} so that input sources can reuse instances instead of allocating one per
+ * occurrence. {@link #reset()} clears the consumed flag; subclasses with state that is not overwritten
+ * every time they are published should override it and call {@code super.reset()}.
+ *
  * @author Albert Beaupre
  * @since August 29th, 2024
  */
-public abstract class Event {
+public abstract class Event implements Poolable, Cloneable {
 
     private boolean consumed; // Flag indicating if the event has been consumed
 
@@ -37,6 +44,32 @@ public abstract class Event {
         this.consumed = true;
     }
 
+    /**
+     * Returns an unconsumed copy of this event, for handing to code that runs after the original has been
+     * reused, such as {@linkplain Async asynchronous listeners}. The default implementation is a shallow
+     * copy, which is enough for events made of primitive fields; subclasses that hold mutable objects
+     * should override it and copy those as well.
+     *
+     * @return a copy of this event
+     */
+    public Event copy() {
+        try {
+            Event copy = (Event) super.clone();
+            copy.consumed = false;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Clears the consumed flag so that this event can be published again.
+     */
+    @Override
+    public void reset() {
+        consumed = false;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "[consumed=" + consumed + "]";
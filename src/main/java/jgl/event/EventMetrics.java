@@ -0,0 +1,117 @@
+package jgl.event;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A snapshot of the dispatch metrics of an {@link EventPublisher}, taken with {@link EventPublisher#metrics()}.
+ * <p>
+ * Publish counts and listener timings are cumulative since metrics were enabled or last reset. The latency histogram
+ * covers only recent publications: it is kept in two windows of the configured length, and the older window is
+ * discarded every time a new one begins, so the histogram always spans between one and two windows. Bucket {@code i}
+ * counts publications that took from {@code 2^i} up to {@code 2^(i+1)} nanoseconds, bucket 0 also counting those that
+ * took less than a nanosecond.
+ * </p>
+ *
+ * @param publishCounts    the number of events published per concrete event class
+ * @param listeners        the timings of every listener that handled an event, slowest in total first
+ * @param latencyHistogram the recent publication latencies, in base 2 logarithmic buckets of nanoseconds
+ * @param timestamp        the value of {@link System#nanoTime()} when the snapshot was taken
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+public record EventMetrics(Map<Class<? extends Event>, Long> publishCounts, List<ListenerTiming> listeners,
+                           long[] latencyHistogram, long timestamp) {
+
+    /**
+     * The number of buckets of the latency histogram.
+     */
+    public static final int BUCKETS = 64;
+
+    /**
+     * Copies the collections of the snapshot.
+     */
+    public EventMetrics {
+        publishCounts = Map.copyOf(publishCounts);
+        listeners = List.copyOf(listeners);
+        latencyHistogram = latencyHistogram.clone();
+    }
+
+    /**
+     * @return a copy of the recent publication latencies, in base 2 logarithmic buckets of nanoseconds
+     */
+    @Override
+    public long[] latencyHistogram() {
+        return latencyHistogram.clone();
+    }
+
+    /**
+     * Returns the number of events of a class that were published.
+     *
+     * @param eventClass the concrete event class
+     * @return the number of events of exactly that class that were published
+     */
+    public long publishCount(Class<? extends Event> eventClass) {
+        return publishCounts.getOrDefault(eventClass, 0L);
+    }
+
+    /**
+     * Returns the total number of events published.
+     *
+     * @return the sum of the publish counts of all classes
+     */
+    public long totalPublished() {
+        long total = 0;
+        for (long count : publishCounts.values())
+            total += count;
+        return total;
+    }
+
+    /**
+     * Returns an upper bound of a percentile of the recent publication latencies.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound of the bucket holding the percentile, in nanoseconds, or 0 if nothing was published recently
+     * @throws IllegalArgumentException if {@code percentile} is not between 0 and 100
+     */
+    public long latencyPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100))
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        long total = 0;
+        for (long count : latencyHistogram)
+            total += count;
+        if (total == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < latencyHistogram.length; i++) {
+            seen += latencyHistogram[i];
+            if (seen >= rank)
+                return i >= BUCKETS - 2 ? Long.MAX_VALUE : (2L << i) - 1;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * The time one listener has spent handling events. Only events the listener accepted are counted and timed, from
+     * its {@code canHandle} check to the end of its {@code handle} call; events it rejected in {@code canHandle} are
+     * left out, so a selective listener is not made to look cheaper than it is. An asynchronous listener is timed on
+     * the publishing thread, so its timing is the cost of handing it the event, not of handling it.
+     *
+     * @param listener   the registered listener
+     * @param calls      the number of events the listener handled, not counting those it rejected
+     * @param totalNanos the total time the listener spent handling events, in nanoseconds
+     * @param maxNanos   the longest time the listener spent handling one event, in nanoseconds
+     */
+    @SuppressWarnings("rawtypes")
+    public record ListenerTiming(EventListener listener, long calls, long totalNanos, long maxNanos) {
+
+        /**
+         * @return the average time the listener spent handling an event, in nanoseconds, or 0 if it handled none
+         */
+        public double averageNanos() {
+            return calls == 0 ? 0 : (double) totalNanos / calls;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package jgl.event;
+
+import jgl.io.pool.ObjectPool;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A first-in, first-out queue of events waiting to be published, drained at a fixed point of the frame.
+ * <p>
+ * Queuing decouples producing an event from handling it: input callbacks only append to a preallocated ring buffer,
+ * and the listeners run later, when {@link #drain(EventPublisher, long)} is called. A drain stops once its time budget
+ * is spent and leaves the remaining events for the next drain, so a burst of input is spread over several frames instead
+ * of stalling one. Events are always published in the order they were queued, and every drain publishes at least one
+ * event so that the queue keeps moving however small the budget.
+ * </p>
+ * <p>
+ * An event may be queued together with the pool it was obtained from; it is then freed to that pool once it has been
+ * published, so input sources can produce one pooled event per occurrence without allocating. When the ring buffer is
+ * full it doubles in size rather than dropping events.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> Events may be queued from any thread; draining should happen on one thread, which is also the
+ * thread that frees pooled events.
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class EventQueue {
+
+    private Event[] events;
+    private ObjectPool[] owners;
+    private int head;
+    private int size;
+
+    /**
+     * Creates an event queue with room for the given number of events before it has to grow.
+     *
+     * @param capacity the initial capacity, rounded up to a power of two
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public EventQueue(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be positive");
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.events = new Event[length];
+        this.owners = new ObjectPool[length];
+    }
+
+    /**
+     * Appends an event to the end of the queue.
+     *
+     * @param event the event to publish later
+     * @throws NullPointerException if {@code event} is {@code null}
+     */
+    public void offer(Event event) {
+        offer(event, null);
+    }
+
+    /**
+     * Appends a pooled event to the end of the queue; it is freed to {@code owner} after it has been published.
+     *
+     * @param event the event to publish later
+     * @param owner the pool the event came from, or {@code null} if it should not be freed
+     * @param <E>   the type of the event
+     * @throws NullPointerException if {@code event} is {@code null}
+     */
+    public synchronized <E extends Event> void offer(E event, ObjectPool<? super E> owner) {
+        Objects.requireNonNull(event, "A null event cannot be queued.");
+        if (size == events.length)
+            grow();
+        int tail = (head + size) & (events.length - 1);
+        events[tail] = event;
+        owners[tail] = owner;
+        size++;
+    }
+
+    /**
+     * Publishes queued events in order until the queue is empty or the time budget is spent. Events that are not
+     * published stay queued for the next drain.
+     *
+     * @param publisher   the publisher that notifies the listeners
+     * @param budgetNanos the time this drain may take, in nanoseconds; at least one event is always published
+     * @return the number of events published
+     * @throws NullPointerException if {@code publisher} is {@code null}
+     */
+    public int drain(EventPublisher publisher, long budgetNanos) {
+        Objects.requireNonNull(publisher, "A null publisher cannot drain events.");
+        long start = System.nanoTime();
+        int published = 0;
+        while (true) {
+            Event event;
+            ObjectPool owner;
+            synchronized (this) {
+                if (size == 0)
+                    return published;
+                event = events[head];
+                owner = owners[head];
+                events[head] = null;
+                owners[head] = null;
+                head = (head + 1) & (events.length - 1);
+                size--;
+            }
+
+            try {
+                publisher.publish(event);
+            } finally {
+                if (owner != null)
+                    owner.free(event);
+            }
+            published++;
+
+            if (System.nanoTime() - start >= budgetNanos)
+                return published;
+        }
+    }
+
+    /**
+     * Publishes every queued event, regardless of how long it takes.
+     *
+     * @param publisher the publisher that notifies the listeners
+     * @return the number of events published
+     * @throws NullPointerException if {@code publisher} is {@code null}
+     */
+    public int drainAll(EventPublisher publisher) {
+        return drain(publisher, Long.MAX_VALUE);
+    }
+
+    /**
+     * Removes every queued event without publishing it. Pooled events are freed to their pools.
+     */
+    public void clear() {
+        Event[] events;
+        ObjectPool[] owners;
+        int head, size;
+        synchronized (this) {
+            events = this.events.clone();
+            owners = this.owners.clone();
+            head = this.head;
+            size = this.size;
+            Arrays.fill(this.events, null);
+            Arrays.fill(this.owners, null);
+            this.head = 0;
+            this.size = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) & (events.length - 1);
+            if (owners[index] != null)
+                owners[index].free(events[index]);
+        }
+    }
+
+    /**
+     * Returns the number of events waiting to be published.
+     *
+     * @return the size of the queue
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether no events are waiting to be published.
+     *
+     * @return {@code true} if the queue is empty
+     */
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Doubles the ring buffer, moving the queued events to the start of the new one.
+     */
+    private void grow() {
+        int length = events.length;
+        Event[] grownEvents = new Event[length << 1];
+        ObjectPool[] grownOwners = new ObjectPool[length << 1];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) & (length - 1);
+            grownEvents[i] = events[index];
+            grownOwners[i] = owners[index];
+        }
+        events = grownEvents;
+        owners = grownOwners;
+        head = 0;
+    }
+}
@@ -0,0 +1,30 @@
+package jgl.event;
+
+/**
+ * A {@code KeyedEvent} carries a routing key, an integer that most listeners of the event filter on, such
+ * as the key code of a key event or the button of a mouse event.
+ *
+ * <p>
+ * Listeners registered with a key through {@link EventPublisher#registerKeyed(Class, int, EventListener, int)}
+ * are only notified of events whose routing key matches, and the {@code EventPublisher} finds them through an
+ * index on the key instead of asking every listener, so hundreds of single-key bindings cost no more per event
+ * than one.
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+public interface KeyedEvent {
+
+    /**
+     * The routing key of an event that no keyed listener receives. Such an event is only delivered to the
+     * listeners registered without a key, and no listener can be registered for this key.
+     */
+    int UNKEYED = Integer.MIN_VALUE;
+
+    /**
+     * Returns the routing key of this event.
+     *
+     * @return the value keyed listeners are matched against
+     */
+    int getRoutingKey();
+}
@@ -0,0 +1,22 @@
+package jgl.event;
+
+/**
+ * What an asynchronous listener does with a new event when its backlog of unhandled events is full.
+ *
+ * @author Albert Beaupre
+ * @see Async
+ * @since October 17th, 2026
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The new event is discarded and counted by {@link EventPublisher#getDroppedEvents()}. Publishing never waits.
+     */
+    DROP,
+
+    /**
+     * The publishing thread waits until the listener has made room in its backlog, slowing the producer down to the
+     * speed of the listener. No event is lost.
+     */
+    BLOCK
+}
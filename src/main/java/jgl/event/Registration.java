@@ -0,0 +1,32 @@
+package jgl.event;
+
+/**
+ * A listener registered with an {@link EventPublisher} for one event type, together with everything needed to order it
+ * among the other listeners of that type, resolved once when it is registered.
+ *
+ * @param eventType the event type the listener was registered for
+ * @param listener  the registered listener
+ * @param handler   what the publisher notifies: the listener itself, or the dispatcher that runs it asynchronously
+ * @param key       the routing key the listener is limited to, or {@code null} if it receives every event of the type
+ * @param priority  the priority of the listener; higher values are notified first
+ * @param sequence  the registration number of the listener, which orders listeners of equal priority
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+@SuppressWarnings("rawtypes")
+record Registration(Class<? extends Event> eventType, EventListener listener, EventListener handler, Integer key,
+                    int priority, long sequence)
+        implements Comparable<Registration> {
+
+    /**
+     * Orders registrations by descending priority, then by registration order.
+     *
+     * @param other the registration to compare to
+     * @return a negative number if this registration is notified first
+     */
+    @Override
+    public int compareTo(Registration other) {
+        int compare = Integer.compare(other.priority, priority);
+        return compare != 0 ? compare : Long.compare(sequence, other.sequence);
+    }
+}
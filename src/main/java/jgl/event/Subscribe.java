@@ -0,0 +1,35 @@
+package jgl.event;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@code Subscribe} annotation marks a method of an ordinary object as a handler of the event type of its single
+ * parameter, so that the whole object can be registered with {@link EventPublisher#registerSubscriber(Object)}
+ * instead of writing one {@code EventListener} class per event.
+ *
+ * <p>
+ * An annotated method must be an instance method with one parameter whose type is an {@code Event} and may have any
+ * access modifier. It is ordered among the other listeners of its event type by {@link #priority()}, exactly like a
+ * listener registered with that priority, and runs asynchronously if it is also annotated with {@link Async}.
+ *
+ * <p>
+ * This annotation is processed at runtime by the {@code EventPublisher}.
+ *
+ * @author Albert Beaupre
+ * @see EventPublisher#registerSubscriber(Object)
+ * @since October 17th, 2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Subscribe {
+
+    /**
+     * The priority of the handler. Higher values result in earlier handling; defaults to {@code 0}.
+     *
+     * @return the priority level
+     */
+    int priority() default 0;
+}
@@ -0,0 +1,196 @@
+package jgl.event;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * A {@link Subscribe}-annotated method of a subscriber class, compiled into a direct invoker.
+ * <p>
+ * The methods of a class are found once, the first time an instance of it is registered, and each is compiled with
+ * {@link LambdaMetafactory} into a factory of {@link EventListener}s bound to an instance, the same kind of class the
+ * compiler generates for a method reference such as {@code counter::keyPressed}. The publisher notifies the generated
+ * listener directly, so the JIT inlines the method like a hand-written listener, with none of the access checks and
+ * argument boxing of {@code Method.invoke}.
+ * </p>
+ * <p>
+ * A class defined by another class loader, such as a plugin's, lives in another unnamed module, where this class only
+ * gets a lookup without full privilege access and cannot spin a listener class. Its methods are called through a
+ * {@link MethodHandle} held by an {@link Invoker} instead, which is slower but still free of reflection.
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class SubscriberMethod {
+
+    private static final SubscriberMethod[] NONE = new SubscriberMethod[0];
+
+    private static final ClassValue<SubscriberMethod[]> METHODS = new ClassValue<>() {
+        @Override
+        protected SubscriberMethod[] computeValue(Class<?> type) {
+            return scan(type);
+        }
+    };
+
+    final Class<? extends Event> eventType;
+    final int priority;
+    final Async async;
+    private final String name;
+    private final MethodHandle factory;
+    private final MethodHandle invoker;
+
+    private SubscriberMethod(Class<? extends Event> eventType, int priority, Async async, String name,
+                             MethodHandle factory, MethodHandle invoker) {
+        this.eventType = eventType;
+        this.priority = priority;
+        this.async = async;
+        this.name = name;
+        this.factory = factory;
+        this.invoker = invoker;
+    }
+
+    /**
+     * Returns the annotated methods of a class and its superclasses, scanning and binding them the first time.
+     *
+     * @param type the class of a subscriber
+     * @return the annotated methods, possibly none
+     * @throws IllegalArgumentException if an annotated method is not a valid handler or cannot be accessed
+     */
+    static SubscriberMethod[] of(Class<?> type) {
+        return METHODS.get(type);
+    }
+
+    /**
+     * Binds this method to a subscriber.
+     *
+     * @param target the subscriber to call the method on
+     * @return the binding of the method to {@code target}
+     */
+    Bound bind(Object target) {
+        if (factory == null)
+            return new Bound(target, new Invoker(target, invoker), name);
+        try {
+            return new Bound(target, (EventListener) factory.invoke(target), name);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot bind @Subscribe method " + name, e);
+        }
+    }
+
+    /**
+     * Finds and binds the annotated methods of a class. A method overridden in a subclass is only bound as declared in
+     * the subclass, and only if it is annotated there.
+     *
+     * @param type the class to scan
+     * @return the bound methods
+     */
+    private static SubscriberMethod[] scan(Class<?> type) {
+        ArrayList<SubscriberMethod> methods = new ArrayList<>();
+        HashSet<String> overridden = new HashSet<>();
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic())
+                    continue;
+                if (!Modifier.isPrivate(method.getModifiers())
+                        && !overridden.add(method.getName() + Arrays.toString(method.getParameterTypes())))
+                    continue;
+
+                Subscribe subscribe = method.getAnnotation(Subscribe.class);
+                if (subscribe != null)
+                    methods.add(bind(clazz, method, subscribe));
+            }
+        }
+        return methods.isEmpty() ? NONE : methods.toArray(NONE);
+    }
+
+    /**
+     * Checks an annotated method and compiles its listener factory.
+     */
+    private static SubscriberMethod bind(Class<?> owner, Method method, Subscribe subscribe) {
+        String name = owner.getName() + "." + method.getName();
+        Class<?>[] parameters = method.getParameterTypes();
+        if (Modifier.isStatic(method.getModifiers()))
+            throw new IllegalArgumentException("@Subscribe method " + name + " cannot be static");
+        if (parameters.length != 1 || !Event.class.isAssignableFrom(parameters[0]))
+            throw new IllegalArgumentException("@Subscribe method " + name + " must take a single Event parameter");
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            MethodHandle target = lookup.unreflect(method);
+            Class<? extends Event> eventType = (Class<? extends Event>) parameters[0];
+            Async async = method.getAnnotation(Async.class);
+            if (!lookup.hasFullPrivilegeAccess()) {
+                MethodHandle invoker = target.asType(methodType(void.class, Object.class, Event.class));
+                return new SubscriberMethod(eventType, subscribe.priority(), async, name, null, invoker);
+            }
+
+            CallSite site = LambdaMetafactory.metafactory(lookup, "handle", methodType(EventListener.class, owner),
+                    methodType(void.class, Event.class), target, methodType(void.class, parameters[0]));
+            return new SubscriberMethod(eventType, subscribe.priority(), async, name, site.getTarget(), null);
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("Cannot bind @Subscribe method " + name, e);
+        }
+    }
+
+    /**
+     * The listener of a subscriber method that could not be compiled into a listener class: calls the method through its
+     * handle.
+     */
+    private static final class Invoker implements EventListener {
+
+        private final Object target;
+        private final MethodHandle method;
+
+        Invoker(Object target, MethodHandle method) {
+            this.target = target;
+            this.method = method;
+        }
+
+        @Override
+        public void handle(Event event) {
+            try {
+                method.invokeExact(target, event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * A subscriber method bound to a subscriber. The binding is what the publisher registers, so that the registrations
+     * of a subscriber can be found again; the generated listener is what it notifies.
+     */
+    static final class Bound implements EventListener {
+
+        final Object target;
+        final EventListener listener;
+        private final String name;
+
+        Bound(Object target, EventListener listener, String name) {
+            this.target = target;
+            this.listener = listener;
+            this.name = name;
+        }
+
+        @Override
+        public void handle(Event event) {
+            listener.handle(event);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
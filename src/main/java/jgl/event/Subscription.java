@@ -0,0 +1,155 @@
+package jgl.event;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * A handle to a listener registration that can be closed, returned by
+ * {@link EventPublisher#registerScoped(Class, EventListener, int)} and
+ * {@link EventPublisher#registerWeak(Class, EventListener, int)}.
+ * <p>
+ * Closing a subscription stops its listener from being notified at once, in constant time; the registration itself is
+ * purged from the publisher the next time its dispatch tables are rebuilt, or once enough closed registrations have
+ * accumulated. A weak subscription closes itself when its listener is garbage collected, so an object that registers
+ * listeners weakly and keeps them in its own fields can simply be dropped: the publisher no longer keeps it, or
+ * anything it references, alive.
+ * </p>
+ * <p>
+ * <b>Usage Example:</b>
+ * <pre>
+ * try (Subscription subscription = publisher.registerScoped(KeyPressEvent.class, listener, 0)) {
+ *     ...
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+public final class Subscription implements AutoCloseable {
+
+    private final Class<? extends Event> eventType;
+    private final Handler handler;
+
+    /**
+     * Creates the subscription of a registration.
+     *
+     * @param eventType the event type the listener is registered for
+     * @param handler   the handler registered with the publisher
+     */
+    Subscription(Class<? extends Event> eventType, Handler handler) {
+        this.eventType = eventType;
+        this.handler = handler;
+    }
+
+    /**
+     * Stops the listener from being notified and schedules its registration for removal. Closing a subscription more
+     * than once has no effect.
+     */
+    @Override
+    public void close() {
+        handler.expire();
+    }
+
+    /**
+     * Returns whether the listener is still notified of events.
+     *
+     * @return {@code false} if the subscription was closed, unregistered or its weak listener was garbage collected
+     */
+    public boolean isActive() {
+        return !handler.closed && handler.get() != null;
+    }
+
+    /**
+     * @return whether the listener is only weakly referenced by the publisher
+     */
+    public boolean isWeak() {
+        return handler.weak != null;
+    }
+
+    /**
+     * @return the event type the listener is registered for
+     */
+    public Class<? extends Event> getEventType() {
+        return eventType;
+    }
+
+    /**
+     * What an {@link EventPublisher} notifies for a subscription: forwards to the listener until the subscription is
+     * closed or the listener is collected, then reports itself expired once and ignores every event.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final class Handler implements EventListener {
+
+        private final EventPublisher publisher;
+        private final EventListener strong;
+        private final WeakReference<EventListener> weak;
+        private volatile boolean closed;
+
+        /**
+         * Creates the handler of a subscription.
+         *
+         * @param publisher the publisher the handler is registered with
+         * @param listener  the subscribed listener
+         * @param weak      whether to reference the listener weakly
+         */
+        Handler(EventPublisher publisher, EventListener listener, boolean weak) {
+            this.publisher = publisher;
+            this.strong = weak ? null : listener;
+            this.weak = weak ? new WeakReference<>(listener, publisher.collected) : null;
+        }
+
+        /**
+         * @return the subscribed listener, or {@code null} if it was garbage collected
+         */
+        EventListener get() {
+            return weak != null ? weak.get() : strong;
+        }
+
+        /**
+         * @return {@code true} if the handler no longer forwards events and can be purged
+         */
+        boolean isExpired() {
+            return closed || get() == null;
+        }
+
+        /**
+         * Marks the handler closed without reporting it, for a registration that was already removed.
+         */
+        void cancel() {
+            closed = true;
+        }
+
+        /**
+         * Marks the handler closed and reports it to the publisher, the first time only.
+         */
+        void expire() {
+            if (closed)
+                return;
+            synchronized (this) {
+                if (closed)
+                    return;
+                closed = true;
+            }
+            publisher.expired();
+        }
+
+        @Override
+        public boolean canHandle(Event event) {
+            if (closed)
+                return false;
+            EventListener listener = get();
+            if (listener == null) {
+                expire();
+                return false;
+            }
+            return listener.canHandle(event);
+        }
+
+        @Override
+        public void handle(Event event) {
+            EventListener listener = get();
+            if (listener != null && !closed)
+                listener.handle(event);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package jgl.event.events;
 
 import jgl.Keyboard;
 import jgl.event.Event;
+import jgl.event.KeyedEvent;
 
 import static org.lwjgl.glfw.GLFW.GLFW_MOD_ALT;
 import static org.lwjgl.glfw.GLFW.GLFW_MOD_CONTROL;
@@ -22,7 +23,7 @@ import static org.lwjgl.glfw.GLFW.GLFW_MOD_SUPER;
  * @author Albert Beaupre
  * @since December 18th, 2025
  */
-public class KeyEvent extends Event {
+public class KeyEvent extends Event implements KeyedEvent {
 
     private short key;
     private byte modifiers;
@@ -69,6 +70,16 @@ public class KeyEvent extends Event {
         return key;
     }
 
+    /**
+     * Returns the key code, which keyed listeners of key events are registered for.
+     *
+     * @return the key code for this event
+     */
+    @Override
+    public int getRoutingKey() {
+        return key;
+    }
+
     /**
      * Retrieves the character representation of the key associated with this event.
      * The character is determined based on the current keyboard state and the key
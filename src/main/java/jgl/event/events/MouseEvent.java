@@ -1,6 +1,7 @@
 package jgl.event.events;
 
 import jgl.event.Event;
+import jgl.event.KeyedEvent;
 
 import static org.lwjgl.glfw.GLFW.GLFW_MOD_ALT;
 import static org.lwjgl.glfw.GLFW.GLFW_MOD_CONTROL;
@@ -20,7 +21,7 @@ import static org.lwjgl.glfw.GLFW.GLFW_MOD_SUPER;
  * @author Albert Beaupre
  * @since December 18th, 2025
  */
-public class MouseEvent extends Event {
+public class MouseEvent extends Event implements KeyedEvent {
 
     private short x, y;
     private byte button;
@@ -110,6 +111,19 @@ public class MouseEvent extends Event {
         return button;
     }
 
+    /**
+     * Returns the mouse button, which keyed listeners of mouse events are registered for. Move and
+     * drag events are not keyed, since their button is the mask of buttons held during the movement
+     * rather than a button index.
+     *
+     * @return the integer value of the mouse button associated with the event
+     * @see MouseMoveEvent#getRoutingKey()
+     */
+    @Override
+    public int getRoutingKey() {
+        return button;
+    }
+
     /**
      * Determines whether the Shift key was active at the time of this event.
      *
@@ -1,10 +1,23 @@
 package jgl.event.events;
 
+import jgl.event.Event;
+import jgl.event.KeyedEvent;
+
+import java.util.Arrays;
+import java.util.Objects;
+
 /**
  * The MouseMoveEvent class represents a mouse movement event, encapsulating
  * information about the starting and ending positions of the mouse cursor during
  * the event. It is a subclass of {@code MouseEvent} and adds functionality to
  * handle the ending coordinates of a mouse move action.
+ * <p>
+ * When the mouse {@linkplain jgl.Mouse#setCoalescing(boolean) coalesces} movement, one event stands for every
+ * cursor sample of a frame: it runs from the position before the first sample to the position after the last,
+ * so {@link #getDeltaX()} and {@link #getDeltaY()} are the accumulated movement. If the mouse also
+ * {@linkplain jgl.Mouse#setSampleHistory(boolean) keeps a history}, the individual samples are available in
+ * order through {@link #getSampleCount()}, {@link #getSampleX(int)} and {@link #getSampleY(int)}, for
+ * consumers such as drawing tools that need the exact path. Uncoalesced events carry no history.
  *
  * @author Albert Beaupre
  * @since December 18th, 2025
@@ -12,6 +25,8 @@ package jgl.event.events;
 public class MouseMoveEvent extends MouseEvent {
 
     private short toX, toY;
+    private int[] samples;
+    private int sampleCount;
 
     /**
      * Constructs a new MouseMoveEvent with the specified mouse button, modifier flags,
@@ -25,7 +40,7 @@ public class MouseMoveEvent extends MouseEvent {
      * @param toY       the ending y-coordinate of the mouse cursor during the event
      */
     public MouseMoveEvent(int button, int modifiers, int fromX, int fromY, int toX, int toY) {
-        super(fromX, fromY, button, modifiers);
+        super(button, modifiers, fromX, fromY);
         this.toX = (short) toX;
         this.toY = (short) toY;
     }
@@ -62,4 +77,101 @@ public class MouseMoveEvent extends MouseEvent {
     public int getToY() {
         return toY;
     }
+
+    /**
+     * @return the horizontal distance the cursor moved during this event
+     */
+    public int getDeltaX() {
+        return toX - getX();
+    }
+
+    /**
+     * @return the vertical distance the cursor moved during this event
+     */
+    public int getDeltaY() {
+        return toY - getY();
+    }
+
+    /**
+     * Returns {@link KeyedEvent#UNKEYED}, so move and drag events only reach listeners registered
+     * without a key. The button of a move or drag event is the mask of buttons held during the
+     * movement, which would otherwise match listeners keyed to unrelated button indices: a left drag
+     * has the mask 1, the index of the right button.
+     *
+     * @return {@link KeyedEvent#UNKEYED}
+     */
+    @Override
+    public int getRoutingKey() {
+        return UNKEYED;
+    }
+
+    /**
+     * Appends a cursor sample to the history of this event. Each sample is packed into a single
+     * {@code int}, so a history costs four bytes per sample and the array is reused with the event.
+     *
+     * @param x the x-coordinate of the sample
+     * @param y the y-coordinate of the sample
+     */
+    public void addSample(int x, int y) {
+        if (samples == null)
+            samples = new int[16];
+        else if (sampleCount == samples.length)
+            samples = Arrays.copyOf(samples, Math.max(16, sampleCount << 1));
+        samples[sampleCount++] = (x << 16) | (y & 0xFFFF);
+    }
+
+    /**
+     * @return the number of cursor samples in the history of this event, or 0 if it has no history
+     */
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Returns the x-coordinate of a cursor sample in the history of this event.
+     *
+     * @param index the index of the sample, from the oldest at 0
+     * @return the x-coordinate of the sample
+     * @throws IndexOutOfBoundsException if {@code index} is not less than {@link #getSampleCount()}
+     */
+    public int getSampleX(int index) {
+        return sample(index) >> 16;
+    }
+
+    /**
+     * Returns the y-coordinate of a cursor sample in the history of this event.
+     *
+     * @param index the index of the sample, from the oldest at 0
+     * @return the y-coordinate of the sample
+     * @throws IndexOutOfBoundsException if {@code index} is not less than {@link #getSampleCount()}
+     */
+    public int getSampleY(int index) {
+        return (short) sample(index);
+    }
+
+    private int sample(int index) {
+        return samples[Objects.checkIndex(index, sampleCount)];
+    }
+
+    /**
+     * Clears the history of this event, keeping its storage for the next use.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        sampleCount = 0;
+    }
+
+    /**
+     * Returns a copy of this event with its own copy of the sample history.
+     *
+     * @return a copy of this event
+     */
+    @Override
+    public Event copy() {
+        MouseMoveEvent copy = (MouseMoveEvent) super.copy();
+        if (samples != null)
+            copy.samples = Arrays.copyOf(samples, sampleCount);
+        return copy;
+    }
 }
@@ -4,6 +4,7 @@ import jgl.graphics.Color;
 import jgl.graphics.texture.Texture;
 import jgl.graphics.texture.TextureData;
 import jgl.graphics.texture.TextureFilter;
+import jgl.io.pool.BufferPool;
 import org.lwjgl.stb.STBTTPackedchar;
 
 import java.nio.ByteBuffer;
@@ -35,8 +36,8 @@ public class Font {
     private final FontData data;
     private final Texture texture;
     private final float[] bounds = new float[4];
-    private ByteBuffer pixelBuffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_CAPACITY);
-    private int bufferCapacity = INITIAL_BUFFER_CAPACITY;
+    private ByteBuffer pixelBuffer = BufferPool.obtainDirect(INITIAL_BUFFER_CAPACITY);
+    private int bufferCapacity = pixelBuffer.capacity();
     private String text = "";
     private float width;
     private float height;
@@ -132,7 +133,8 @@ public class Font {
 
     /**
      * Ensures the pixel buffer is large enough to store the rendered bitmap.
-     * Grows exponentially up to 4MB increments.
+     * The larger buffer is taken from the {@link BufferPool} and the old one
+     * is returned to it, so fonts share their pixel buffers over time.
      *
      * @param required required number of bytes
      */
@@ -140,12 +142,10 @@ public class Font {
         if (required <= bufferCapacity)
             return;
 
-        // Grow ONCE to the required size
-        ByteBuffer newBuffer = ByteBuffer.allocateDirect(required);
-        bufferCapacity = required;
-
-        // Replace old buffer
-        pixelBuffer = newBuffer;
+        // Grow ONCE to the required size class
+        BufferPool.free(pixelBuffer);
+        pixelBuffer = BufferPool.obtainDirect(required);
+        bufferCapacity = pixelBuffer.capacity();
     }
 
 
@@ -317,11 +317,12 @@ public class Font {
     }
 
     /**
-     * Frees GPU resources and clears the pixel buffer.
+     * Frees GPU resources and returns the pixel buffer to the {@link BufferPool}.
      * After calling this, the instance must no longer be used.
      */
     public void dispose() {
         texture.dispose();
+        BufferPool.free(pixelBuffer);
         pixelBuffer = null;
         bufferCapacity = 0;
     }
@@ -0,0 +1,89 @@
+package jgl.io.buffer;
+
+import java.util.Objects;
+
+/**
+ * A {@link DynamicByteBuffer} whose multibyte values are always big-endian.
+ * <p>
+ * The byte order of this class is fixed, so every multibyte read and write goes straight to the big-endian view handle
+ * without checking a byte order field. Instances are created through {@link DynamicByteBuffer#wrap(byte[], ByteOrder)}
+ * and {@link DynamicByteBuffer#allocate(int, ByteOrder)}.
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+final class BigEndianByteBuffer extends DynamicByteBuffer {
+
+    /**
+     * Constructs a big-endian buffer over the specified byte array.
+     *
+     * @param buffer the byte array to use as the underlying storage
+     */
+    BigEndianByteBuffer(byte[] buffer) {
+        super(buffer, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructs a big-endian view of {@code source}.
+     *
+     * @param source the buffer to view
+     */
+    BigEndianByteBuffer(DynamicByteBuffer source) {
+        super(source, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Returns this buffer if {@code order} is {@link ByteOrder#BIG_ENDIAN}, otherwise a little-endian view that shares
+     * the backing array and starts at the current positions.
+     *
+     * @param order the byte order to use
+     * @return this buffer or a view in the requested order
+     */
+    @Override
+    public DynamicByteBuffer setByteOrder(ByteOrder order) {
+        if (Objects.requireNonNull(order, "Byte order cannot be null") == ByteOrder.BIG_ENDIAN)
+            return this;
+        return new LittleEndianByteBuffer(this);
+    }
+
+    @Override
+    DynamicByteBuffer newInstance(byte[] storage) {
+        return new BigEndianByteBuffer(storage);
+    }
+
+    @Override
+    DynamicByteBuffer newView() {
+        return new BigEndianByteBuffer(this);
+    }
+
+    @Override
+    short loadShort(int index) {
+        return (short) SHORT_BE.get(buffer, index);
+    }
+
+    @Override
+    void storeShort(int index, short value) {
+        SHORT_BE.set(buffer, index, value);
+    }
+
+    @Override
+    int loadInt(int index) {
+        return (int) INT_BE.get(buffer, index);
+    }
+
+    @Override
+    void storeInt(int index, int value) {
+        INT_BE.set(buffer, index, value);
+    }
+
+    @Override
+    long loadLong(int index) {
+        return (long) LONG_BE.get(buffer, index);
+    }
+
+    @Override
+    void storeLong(int index, long value) {
+        LONG_BE.set(buffer, index, value);
+    }
+}
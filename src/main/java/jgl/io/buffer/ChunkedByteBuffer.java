@@ -0,0 +1,822 @@
+package jgl.io.buffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A growable byte buffer made of fixed-size chunks that never copies data it has already written.
+ * <p>
+ * Where {@link DynamicByteBuffer} doubles and copies its array whenever a write exceeds its capacity,
+ * {@code ChunkedByteBuffer} appends another chunk. Building a large file or log therefore costs no copying at all and
+ * never holds more than one chunk of slack, which makes it the better fit for multi-megabyte save files and replay logs.
+ * The read API stays contiguous: values that straddle two chunks are read and written as if the buffer were a single
+ * array, and the finished contents can be handed to a channel in one gathering write.
+ * </p>
+ * <p>
+ * Key features include:
+ * <ul>
+ *     <li>Reading and writing primitive types, VarInts and strings with the same layout as {@code DynamicByteBuffer}.</li>
+ *     <li>Values inside a single chunk are transferred with one byte-array view access; only values that cross a chunk
+ *     boundary take a byte-by-byte path.</li>
+ *     <li>Gathering writes of all chunks to a {@link GatheringByteChannel} without copying.</li>
+ *     <li>Chunks are kept across {@link #clear()} so a buffer can be reused without reallocating.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Unlike {@code DynamicByteBuffer}, reads are bounded by the write position rather than the capacity, since bytes past
+ * the write position belong to chunks that have not been written yet. Bit-level operations are not supported.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is not thread-safe. If multiple threads access a {@code ChunkedByteBuffer} instance
+ * concurrently, external synchronization is required.
+ * </p>
+ * <p>
+ * <b>Usage Example:</b>
+ * <pre>
+ * ChunkedByteBuffer save = new ChunkedByteBuffer();
+ * for (Entity entity : world)
+ *     save.writeInt(entity.id()).writeString(entity.name());
+ * try (FileChannel channel = FileChannel.open(path, CREATE, WRITE)) {
+ *     save.writeTo(channel);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @see DynamicByteBuffer
+ * @since October 17th, 2026
+ */
+public class ChunkedByteBuffer {
+
+    /**
+     * The chunk size used by {@link #ChunkedByteBuffer()}.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * The size of every chunk, a power of two.
+     */
+    private final int chunkSize;
+    /**
+     * The number of bits to shift a position right by to find its chunk.
+     */
+    private final int chunkShift;
+    /**
+     * The mask that extracts the index within a chunk from a position.
+     */
+    private final int chunkMask;
+    /**
+     * The allocated chunks; entries at and after {@code chunkCount} are {@code null}.
+     */
+    private byte[][] chunks = new byte[8][];
+    /**
+     * The number of allocated chunks.
+     */
+    private int chunkCount;
+    /**
+     * The current position for reading from the buffer.
+     */
+    private int readPosition;
+    /**
+     * The current position for writing to the buffer.
+     */
+    private int writePosition;
+    /**
+     * The byte order used for multibyte data types (default is big-endian).
+     */
+    private DynamicByteBuffer.ByteOrder byteOrder = DynamicByteBuffer.ByteOrder.BIG_ENDIAN;
+
+    /**
+     * Constructs an empty buffer with chunks of {@link #DEFAULT_CHUNK_SIZE} bytes.
+     */
+    public ChunkedByteBuffer() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs an empty buffer with the specified chunk size.
+     * <p>
+     * No chunk is allocated until the first write.
+     * </p>
+     *
+     * @param chunkSize the size of each chunk in bytes, a power of two of at least 16
+     * @throws IllegalArgumentException if {@code chunkSize} is not a power of two or is smaller than 16
+     */
+    public ChunkedByteBuffer(int chunkSize) {
+        if (chunkSize < 16 || Integer.bitCount(chunkSize) != 1)
+            throw new IllegalArgumentException("Chunk size must be a power of two of at least 16");
+        this.chunkSize = chunkSize;
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+        this.chunkMask = chunkSize - 1;
+    }
+
+    /**
+     * Sets the byte order for multi-byte data types.
+     *
+     * @param order the byte order to use
+     * @return this buffer, for method chaining
+     * @throws NullPointerException if {@code order} is {@code null}
+     */
+    public ChunkedByteBuffer setByteOrder(DynamicByteBuffer.ByteOrder order) {
+        this.byteOrder = Objects.requireNonNull(order, "Byte order cannot be null");
+        return this;
+    }
+
+    /**
+     * Returns the byte order used for multibyte data types.
+     *
+     * @return the current byte order
+     */
+    public DynamicByteBuffer.ByteOrder getByteOrder() {
+        return byteOrder;
+    }
+
+    /**
+     * Reads a single byte and advances the read position.
+     *
+     * @return the byte value read
+     * @throws BufferUnderflowException if there are no bytes remaining
+     */
+    public byte readByte() {
+        checkRead(1);
+        int position = readPosition++;
+        return chunks[position >>> chunkShift][position & chunkMask];
+    }
+
+    /**
+     * Writes a single byte and advances the write position, appending a chunk if necessary.
+     *
+     * @param value the byte value to write
+     * @return this buffer, for method chaining
+     */
+    public ChunkedByteBuffer writeByte(byte value) {
+        int position = writePosition;
+        ensureChunk(position >>> chunkShift);
+        chunks[position >>> chunkShift][position & chunkMask] = value;
+        writePosition = position + 1;
+        return this;
+    }
+
+    /**
+     * Reads a boolean value stored as a single byte.
+     *
+     * @return {@code true} if the byte is non-zero, {@code false} otherwise
+     * @throws BufferUnderflowException if there are no bytes remaining
+     */
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    /**
+     * Writes a boolean value as a single byte (1 for {@code true}, 0 for {@code false}).
+     *
+     * @param value the boolean value to write
+     * @return this buffer, for method chaining
+     */
+    public ChunkedByteBuffer writeBoolean(boolean value) {
+        return writeByte((byte) (value ? 1 : 0));
+    }
+
+    /**
+     * Reads a 16-bit character in the configured byte order.
+     *
+     * @return the character read
+     * @throws BufferUnderflowException if there are fewer than 2 bytes remaining
+     */
+    public char readChar() {
+        return (char) readShort();
+    }
+
+    /**
+     * Writes a 16-bit character in the configured byte order.
+     *
+     * @param value the character to write
+     * @return this buffer, for method chaining
+     */
+    public ChunkedByteBuffer writeChar(char value) {
+        return writeShort((short) value);
+    }
+
+    /**
+     * Reads a 16-bit short integer in the configured byte order.
+     *
+     * @return the short value read
+     * @throws BufferUnderflowException if there are fewer than 2 bytes remaining
+     */
+    public short readShort() {
+        checkRead(2);
+        int index = readPosition & chunkMask;
+        short value;
+        if (index + 2 <= chunkSize) {
+            byte[] chunk = chunks[readPosition >>> chunkShift];
+            value = byteOrder == DynamicByteBuffer.ByteOrder.BIG_ENDIAN
+                    ? (short) DynamicByteBuffer.SHORT_BE.get(chunk, index)
+                    : (short) DynamicByteBuffer.SHORT_LE.get(chunk, index);
+            readPosition += 2;
+        } else {
+            value = (short) readAcross(2);
+        }
+        return value;
+    }
+
+    /**
+     * Writes a 16-bit short integer in the configured byte order.
+     *
+     * @param value the short value to write
+     * @return this buffer, for method chaining
+     */
+    public ChunkedByteBuffer writeShort(short value) {
+        int index = writePosition & chunkMask;
+        if (index + 2 <= chunkSize) {
+            byte[] chunk = ensureChunk(writePosition >>> chunkShift);
+            if (byteOrder == DynamicByteBuffer.ByteOrder.BIG_ENDIAN)
+                DynamicByteBuffer.SHORT_BE.set(chunk, index, value);
+            else
+                DynamicByteBuffer.SHORT_LE.set(chunk, index, value);
+            writePosition += 2;
+        } else {
+            writeAcross(value, 2);
+        }
+        return this;
+    }
+
+    /**
+     * Reads a 16-bit unsigned short integer in the configured byte order.
+     *
+     * @return the unsigned short value read, as an int
+     * @throws BufferUnderflowException if there are fewer than 2 bytes remaining
+     */
+    public int readUnsignedShort() {
+        return readShort() & 0xFFFF;
+    }
+
+    /**
+     * Reads a 32-bit integer in the configured byte order.
+     *
+     * @return the integer value read
+     * @throws BufferUnderflowException if there are fewer than 4 bytes remaining
+     */
+    public int readInt() {
+        checkRead(4);
+        int index = readPosition & chunkMask;
+        int value;
+        if (index + 4 <= chunkSize) {
+            byte[] chunk = chunks[readPosition >>> chunkShift];
+            value = byteOrder == DynamicByteBuffer.ByteOrder.BIG_ENDIAN
+                    ? (int) DynamicByteBuffer.INT_BE.get(chunk, index)
+                    : (int) DynamicByteBuffer.INT_LE.get(chunk, index);
+            readPosition += 4;
+        } else {
+            value = (int) readAcross(4);
+        }
+        return value;
+    }
+
+    /**
+     * Writes a 32-bit integer in the configured byte order.
+     *
+     * @param value the integer value to write
+     * @return this buffer, for method chaining
+     */
+    public ChunkedByteBuffer writeInt(int value) {
+        int index = writePosition & chunkMask;
+        if (index + 4 <= chunkSize) {
+            byte[] chunk = ensureChunk(writePosition >>> chunkShift);
+            if (byteOrder == DynamicByteBuffer.ByteOrder.BIG_ENDIAN)
+                DynamicByteBuffer.INT_BE.set(chunk, index, value);
+            else
+                DynamicByteBuffer.INT_LE.set(chunk, index, value);
+            writePosition += 4;
+        } else {
+            writeAcross(value, 4);
+        }
+        return this;
+    }
+
+    /**
+     * Reads a 64-bit long integer in the configured byte order.
+     *
+     * @return the long value read
+     * @throws BufferUnderflowException if there are fewer than 8 bytes remaining
+     */
+    public long readLong() {
+        checkRead(8);
+        int index = readPosition & chunkMask;
+        long value;
+        if (index + 8 <= chunkSize) {
+            byte[] chunk = chunks[readPosition >>> chunkShift];
+            value = byteOrder == DynamicByteBuffer.ByteOrder.BIG_ENDIAN
+                    ? (long) DynamicByteBuffer.LONG_BE.get(chunk, index)
+                    : (long) DynamicByteBuffer.LONG_LE.get(chunk, index);
+            readPosition += 8;
+        } else {
+            value = readAcross(8);
+        }
+        return value;
+    }
+
+    /**
+     * Writes a 64-bit long integer in the configured byte order.
+     *
+     * @param value the long value to write
+     * @return this buffer, for method chaining
+     */
+    public ChunkedByteBuffer writeLong(long value) {
+        int index = writePosition & chunkMask;
+        if (index + 8 <= chunkSize) {
+            byte[] chunk = ensureChunk(writePosition >>> chunkShift);
+            if (byteOrder == DynamicByteBuffer.ByteOrder.BIG_ENDIAN)
+                DynamicByteBuffer.LONG_BE.set(chunk, index, value);
+            else
+                DynamicByteBuffer.LONG_LE.set(chunk, index, value);
+            writePosition += 8;
+        } else {
+            writeAcross(value, 8);
+        }
+        return this;
+    }
+
+    /**
+     * Reads a 32-bit floating-point number in the configured byte order.
+     *
+     * @return the float value read
+     * @throws BufferUnderflowException if there are fewer than 4 bytes remaining
+     */
+    public float readFloat() {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    /**
+     * Writes a 32-bit floating-point number in the configured byte order.
+     *
+     * @param value the float value to write
+     * @return this buffer, for method chaining
+     */
+    public ChunkedByteBuffer writeFloat(float value) {
+        return writeInt(Float.floatToIntBits(value));
+    }
+
+    /**
+     * Reads a 64-bit floating-point number in the configured byte order.
+     *
+     * @return the double value read
+     * @throws BufferUnderflowException if there are fewer than 8 bytes remaining
+     */
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Writes a 64-bit floating-point number in the configured byte order.
+     *
+     * @param value the double value to write
+     * @return this buffer, for method chaining
+     */
+    public ChunkedByteBuffer writeDouble(double value) {
+        return writeLong(Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Reads a variable-length encoded integer, as written by {@link DynamicByteBuffer#writeVarInt(int)}.
+     *
+     * @return the integer value read
+     * @throws BufferUnderflowException if the buffer ends before the last byte of the value
+     * @throws IllegalStateException    if the value is longer than 5 bytes
+     */
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = readByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new IllegalStateException("VarInt is too long");
+    }
+
+    /**
+     * Writes an integer as a variable-length value of 1 to 5 bytes, as {@link DynamicByteBuffer#writeVarInt(int)} does.
+     *
+     * @param value the integer value to write
+     * @return this buffer, for method chaining
+     */
+    public ChunkedByteBuffer writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            writeByte((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        return writeByte((byte) value);
+    }
+
+    /**
+     * Reads a variable-length encoded long, as written by {@link DynamicByteBuffer#writeVarLong(long)}.
+     *
+     * @return the long value read
+     * @throws BufferUnderflowException if the buffer ends before the last byte of the value
+     * @throws IllegalStateException    if the value is longer than 10 bytes
+     */
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new IllegalStateException("VarLong is too long");
+    }
+
+    /**
+     * Writes a long as a variable-length value of 1 to 10 bytes, as {@link DynamicByteBuffer#writeVarLong(long)} does.
+     *
+     * @param value the long value to write
+     * @return this buffer, for method chaining
+     */
+    public ChunkedByteBuffer writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        return writeByte((byte) value);
+    }
+
+    /**
+     * Reads a UTF-8 encoded string with a 16-bit length prefix, as written by {@link DynamicByteBuffer#writeString(String)}.
+     * <p>
+     * A string that lies within one chunk is decoded in place; only a string that crosses a chunk boundary is copied
+     * into a temporary array first.
+     * </p>
+     *
+     * @return the string read
+     * @throws BufferUnderflowException if there are not enough bytes to read the length or the string data
+     */
+    public String readString() {
+        int length = readShort();
+        if (length < 0)
+            throw new BufferUnderflowException();
+        checkRead(length);
+        int index = readPosition & chunkMask;
+        if (index + length <= chunkSize) {
+            String value = new String(chunks[readPosition >>> chunkShift], index, length, StandardCharsets.UTF_8);
+            readPosition += length;
+            return value;
+        }
+        return new String(readBytes(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a UTF-8 encoded string with a 16-bit length prefix, in the format of
+     * {@link DynamicByteBuffer#writeString(String)}.
+     * <p>
+     * A string that fits in the current chunk is encoded in place; only a string that crosses a chunk boundary is
+     * encoded into a temporary array first.
+     * </p>
+     *
+     * @param value the string to write
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code value} is {@code null} or its encoding is longer than 32767 bytes
+     */
+    public ChunkedByteBuffer writeString(String value) {
+        if (value == null)
+            throw new IllegalArgumentException("String cannot be null");
+
+        int length = DynamicByteBuffer.utf8Length(value);
+        if (length > Short.MAX_VALUE)
+            throw new IllegalArgumentException("String is too long");
+        writeShort((short) length);
+        int index = writePosition & chunkMask;
+        if (index + length <= chunkSize) {
+            DynamicByteBuffer.encodeUtf8(value, ensureChunk(writePosition >>> chunkShift), index);
+            writePosition += length;
+            return this;
+        }
+        return writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the specified number of bytes into a new byte array.
+     *
+     * @param length the number of bytes to read
+     * @return a new byte array containing the read bytes
+     * @throws BufferUnderflowException if there are fewer than {@code length} bytes remaining
+     * @throws IllegalArgumentException if {@code length} is negative
+     */
+    public byte[] readBytes(int length) {
+        if (length < 0)
+            throw new IllegalArgumentException("Length cannot be negative");
+        byte[] bytes = new byte[length];
+        readBytes(bytes, 0, length);
+        return bytes;
+    }
+
+    /**
+     * Reads bytes into a portion of the specified array, one {@code System.arraycopy} per chunk touched.
+     *
+     * @param bytes  the array to read into
+     * @param offset the index in {@code bytes} of the first byte to fill
+     * @param length the number of bytes to read
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code bytes} is {@code null}
+     * @throws IllegalArgumentException if the range is invalid
+     * @throws BufferUnderflowException if there are fewer than {@code length} bytes remaining
+     */
+    public ChunkedByteBuffer readBytes(byte[] bytes, int offset, int length) {
+        Objects.requireNonNull(bytes, "Byte array cannot be null");
+        if (offset < 0 || length < 0 || offset + length > bytes.length)
+            throw new IllegalArgumentException("Invalid offset or length");
+        checkRead(length);
+        while (length > 0) {
+            int index = readPosition & chunkMask;
+            int count = Math.min(length, chunkSize - index);
+            System.arraycopy(chunks[readPosition >>> chunkShift], index, bytes, offset, count);
+            readPosition += count;
+            offset += count;
+            length -= count;
+        }
+        return this;
+    }
+
+    /**
+     * Writes all bytes of the specified array.
+     *
+     * @param bytes the byte array to write
+     * @return this buffer, for method chaining
+     * @throws NullPointerException if {@code bytes} is {@code null}
+     */
+    public ChunkedByteBuffer writeBytes(byte[] bytes) {
+        return writeBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes a portion of the specified array, one {@code System.arraycopy} per chunk touched.
+     *
+     * @param bytes  the byte array to write
+     * @param offset the starting index in the byte array
+     * @param length the number of bytes to write
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code bytes} is {@code null}
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    public ChunkedByteBuffer writeBytes(byte[] bytes, int offset, int length) {
+        Objects.requireNonNull(bytes, "Byte array cannot be null");
+        if (offset < 0 || length < 0 || offset + length > bytes.length)
+            throw new IllegalArgumentException("Invalid offset or length");
+        while (length > 0) {
+            int index = writePosition & chunkMask;
+            int count = Math.min(length, chunkSize - index);
+            System.arraycopy(bytes, offset, ensureChunk(writePosition >>> chunkShift), index, count);
+            writePosition += count;
+            offset += count;
+            length -= count;
+        }
+        return this;
+    }
+
+    /**
+     * Writes the bytes between the read and write positions to a channel with gathering writes, then advances the
+     * read position past them.
+     * <p>
+     * Each chunk is wrapped in a heap {@link ByteBuffer} without copying, and the whole set is passed to
+     * {@link GatheringByteChannel#write(ByteBuffer[])} until every byte has been written. A non-blocking channel that
+     * accepts nothing makes this method return early; the read position then marks how far it got.
+     * </p>
+     *
+     * @param channel the channel to write to
+     * @return the number of bytes written
+     * @throws NullPointerException if {@code channel} is {@code null}
+     * @throws IOException          if the channel fails to write
+     */
+    public long writeTo(GatheringByteChannel channel) throws IOException {
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        if (readPosition == writePosition)
+            return 0;
+
+        int first = readPosition >>> chunkShift;
+        int last = (writePosition - 1) >>> chunkShift;
+        ByteBuffer[] buffers = new ByteBuffer[last - first + 1];
+        for (int i = first; i <= last; i++) {
+            int start = i == first ? readPosition & chunkMask : 0;
+            int end = i == last ? ((writePosition - 1) & chunkMask) + 1 : chunkSize;
+            buffers[i - first] = ByteBuffer.wrap(chunks[i], start, end - start);
+        }
+
+        long total = 0;
+        int remaining = writePosition - readPosition;
+        while (total < remaining) {
+            long written = channel.write(buffers);
+            if (written <= 0)
+                break;
+            total += written;
+        }
+        readPosition += (int) total;
+        return total;
+    }
+
+    /**
+     * Writes the bytes between the read and write positions to a stream, one chunk at a time, then advances the read
+     * position past them.
+     *
+     * @param out the stream to write to
+     * @return the number of bytes written
+     * @throws NullPointerException if {@code out} is {@code null}
+     * @throws IOException          if the stream fails to write
+     */
+    public long writeTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "Output stream cannot be null");
+        int remaining = writePosition - readPosition;
+        while (readPosition < writePosition) {
+            int index = readPosition & chunkMask;
+            int count = Math.min(writePosition - readPosition, chunkSize - index);
+            out.write(chunks[readPosition >>> chunkShift], index, count);
+            readPosition += count;
+        }
+        return remaining;
+    }
+
+    /**
+     * Copies the written bytes, from position 0 to the write position, into a new array.
+     *
+     * @return a new array holding the contents of this buffer
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[writePosition];
+        for (int position = 0; position < writePosition; position += chunkSize)
+            System.arraycopy(chunks[position >>> chunkShift], 0, bytes, position, Math.min(chunkSize, writePosition - position));
+        return bytes;
+    }
+
+    /**
+     * Returns the current read position in the buffer.
+     *
+     * @return the current read position
+     */
+    public int getReadPosition() {
+        return readPosition;
+    }
+
+    /**
+     * Sets the read position to the specified value.
+     *
+     * @param position the new read position
+     * @throws IllegalArgumentException if {@code position} is negative or greater than the write position
+     */
+    public void setReadPosition(int position) {
+        if (position < 0 || position > writePosition)
+            throw new IllegalArgumentException("Invalid read position");
+        this.readPosition = position;
+    }
+
+    /**
+     * Returns the current write position in the buffer, which is also the number of bytes written.
+     *
+     * @return the current write position
+     */
+    public int getWritePosition() {
+        return writePosition;
+    }
+
+    /**
+     * Sets the write position to the specified value, for example to patch a length field written earlier.
+     * <p>
+     * Moving the write position back does not discard any data; bytes past it are simply overwritten by later writes.
+     * The read position is clamped to the new write position.
+     * </p>
+     *
+     * @param position the new write position
+     * @throws IllegalArgumentException if {@code position} is negative or beyond the allocated chunks
+     */
+    public void setWritePosition(int position) {
+        if (position < 0 || position > capacity())
+            throw new IllegalArgumentException("Invalid write position");
+        this.writePosition = position;
+        this.readPosition = Math.min(readPosition, position);
+    }
+
+    /**
+     * Returns the number of bytes remaining between the read and write positions.
+     *
+     * @return the number of readable bytes
+     */
+    public int remainingRead() {
+        return writePosition - readPosition;
+    }
+
+    /**
+     * Checks if there are any bytes left to read.
+     *
+     * @return {@code true} if the read position is before the write position
+     */
+    public boolean hasRemaining() {
+        return readPosition < writePosition;
+    }
+
+    /**
+     * Returns the total size of the allocated chunks.
+     *
+     * @return the capacity in bytes
+     */
+    public int capacity() {
+        return chunkCount << chunkShift;
+    }
+
+    /**
+     * Returns the size of each chunk.
+     *
+     * @return the chunk size in bytes
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Resets the read and write positions, keeping the allocated chunks for reuse.
+     *
+     * @return this buffer, for method chaining
+     */
+    public ChunkedByteBuffer clear() {
+        readPosition = 0;
+        writePosition = 0;
+        return this;
+    }
+
+    /**
+     * Resets the positions and releases every chunk but the first.
+     *
+     * @return this buffer, for method chaining
+     */
+    public ChunkedByteBuffer trim() {
+        clear();
+        if (chunkCount > 1) {
+            Arrays.fill(chunks, 1, chunkCount, null);
+            chunkCount = 1;
+        }
+        return this;
+    }
+
+    /**
+     * Returns the chunk at the specified index, allocating it and any chunk before it if necessary.
+     *
+     * @param index the chunk index
+     * @return the chunk
+     */
+    private byte[] ensureChunk(int index) {
+        if (index < chunkCount)
+            return chunks[index];
+        if (index >= chunks.length)
+            chunks = Arrays.copyOf(chunks, Math.max(chunks.length * 2, index + 1));
+        while (chunkCount <= index)
+            chunks[chunkCount++] = new byte[chunkSize];
+        return chunks[index];
+    }
+
+    /**
+     * Reads a multibyte value that crosses a chunk boundary one byte at a time, in the configured byte order.
+     *
+     * @param bytes the size of the value in bytes
+     * @return the value, in the low {@code bytes * 8} bits
+     */
+    private long readAcross(int bytes) {
+        long value = 0;
+        if (byteOrder == DynamicByteBuffer.ByteOrder.BIG_ENDIAN) {
+            for (int i = 0; i < bytes; i++)
+                value = (value << 8) | (readByte() & 0xFF);
+        } else {
+            for (int i = 0; i < bytes; i++)
+                value |= (long) (readByte() & 0xFF) << (i << 3);
+        }
+        return value;
+    }
+
+    /**
+     * Writes a multibyte value that crosses a chunk boundary one byte at a time, in the configured byte order.
+     *
+     * @param value the value, in the low {@code bytes * 8} bits
+     * @param bytes the size of the value in bytes
+     */
+    private void writeAcross(long value, int bytes) {
+        if (byteOrder == DynamicByteBuffer.ByteOrder.BIG_ENDIAN) {
+            for (int i = bytes - 1; i >= 0; i--)
+                writeByte((byte) (value >>> (i << 3)));
+        } else {
+            for (int i = 0; i < bytes; i++)
+                writeByte((byte) (value >>> (i << 3)));
+        }
+    }
+
+    /**
+     * Checks if there are enough bytes between the read and write positions to read the specified number of bytes.
+     *
+     * @param bytes the number of bytes to check
+     * @throws BufferUnderflowException if there are insufficient bytes remaining
+     */
+    private void checkRead(int bytes) {
+        if (readPosition + bytes > writePosition)
+            throw new BufferUnderflowException();
+    }
+}
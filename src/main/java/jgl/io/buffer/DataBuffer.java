@@ -0,0 +1,615 @@
+package jgl.io.buffer;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The sequential read, write and bit-level API shared by {@link DynamicByteBuffer} and {@link NativeByteBuffer}.
+ * <p>
+ * Code that only reads and writes values in order, such as {@link jgl.io.serial.Serializer}, {@link StringTable} and
+ * {@link FrameDecoder}, accepts a {@code DataBuffer} so it works the same on a heap array and on native memory. Both
+ * implementations produce identical bytes for the same sequence of calls, so data written through one can be read
+ * through the other.
+ * </p>
+ * <p>
+ * Methods that write return the buffer for method chaining. Implementations narrow the return type to themselves, so
+ * chaining on a concrete buffer keeps its full API. Views, slices and access to the underlying storage differ between
+ * implementations and are left to each of them.
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @see DynamicByteBuffer
+ * @see NativeByteBuffer
+ * @since October 17th, 2026
+ */
+public interface DataBuffer {
+
+    /**
+     * Sets the byte order for multibyte data types.
+     * <p>
+     * An implementation may return a different buffer specialized for the new order, sharing the same contents and
+     * positions; callers should continue with the returned buffer.
+     * </p>
+     *
+     * @param order the byte order to use
+     * @return the buffer to use with the new byte order
+     * @throws NullPointerException if {@code order} is {@code null}
+     */
+    DataBuffer setByteOrder(DynamicByteBuffer.ByteOrder order);
+
+    /**
+     * @return the byte order used for multibyte data types
+     */
+    DynamicByteBuffer.ByteOrder getByteOrder();
+
+    /**
+     * Reads a single byte and advances the read position.
+     *
+     * @return the byte read
+     * @throws BufferUnderflowException if there are no bytes remaining
+     */
+    byte readByte();
+
+    /**
+     * Writes a single byte and advances the write position.
+     *
+     * @param value the byte to write
+     * @return this buffer, for method chaining
+     * @throws BufferOverflowException if the buffer is full and cannot grow
+     */
+    DataBuffer writeByte(byte value);
+
+    /**
+     * Reads a 16-bit character in the configured byte order and advances the read position.
+     *
+     * @return the character read
+     * @throws BufferUnderflowException if there are fewer than 2 bytes remaining
+     */
+    char readChar();
+
+    /**
+     * Writes a 16-bit character in the configured byte order and advances the write position.
+     *
+     * @param value the character to write
+     * @return this buffer, for method chaining
+     * @throws BufferOverflowException if the buffer is full and cannot grow
+     */
+    DataBuffer writeChar(char value);
+
+    /**
+     * Reads a 16-bit short in the configured byte order and advances the read position.
+     *
+     * @return the short read
+     * @throws BufferUnderflowException if there are fewer than 2 bytes remaining
+     */
+    short readShort();
+
+    /**
+     * Writes a 16-bit short in the configured byte order and advances the write position.
+     *
+     * @param value the short to write
+     * @return this buffer, for method chaining
+     * @throws BufferOverflowException if the buffer is full and cannot grow
+     */
+    DataBuffer writeShort(short value);
+
+    /**
+     * Reads a 16-bit unsigned short in the configured byte order and advances the read position.
+     *
+     * @return the unsigned short read, as an int
+     * @throws BufferUnderflowException if there are fewer than 2 bytes remaining
+     */
+    default int readUnsignedShort() {
+        return readShort() & 0xFFFF;
+    }
+
+    /**
+     * Writes a 16-bit unsigned short in the configured byte order and advances the write position.
+     *
+     * @param value the unsigned short to write (0 to 65535)
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code value} is negative or greater than 65535
+     */
+    DataBuffer writeUnsignedShort(int value);
+
+    /**
+     * Reads a 32-bit integer in the configured byte order and advances the read position.
+     *
+     * @return the integer read
+     * @throws BufferUnderflowException if there are fewer than 4 bytes remaining
+     */
+    int readInt();
+
+    /**
+     * Writes a 32-bit integer in the configured byte order and advances the write position.
+     *
+     * @param value the integer to write
+     * @return this buffer, for method chaining
+     * @throws BufferOverflowException if the buffer is full and cannot grow
+     */
+    DataBuffer writeInt(int value);
+
+    /**
+     * Reads a 32-bit unsigned integer in the configured byte order and advances the read position.
+     *
+     * @return the unsigned integer read, as a long
+     * @throws BufferUnderflowException if there are fewer than 4 bytes remaining
+     */
+    default long readUnsignedInt() {
+        return readInt() & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Writes a 32-bit unsigned integer in the configured byte order and advances the write position.
+     *
+     * @param value the unsigned integer to write (0 to 4294967295)
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code value} is negative or greater than 4294967295
+     */
+    DataBuffer writeUnsignedInt(long value);
+
+    /**
+     * Reads a 64-bit long in the configured byte order and advances the read position.
+     *
+     * @return the long read
+     * @throws BufferUnderflowException if there are fewer than 8 bytes remaining
+     */
+    long readLong();
+
+    /**
+     * Writes a 64-bit long in the configured byte order and advances the write position.
+     *
+     * @param value the long to write
+     * @return this buffer, for method chaining
+     * @throws BufferOverflowException if the buffer is full and cannot grow
+     */
+    DataBuffer writeLong(long value);
+
+    /**
+     * Reads a 32-bit float in the configured byte order and advances the read position.
+     *
+     * @return the float read
+     * @throws BufferUnderflowException if there are fewer than 4 bytes remaining
+     */
+    float readFloat();
+
+    /**
+     * Writes a 32-bit float in the configured byte order and advances the write position.
+     *
+     * @param value the float to write
+     * @return this buffer, for method chaining
+     * @throws BufferOverflowException if the buffer is full and cannot grow
+     */
+    DataBuffer writeFloat(float value);
+
+    /**
+     * Reads a 64-bit double in the configured byte order and advances the read position.
+     *
+     * @return the double read
+     * @throws BufferUnderflowException if there are fewer than 8 bytes remaining
+     */
+    double readDouble();
+
+    /**
+     * Writes a 64-bit double in the configured byte order and advances the write position.
+     *
+     * @param value the double to write
+     * @return this buffer, for method chaining
+     * @throws BufferOverflowException if the buffer is full and cannot grow
+     */
+    DataBuffer writeDouble(double value);
+
+    /**
+     * Reads a boolean stored as a single byte and advances the read position.
+     *
+     * @return {@code true} if the byte is non-zero, {@code false} otherwise
+     * @throws BufferUnderflowException if there are no bytes remaining
+     */
+    boolean readBoolean();
+
+    /**
+     * Writes a boolean as a single byte (1 for {@code true}, 0 for {@code false}) and advances the write position.
+     *
+     * @param value the boolean to write
+     * @return this buffer, for method chaining
+     * @throws BufferOverflowException if the buffer is full and cannot grow
+     */
+    DataBuffer writeBoolean(boolean value);
+
+    /**
+     * Reads a UTF-8 string preceded by its 16-bit encoded length and advances the read position.
+     *
+     * @return the string read
+     * @throws BufferUnderflowException if the buffer ends before the string does
+     */
+    String readString();
+
+    /**
+     * Writes a string as UTF-8 preceded by its 16-bit encoded length and advances the write position.
+     *
+     * @param value the string to write
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code value} is {@code null}
+     * @throws IllegalArgumentException if the encoded string is longer than {@link Short#MAX_VALUE} bytes
+     */
+    DataBuffer writeString(String value);
+
+    /**
+     * Reads the given number of bytes into a new array and advances the read position.
+     *
+     * @param length the number of bytes to read
+     * @return a new array holding the bytes read
+     * @throws BufferUnderflowException if there are fewer than {@code length} bytes remaining
+     */
+    byte[] readBytes(int length);
+
+    /**
+     * Reads bytes into a portion of an existing array and advances the read position.
+     *
+     * @param bytes  the array to read into
+     * @param offset the first index of the array to fill
+     * @param length the number of bytes to read
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code bytes} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length} bytes remaining
+     */
+    DataBuffer readBytes(byte[] bytes, int offset, int length);
+
+    /**
+     * Writes all bytes of an array and advances the write position.
+     *
+     * @param bytes the bytes to write
+     * @return this buffer, for method chaining
+     * @throws NullPointerException if {@code bytes} is {@code null}
+     */
+    DataBuffer writeBytes(byte[] bytes);
+
+    /**
+     * Writes a portion of an array and advances the write position.
+     *
+     * @param bytes  the array to write from
+     * @param offset the first index of the array to write
+     * @param length the number of bytes to write
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code bytes} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     */
+    DataBuffer writeBytes(byte[] bytes, int offset, int length);
+
+    /**
+     * Reads bytes from a channel into this buffer at the write position with a single {@code read} call, and advances
+     * the write position by the number of bytes read.
+     *
+     * @param channel  the channel to read from
+     * @param maxBytes the maximum number of bytes to read
+     * @return the number of bytes read, possibly zero, or {@code -1} if the channel has reached end-of-stream
+     * @throws IOException if the channel fails to read
+     */
+    int readFrom(ReadableByteChannel channel, int maxBytes) throws IOException;
+
+    /**
+     * Writes the bytes between the read position and the write position to a channel, until all of them are written or
+     * the channel accepts nothing, and advances the read position past the bytes written.
+     *
+     * @param channel the channel to write to
+     * @return the number of bytes written
+     * @throws IOException if the channel fails to write
+     */
+    int writeTo(WritableByteChannel channel) throws IOException;
+
+    /**
+     * Reads shorts in the configured byte order into a portion of an array and advances the read position.
+     *
+     * @param values the array to read into
+     * @param offset the first index of the array to fill
+     * @param length the number of values to read
+     * @return this buffer, for method chaining
+     * @throws BufferUnderflowException if there are fewer than {@code length} values remaining
+     */
+    DataBuffer readShorts(short[] values, int offset, int length);
+
+    /**
+     * Writes a portion of an array of shorts in the configured byte order and advances the write position.
+     *
+     * @param values the array to write from
+     * @param offset the first index of the array to write
+     * @param length the number of values to write
+     * @return this buffer, for method chaining
+     */
+    DataBuffer writeShorts(short[] values, int offset, int length);
+
+    /**
+     * Reads integers in the configured byte order into a portion of an array and advances the read position.
+     *
+     * @param values the array to read into
+     * @param offset the first index of the array to fill
+     * @param length the number of values to read
+     * @return this buffer, for method chaining
+     * @throws BufferUnderflowException if there are fewer than {@code length} values remaining
+     */
+    DataBuffer readInts(int[] values, int offset, int length);
+
+    /**
+     * Writes a portion of an array of integers in the configured byte order and advances the write position.
+     *
+     * @param values the array to write from
+     * @param offset the first index of the array to write
+     * @param length the number of values to write
+     * @return this buffer, for method chaining
+     */
+    DataBuffer writeInts(int[] values, int offset, int length);
+
+    /**
+     * Reads longs in the configured byte order into a portion of an array and advances the read position.
+     *
+     * @param values the array to read into
+     * @param offset the first index of the array to fill
+     * @param length the number of values to read
+     * @return this buffer, for method chaining
+     * @throws BufferUnderflowException if there are fewer than {@code length} values remaining
+     */
+    DataBuffer readLongs(long[] values, int offset, int length);
+
+    /**
+     * Writes a portion of an array of longs in the configured byte order and advances the write position.
+     *
+     * @param values the array to write from
+     * @param offset the first index of the array to write
+     * @param length the number of values to write
+     * @return this buffer, for method chaining
+     */
+    DataBuffer writeLongs(long[] values, int offset, int length);
+
+    /**
+     * Reads floats in the configured byte order into a portion of an array and advances the read position.
+     *
+     * @param values the array to read into
+     * @param offset the first index of the array to fill
+     * @param length the number of values to read
+     * @return this buffer, for method chaining
+     * @throws BufferUnderflowException if there are fewer than {@code length} values remaining
+     */
+    DataBuffer readFloats(float[] values, int offset, int length);
+
+    /**
+     * Writes a portion of an array of floats in the configured byte order and advances the write position.
+     *
+     * @param values the array to write from
+     * @param offset the first index of the array to write
+     * @param length the number of values to write
+     * @return this buffer, for method chaining
+     */
+    DataBuffer writeFloats(float[] values, int offset, int length);
+
+    /**
+     * Reads doubles in the configured byte order into a portion of an array and advances the read position.
+     *
+     * @param values the array to read into
+     * @param offset the first index of the array to fill
+     * @param length the number of values to read
+     * @return this buffer, for method chaining
+     * @throws BufferUnderflowException if there are fewer than {@code length} values remaining
+     */
+    DataBuffer readDoubles(double[] values, int offset, int length);
+
+    /**
+     * Writes a portion of an array of doubles in the configured byte order and advances the write position.
+     *
+     * @param values the array to write from
+     * @param offset the first index of the array to write
+     * @param length the number of values to write
+     * @return this buffer, for method chaining
+     */
+    DataBuffer writeDoubles(double[] values, int offset, int length);
+
+    /**
+     * Reads a single bit, most significant bit of each byte first.
+     *
+     * @return {@code true} if the bit is 1, {@code false} if it is 0
+     * @throws BufferUnderflowException if a new byte is needed and none remains
+     */
+    boolean readBit();
+
+    /**
+     * Writes a single bit, most significant bit of each byte first. Call {@link #flushBits()} once the group of bits
+     * is complete.
+     *
+     * @param bit the bit to write
+     * @return this buffer, for method chaining
+     */
+    DataBuffer writeBit(boolean bit);
+
+    /**
+     * Reads up to 32 bits into the low bits of an integer.
+     *
+     * @param numBits the number of bits to read (0 to 32)
+     * @return the value formed by the bits read
+     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 32
+     * @throws BufferUnderflowException if the buffer ends before the bits do
+     */
+    int readBits(int numBits);
+
+    /**
+     * Reads up to 64 bits into the low bits of a long.
+     *
+     * @param numBits the number of bits to read (0 to 64)
+     * @return the value formed by the bits read
+     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 64
+     * @throws BufferUnderflowException if the buffer ends before the bits do
+     */
+    long readLongBits(int numBits);
+
+    /**
+     * Writes the low bits of an integer, most significant of them first.
+     *
+     * @param value   the value whose low bits are written
+     * @param numBits the number of bits to write (0 to 32)
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 32
+     */
+    DataBuffer writeBits(int value, int numBits);
+
+    /**
+     * Writes the low bits of a long, most significant of them first.
+     *
+     * @param value   the value whose low bits are written
+     * @param numBits the number of bits to write (0 to 64)
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 64
+     */
+    DataBuffer writeBits(long value, int numBits);
+
+    /**
+     * Writes any pending bits as a final byte padded with zeros.
+     *
+     * @return this buffer, for method chaining
+     */
+    DataBuffer flushBits();
+
+    /**
+     * Discards the bits remaining from the byte currently being read bit by bit, the reading counterpart of
+     * {@link #flushBits()}.
+     *
+     * @return this buffer, for method chaining
+     */
+    DataBuffer discardBits();
+
+    /**
+     * Reads an unsigned variable-length integer (VarInt) of one to five bytes.
+     *
+     * @return the integer read
+     * @throws BufferUnderflowException if the buffer ends before the VarInt is complete
+     * @throws IllegalStateException    if the VarInt is longer than 5 bytes
+     */
+    int readVarInt();
+
+    /**
+     * Writes an integer as an unsigned variable-length integer (VarInt) of one to five bytes.
+     *
+     * @param value the integer to write
+     * @return this buffer, for method chaining
+     */
+    DataBuffer writeVarInt(int value);
+
+    /**
+     * Reads an unsigned variable-length long (VarLong) of one to ten bytes.
+     *
+     * @return the long read
+     * @throws BufferUnderflowException if the buffer ends before the VarLong is complete
+     * @throws IllegalStateException    if the VarLong is longer than 10 bytes
+     */
+    long readVarLong();
+
+    /**
+     * Writes a long as an unsigned variable-length long (VarLong) of one to ten bytes.
+     *
+     * @param value the long to write
+     * @return this buffer, for method chaining
+     */
+    DataBuffer writeVarLong(long value);
+
+    /**
+     * Reads a signed integer that was ZigZag-encoded and written as a VarInt.
+     *
+     * @return the signed integer read
+     * @throws BufferUnderflowException if the buffer ends before the VarInt is complete
+     * @see #writeSignedVarInt(int)
+     */
+    default int readSignedVarInt() {
+        return DynamicByteBuffer.zigZagDecode(readVarInt());
+    }
+
+    /**
+     * Writes a signed integer as a ZigZag-encoded VarInt, so small negative values take as few bytes as small positive
+     * ones.
+     *
+     * @param value the signed integer to write
+     * @return this buffer, for method chaining
+     */
+    DataBuffer writeSignedVarInt(int value);
+
+    /**
+     * Reads a signed long that was ZigZag-encoded and written as a VarLong.
+     *
+     * @return the signed long read
+     * @throws BufferUnderflowException if the buffer ends before the VarLong is complete
+     * @see #writeSignedVarLong(long)
+     */
+    default long readSignedVarLong() {
+        return DynamicByteBuffer.zigZagDecode(readVarLong());
+    }
+
+    /**
+     * Writes a signed long as a ZigZag-encoded VarLong.
+     *
+     * @param value the signed long to write
+     * @return this buffer, for method chaining
+     */
+    DataBuffer writeSignedVarLong(long value);
+
+    /**
+     * @return the read position, relative to the start of the buffer
+     */
+    int getReadPosition();
+
+    /**
+     * Moves the read position and discards any bits pending from a bit-level read.
+     *
+     * @param position the new read position
+     * @throws IllegalArgumentException if {@code position} is negative or greater than the capacity
+     */
+    void setReadPosition(int position);
+
+    /**
+     * @return the write position, relative to the start of the buffer
+     */
+    int getWritePosition();
+
+    /**
+     * Moves the write position and discards any bits pending from a bit-level write.
+     *
+     * @param position the new write position
+     * @throws IllegalArgumentException if {@code position} is negative or greater than the capacity
+     */
+    void setWritePosition(int position);
+
+    /**
+     * @return {@code true} if the read position is before the end of the buffer
+     */
+    boolean hasRemaining();
+
+    /**
+     * @return the number of bytes from the read position to the end of the buffer
+     */
+    int remainingRead();
+
+    /**
+     * @return the number of bytes from the write position to the end of the buffer
+     */
+    int remainingWrite();
+
+    /**
+     * @return the number of bytes the buffer can currently hold without growing
+     */
+    int capacity();
+
+    /**
+     * Resets both positions and any pending bits, and fills the contents with zeros.
+     *
+     * @return this buffer, for method chaining
+     */
+    DataBuffer clear();
+
+    /**
+     * Resets both positions and any pending bits without modifying the contents.
+     *
+     * @return this buffer, for method chaining
+     */
+    DataBuffer resetPositions();
+}
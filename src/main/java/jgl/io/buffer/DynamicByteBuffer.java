@@ -1,6 +1,21 @@
 package jgl.io.buffer;
 
+import jgl.io.pool.BufferPool;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Objects;
@@ -17,12 +32,16 @@ import java.util.Objects;
  * Key features include:
  * <ul>
  *     <li>Support for reading and writing primitive types with bounds checking.</li>
- *     <li>UTF-8 string handling with an integer length prefix.</li>
- *     <li>Bit-level operations for compact data encoding.</li>
- *     <li>Bulk byte array operations for efficient data transfer.</li>
+ *     <li>UTF-8 string handling with a 16-bit length prefix, encoded and decoded in place.</li>
+ *     <li>Bit-level operations for compact data encoding, packing whole words at a time.</li>
+ *     <li>Variable-length (VarInt) and ZigZag integer encoding for small values.</li>
+ *     <li>Bulk byte and primitive array operations for efficient data transfer.</li>
+ *     <li>Reading from and writing to NIO channels, including scattering and gathering transfers, without copying.</li>
  *     <li>Dynamic resizing of the buffer when write operations exceed capacity.</li>
- *     <li>Utility methods for position management, slicing, and buffer reset.</li>
+ *     <li>Utility methods for position management and buffer reset.</li>
+ *     <li>Zero-copy slices, duplicates and read-only views that share the backing array.</li>
  *     <li>Configurable byte order (big-endian or little-endian) for multi-byte types.</li>
+ *     <li>Byte-order specialized, branch-free implementations through {@link #wrap(byte[], ByteOrder)}.</li>
  * </ul>
  * </p>
  * <p>
@@ -59,12 +78,35 @@ import java.util.Objects;
  * @see java.nio.BufferOverflowException
  * @since April 17th, 2025
  */
-public class DynamicByteBuffer {
+public class DynamicByteBuffer implements DataBuffer {
+
+    /**
+     * Byte-array view handles used for multibyte values, one per element type and byte order.
+     */
+    static final VarHandle SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, java.nio.ByteOrder.BIG_ENDIAN);
+    static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, java.nio.ByteOrder.BIG_ENDIAN);
+    static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, java.nio.ByteOrder.BIG_ENDIAN);
+    static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+    /**
+     * Unaligned floating-point layouts used by the bulk transfer methods. Moving raw float bits through an integer view
+     * handle keeps the JIT from vectorizing the loop, so floating-point arrays are copied as a whole segment instead.
+     */
+    private static final ValueLayout.OfFloat FLOAT_BE = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(java.nio.ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfFloat FLOAT_LE = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(java.nio.ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE_BE = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(java.nio.ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE_LE = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(java.nio.ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * The backing array of released buffers.
+     */
+    private static final byte[] EMPTY = new byte[0];
 
     /**
      * The underlying byte array used to store data.
      */
-    private byte[] buffer;
+    byte[] buffer;
     /**
      * The current position for reading from the buffer.
      */
@@ -92,7 +134,29 @@ public class DynamicByteBuffer {
     /**
      * The byte order used for multibyte data types (default is big-endian).
      */
-    private ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
+    private ByteOrder byteOrder;
+    /**
+     * The index in {@code buffer} of the first byte of this buffer; non-zero only for slices.
+     */
+    private int offset;
+    /**
+     * The index in {@code buffer} one past the last byte that may be read or written.
+     */
+    private int limit;
+    /**
+     * The index in {@code buffer} one past the last byte that may be written without taking the slow path; equal to
+     * {@code limit}, or {@code -1} for read-only buffers so that every write fails its capacity check.
+     */
+    private int writeLimit;
+    /**
+     * Whether the backing array may be replaced by a larger one when a write exceeds the limit; {@code false} for views.
+     */
+    private boolean growable = true;
+    /**
+     * Whether {@code buffer} was obtained from the {@link BufferPool} by this buffer and is not shared with any view,
+     * so that it can be returned to the pool when it is replaced or {@linkplain #release() released}.
+     */
+    private boolean pooled;
 
     /**
      * Constructs a new {@code DynamicByteBuffer} with the specified byte array.
@@ -105,7 +169,80 @@ public class DynamicByteBuffer {
      * @throws NullPointerException if {@code buffer} is {@code null}
      */
     public DynamicByteBuffer(byte[] buffer) {
+        this(buffer, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructs a new {@code DynamicByteBuffer} with the specified byte array and byte order.
+     *
+     * @param buffer the byte array to use as the underlying storage
+     * @param order  the byte order for multibyte data types
+     * @throws NullPointerException if {@code buffer} or {@code order} is {@code null}
+     */
+    DynamicByteBuffer(byte[] buffer, ByteOrder order) {
         this.buffer = Objects.requireNonNull(buffer, "Buffer cannot be null");
+        this.byteOrder = Objects.requireNonNull(order, "Byte order cannot be null");
+        this.limit = buffer.length;
+        this.writeLimit = buffer.length;
+    }
+
+    /**
+     * Constructs a view of {@code source} with the specified byte order.
+     * <p>
+     * The view shares the backing array and bounds of {@code source} and starts at the same read and write positions;
+     * from then on its positions are independent. If either buffer has to grow, it moves to a new array and the two stop
+     * sharing.
+     * </p>
+     *
+     * @param source the buffer to view
+     * @param order  the byte order of the view
+     */
+    DynamicByteBuffer(DynamicByteBuffer source, ByteOrder order) {
+        this(source.buffer, order);
+        source.pooled = false;
+        this.readPosition = source.readPosition;
+        this.writePosition = source.writePosition;
+        this.bitReadBuffer = source.bitReadBuffer;
+        this.bitReadCount = source.bitReadCount;
+        this.bitWriteBuffer = source.bitWriteBuffer;
+        this.bitWriteCount = source.bitWriteCount;
+        this.offset = source.offset;
+        this.limit = source.limit;
+        this.writeLimit = source.writeLimit;
+        this.growable = source.growable;
+    }
+
+    /**
+     * Creates a buffer with a fixed byte order of the specified initial capacity.
+     *
+     * @param capacity the initial capacity in bytes
+     * @param order    the byte order for multibyte data types
+     * @return a new byte-order specialized buffer
+     * @throws NegativeArraySizeException if {@code capacity} is negative
+     * @throws NullPointerException       if {@code order} is {@code null}
+     * @see #wrap(byte[], ByteOrder)
+     */
+    public static DynamicByteBuffer allocate(int capacity, ByteOrder order) {
+        return wrap(new byte[capacity], order);
+    }
+
+    /**
+     * Creates a buffer with a fixed byte order over the specified byte array.
+     * <p>
+     * Every multibyte read and write of a buffer created by this method is compiled for one byte order only, with no
+     * branch on the byte order, so serialization loops that always use the same buffer type stay monomorphic. Calling
+     * {@link #setByteOrder(ByteOrder)} on such a buffer never mutates it; it returns a view in the requested order
+     * instead.
+     * </p>
+     *
+     * @param buffer the byte array to use as the underlying storage
+     * @param order  the byte order for multibyte data types
+     * @return a new byte-order specialized buffer
+     * @throws NullPointerException if {@code buffer} or {@code order} is {@code null}
+     */
+    public static DynamicByteBuffer wrap(byte[] buffer, ByteOrder order) {
+        Objects.requireNonNull(order, "Byte order cannot be null");
+        return order == ByteOrder.BIG_ENDIAN ? new BigEndianByteBuffer(buffer) : new LittleEndianByteBuffer(buffer);
     }
 
     /**
@@ -115,21 +252,39 @@ public class DynamicByteBuffer {
      * (byte, boolean) and bit operations are unaffected. The default byte order is big-endian.
      * </p>
      *
+     * <p>
+     * Buffers created by {@link #wrap(byte[], ByteOrder)} or {@link #allocate(int, ByteOrder)} have a fixed byte order.
+     * For those, this method returns the buffer itself if the order matches, or otherwise a view in the requested order
+     * that shares the same backing array and starts at the same positions.
+     * </p>
+     *
      * @param order the byte order to use ({@link ByteOrder#BIG_ENDIAN} or {@link ByteOrder#LITTLE_ENDIAN})
-     * @return this buffer, for method chaining
+     * @return this buffer, or a view in the requested order for byte-order specialized buffers
      * @throws NullPointerException if {@code order} is {@code null}
      */
+    @Override
     public DynamicByteBuffer setByteOrder(ByteOrder order) {
         this.byteOrder = Objects.requireNonNull(order, "Byte order cannot be null");
         return this;
     }
 
+    /**
+     * Returns the byte order used for multibyte data types.
+     *
+     * @return the current byte order
+     */
+    @Override
+    public ByteOrder getByteOrder() {
+        return byteOrder;
+    }
+
     /**
      * Reads a single byte from the buffer at the current read position and advances the read position.
      *
      * @return the byte value read from the buffer
      * @throws BufferUnderflowException if there are no bytes remaining in the buffer
      */
+    @Override
     public byte readByte() {
         checkRead(1);
         return buffer[readPosition++];
@@ -144,6 +299,7 @@ public class DynamicByteBuffer {
      * @param value the byte value to write
      * @return this buffer, for method chaining
      */
+    @Override
     public DynamicByteBuffer writeByte(byte value) {
         checkWrite(1);
         buffer[writePosition++] = value;
@@ -156,13 +312,12 @@ public class DynamicByteBuffer {
      * @return the character read from the buffer
      * @throws BufferUnderflowException if there are fewer than 2 bytes remaining in the buffer
      */
+    @Override
     public char readChar() {
         checkRead(2);
-        if (byteOrder == ByteOrder.BIG_ENDIAN) {
-            return (char) ((buffer[readPosition++] & 0xFF) << 8 | (buffer[readPosition++] & 0xFF));
-        } else {
-            return (char) ((buffer[readPosition++] & 0xFF) | (buffer[readPosition++] & 0xFF) << 8);
-        }
+        char value = (char) loadShort(readPosition);
+        readPosition += 2;
+        return value;
     }
 
     /**
@@ -174,15 +329,11 @@ public class DynamicByteBuffer {
      * @param value the character to write
      * @return this buffer, for method chaining
      */
+    @Override
     public DynamicByteBuffer writeChar(char value) {
         checkWrite(2);
-        if (byteOrder == ByteOrder.BIG_ENDIAN) {
-            buffer[writePosition++] = (byte) (value >>> 8);
-            buffer[writePosition++] = (byte) value;
-        } else {
-            buffer[writePosition++] = (byte) value;
-            buffer[writePosition++] = (byte) (value >>> 8);
-        }
+        storeShort(writePosition, (short) value);
+        writePosition += 2;
         return this;
     }
 
@@ -192,28 +343,12 @@ public class DynamicByteBuffer {
      * @return the short integer read from the buffer
      * @throws BufferUnderflowException if there are fewer than 2 bytes remaining in the buffer
      */
+    @Override
     public short readShort() {
         checkRead(2);
-        if (byteOrder == ByteOrder.BIG_ENDIAN) {
-            return (short) ((buffer[readPosition++] & 0xFF) << 8 | (buffer[readPosition++] & 0xFF));
-        } else {
-            return (short) ((buffer[readPosition++] & 0xFF) | (buffer[readPosition++] & 0xFF) << 8);
-        }
-    }
-
-    /**
-     * Reads a 16-bit unsigned short integer (2 bytes) from the buffer in the configured byte order and advances the read position.
-     *
-     * @return the unsigned short integer read from the buffer as an int
-     * @throws BufferUnderflowException if there are fewer than 2 bytes remaining in the buffer
-     */
-    public int readUnsignedShort() {
-        checkRead(2);
-        if (byteOrder == ByteOrder.BIG_ENDIAN) {
-            return ((buffer[readPosition++] & 0xFF) << 8) | (buffer[readPosition++] & 0xFF);
-        } else {
-            return (buffer[readPosition++] & 0xFF) | ((buffer[readPosition++] & 0xFF) << 8);
-        }
+        short value = loadShort(readPosition);
+        readPosition += 2;
+        return value;
     }
 
     /**
@@ -226,40 +361,12 @@ public class DynamicByteBuffer {
      * @return this buffer, for method chaining
      * @throws IllegalArgumentException if {@code value} is negative or greater than 65535
      */
+    @Override
     public DynamicByteBuffer writeUnsignedShort(int value) {
         if (value < 0 || value > 0xFFFF) {
             throw new IllegalArgumentException("Unsigned short value must be between 0 and 65535");
         }
-        checkWrite(2);
-        if (byteOrder == ByteOrder.BIG_ENDIAN) {
-            buffer[writePosition++] = (byte) (value >>> 8);
-            buffer[writePosition++] = (byte) value;
-        } else {
-            buffer[writePosition++] = (byte) value;
-            buffer[writePosition++] = (byte) (value >>> 8);
-        }
-        return this;
-    }
-
-    /**
-     * Reads a 32-bit unsigned integer (4 bytes) from the buffer in the configured byte order and advances the read position.
-     *
-     * @return the unsigned integer read from the buffer as a long
-     * @throws BufferUnderflowException if there are fewer than 4 bytes remaining in the buffer
-     */
-    public long readUnsignedInt() {
-        checkRead(4);
-        if (byteOrder == ByteOrder.BIG_ENDIAN) {
-            return ((long) (buffer[readPosition++] & 0xFF) << 24) |
-                    ((buffer[readPosition++] & 0xFF) << 16) |
-                    ((buffer[readPosition++] & 0xFF) << 8) |
-                    (buffer[readPosition++] & 0xFF);
-        } else {
-            return (buffer[readPosition++] & 0xFF) |
-                    ((buffer[readPosition++] & 0xFF) << 8) |
-                    ((buffer[readPosition++] & 0xFF) << 16) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 24);
-        }
+        return writeShort((short) value);
     }
 
     /**
@@ -272,22 +379,11 @@ public class DynamicByteBuffer {
      * @return this buffer, for method chaining
      * @throws IllegalArgumentException if {@code value} is negative or greater than 4294967295
      */
+    @Override
     public DynamicByteBuffer writeUnsignedInt(long value) {
         if (value < 0 || value > 0xFFFFFFFFL)
             throw new IllegalArgumentException("Unsigned int value must be between 0 and 4294967295");
-        checkWrite(4);
-        if (byteOrder == ByteOrder.BIG_ENDIAN) {
-            buffer[writePosition++] = (byte) (value >>> 24);
-            buffer[writePosition++] = (byte) (value >>> 16);
-            buffer[writePosition++] = (byte) (value >>> 8);
-            buffer[writePosition++] = (byte) value;
-        } else {
-            buffer[writePosition++] = (byte) value;
-            buffer[writePosition++] = (byte) (value >>> 8);
-            buffer[writePosition++] = (byte) (value >>> 16);
-            buffer[writePosition++] = (byte) (value >>> 24);
-        }
-        return this;
+        return writeInt((int) value);
     }
 
     /**
@@ -299,15 +395,11 @@ public class DynamicByteBuffer {
      * @param value the short integer to write
      * @return this buffer, for method chaining
      */
+    @Override
     public DynamicByteBuffer writeShort(short value) {
         checkWrite(2);
-        if (byteOrder == ByteOrder.BIG_ENDIAN) {
-            buffer[writePosition++] = (byte) (value >>> 8);
-            buffer[writePosition++] = (byte) value;
-        } else {
-            buffer[writePosition++] = (byte) value;
-            buffer[writePosition++] = (byte) (value >>> 8);
-        }
+        storeShort(writePosition, value);
+        writePosition += 2;
         return this;
     }
 
@@ -317,19 +409,12 @@ public class DynamicByteBuffer {
      * @return the integer read from the buffer
      * @throws BufferUnderflowException if there are fewer than 4 bytes remaining in the buffer
      */
+    @Override
     public int readInt() {
         checkRead(4);
-        if (byteOrder == ByteOrder.BIG_ENDIAN) {
-            return ((buffer[readPosition++] & 0xFF) << 24) |
-                    ((buffer[readPosition++] & 0xFF) << 16) |
-                    ((buffer[readPosition++] & 0xFF) << 8) |
-                    (buffer[readPosition++] & 0xFF);
-        } else {
-            return (buffer[readPosition++] & 0xFF) |
-                    ((buffer[readPosition++] & 0xFF) << 8) |
-                    ((buffer[readPosition++] & 0xFF) << 16) |
-                    ((buffer[readPosition++] & 0xFF) << 24);
-        }
+        int value = loadInt(readPosition);
+        readPosition += 4;
+        return value;
     }
 
     /**
@@ -341,19 +426,11 @@ public class DynamicByteBuffer {
      * @param value the integer to write
      * @return this buffer, for method chaining
      */
+    @Override
     public DynamicByteBuffer writeInt(int value) {
         checkWrite(4);
-        if (byteOrder == ByteOrder.BIG_ENDIAN) {
-            buffer[writePosition++] = (byte) (value >>> 24);
-            buffer[writePosition++] = (byte) (value >>> 16);
-            buffer[writePosition++] = (byte) (value >>> 8);
-            buffer[writePosition++] = (byte) value;
-        } else {
-            buffer[writePosition++] = (byte) value;
-            buffer[writePosition++] = (byte) (value >>> 8);
-            buffer[writePosition++] = (byte) (value >>> 16);
-            buffer[writePosition++] = (byte) (value >>> 24);
-        }
+        storeInt(writePosition, value);
+        writePosition += 4;
         return this;
     }
 
@@ -363,27 +440,12 @@ public class DynamicByteBuffer {
      * @return the long integer read from the buffer
      * @throws BufferUnderflowException if there are fewer than 8 bytes remaining in the buffer
      */
+    @Override
     public long readLong() {
         checkRead(8);
-        if (byteOrder == ByteOrder.BIG_ENDIAN) {
-            return ((long) (buffer[readPosition++] & 0xFF) << 56) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 48) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 40) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 32) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 24) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 16) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 8) |
-                    ((long) (buffer[readPosition++] & 0xFF));
-        } else {
-            return ((long) (buffer[readPosition++] & 0xFF)) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 8) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 16) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 24) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 32) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 40) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 48) |
-                    ((long) (buffer[readPosition++] & 0xFF) << 56);
-        }
+        long value = loadLong(readPosition);
+        readPosition += 8;
+        return value;
     }
 
     /**
@@ -395,27 +457,11 @@ public class DynamicByteBuffer {
      * @param value the long integer to write
      * @return this buffer, for method chaining
      */
+    @Override
     public DynamicByteBuffer writeLong(long value) {
         checkWrite(8);
-        if (byteOrder == ByteOrder.BIG_ENDIAN) {
-            buffer[writePosition++] = (byte) (value >>> 56);
-            buffer[writePosition++] = (byte) (value >>> 48);
-            buffer[writePosition++] = (byte) (value >>> 40);
-            buffer[writePosition++] = (byte) (value >>> 32);
-            buffer[writePosition++] = (byte) (value >>> 24);
-            buffer[writePosition++] = (byte) (value >>> 16);
-            buffer[writePosition++] = (byte) (value >>> 8);
-            buffer[writePosition++] = (byte) value;
-        } else {
-            buffer[writePosition++] = (byte) value;
-            buffer[writePosition++] = (byte) (value >>> 8);
-            buffer[writePosition++] = (byte) (value >>> 16);
-            buffer[writePosition++] = (byte) (value >>> 24);
-            buffer[writePosition++] = (byte) (value >>> 32);
-            buffer[writePosition++] = (byte) (value >>> 40);
-            buffer[writePosition++] = (byte) (value >>> 48);
-            buffer[writePosition++] = (byte) (value >>> 56);
-        }
+        storeLong(writePosition, value);
+        writePosition += 8;
         return this;
     }
 
@@ -426,6 +472,7 @@ public class DynamicByteBuffer {
      * @throws BufferUnderflowException if there are fewer than 4 bytes remaining in the buffer
      * @see Float#intBitsToFloat(int)
      */
+    @Override
     public float readFloat() {
         return Float.intBitsToFloat(readInt());
     }
@@ -440,6 +487,7 @@ public class DynamicByteBuffer {
      * @return this buffer, for method chaining
      * @see Float#floatToIntBits(float)
      */
+    @Override
     public DynamicByteBuffer writeFloat(float value) {
         return writeInt(Float.floatToIntBits(value));
     }
@@ -451,6 +499,7 @@ public class DynamicByteBuffer {
      * @throws BufferUnderflowException if there are fewer than 8 bytes remaining in the buffer
      * @see Double#longBitsToDouble(long)
      */
+    @Override
     public double readDouble() {
         return Double.longBitsToDouble(readLong());
     }
@@ -465,6 +514,7 @@ public class DynamicByteBuffer {
      * @return this buffer, for method chaining
      * @see Double#doubleToLongBits(double)
      */
+    @Override
     public DynamicByteBuffer writeDouble(double value) {
         return writeLong(Double.doubleToLongBits(value));
     }
@@ -475,6 +525,7 @@ public class DynamicByteBuffer {
      * @return the boolean value read from the buffer
      * @throws BufferUnderflowException if there are no bytes remaining in the buffer
      */
+    @Override
     public boolean readBoolean() {
         checkRead(1);
         return buffer[readPosition++] != 0;
@@ -489,6 +540,7 @@ public class DynamicByteBuffer {
      * @param value the boolean value to write
      * @return this buffer, for method chaining
      */
+    @Override
     public DynamicByteBuffer writeBoolean(boolean value) {
         checkWrite(1);
         buffer[writePosition++] = (byte) (value ? 1 : 0);
@@ -498,49 +550,191 @@ public class DynamicByteBuffer {
     /**
      * Reads a UTF-8 encoded string from the buffer.
      * <p>
-     * The string is prefixed with a 32-bit integer (in the configured byte order) indicating the number of bytes in the encoded string.
-     * The method reads this length, then reads the specified number of bytes and decodes them as a UTF-8 string.
+     * The string is prefixed with a 16-bit length (in the configured byte order) indicating the number of bytes in the
+     * encoded string. The bytes are decoded straight from the backing array, without an intermediate copy.
      * </p>
      *
      * @return the string read from the buffer
-     * @throws BufferUnderflowException if there are not enough bytes to read the length or the string data
-     * @throws IllegalArgumentException if the length is negative
+     * @throws BufferUnderflowException if there are not enough bytes to read the length or the string data, or if the
+     *                                  length is negative
      */
+    @Override
     public String readString() {
         int length = readShort();
         if (length < 0)
             throw new BufferUnderflowException();
         checkRead(length);
-        byte[] bytes = new byte[length];
-        System.arraycopy(buffer, readPosition, bytes, 0, length);
+        String value = new String(buffer, readPosition, length, StandardCharsets.UTF_8);
         readPosition += length;
-        return new String(bytes, StandardCharsets.UTF_8);
+        return value;
+    }
+
+    /**
+     * Reads a UTF-8 encoded string from the buffer and appends its characters to the specified builder.
+     * <p>
+     * The format is the same as {@link #readString()}, but no {@code String} is created, so a reused builder makes
+     * string decoding allocation-free. Runs of ASCII bytes are appended directly; malformed sequences are replaced with
+     * {@code U+FFFD}.
+     * </p>
+     *
+     * @param destination the builder to append the decoded characters to
+     * @return {@code destination}, for method chaining
+     * @throws NullPointerException     if {@code destination} is {@code null}
+     * @throws BufferUnderflowException if there are not enough bytes to read the length or the string data, or if the
+     *                                  length is negative
+     */
+    public StringBuilder readString(StringBuilder destination) {
+        Objects.requireNonNull(destination, "Destination cannot be null");
+        int length = readShort();
+        if (length < 0)
+            throw new BufferUnderflowException();
+        checkRead(length);
+
+        int position = readPosition;
+        int end = position + length;
+        while (position < end) {
+            int b = buffer[position] & 0xFF;
+            if (b < 0x80) {
+                destination.append((char) b);
+                position++;
+                continue;
+            }
+
+            // Lead bytes and the valid range of the second byte, per the well-formed sequences of the Unicode standard
+            int size, low = 0x80, high = 0xBF;
+            if (b >= 0xC2 && b <= 0xDF) {
+                size = 2;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                size = 3;
+                if (b == 0xE0) low = 0xA0;
+                if (b == 0xED) high = 0x9F;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                size = 4;
+                if (b == 0xF0) low = 0x90;
+                if (b == 0xF4) high = 0x8F;
+            } else {
+                destination.append('\uFFFD');
+                position++;
+                continue;
+            }
+
+            int codePoint = b & (0x7F >> size);
+            int i = 1;
+            for (; i < size && position + i < end; i++) {
+                int next = buffer[position + i] & 0xFF;
+                if (i == 1 ? next < low || next > high : (next & 0xC0) != 0x80)
+                    break;
+                codePoint = (codePoint << 6) | (next & 0x3F);
+            }
+            if (i < size) {
+                destination.append('\uFFFD');
+                position += i;
+                continue;
+            }
+            destination.appendCodePoint(codePoint);
+            position += size;
+        }
+        readPosition = end;
+        return destination;
     }
 
     /**
      * Writes a UTF-8 encoded string to the buffer.
      * <p>
-     * The string is encoded as UTF-8 bytes, and the length of these bytes is written as a 32-bit integer (in the configured byte order)
-     * before the bytes themselves. If the buffer is too small, it is dynamically resized to accommodate the write operation.
+     * The length of the encoded string is written as a 16-bit value (in the configured byte order) before the bytes
+     * themselves. Characters are encoded straight into the backing array: runs of ASCII characters take a one byte per
+     * character fast path, and unpaired surrogates are written as {@code '?'}, as {@link String#getBytes} does. If the
+     * buffer is too small, it is dynamically resized to accommodate the write operation.
      * </p>
      *
      * @param value the string to write
      * @return this buffer, for method chaining
-     * @throws IllegalArgumentException if {@code value} is {@code null}
+     * @throws IllegalArgumentException if {@code value} is {@code null} or its encoding is longer than 32767 bytes
      */
+    @Override
     public DynamicByteBuffer writeString(String value) {
         if (value == null)
             throw new IllegalArgumentException("String cannot be null");
 
-        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
-        checkWrite(4 + bytes.length);
-        writeShort((short) bytes.length);
-        for (byte b : bytes) {
-            buffer[writePosition++] = b;
-        }
+        int length = utf8Length(value);
+        if (length > Short.MAX_VALUE)
+            throw new IllegalArgumentException("String is too long");
+        checkWrite(2 + length);
+        storeShort(writePosition, (short) length);
+        writePosition = encodeUtf8(value, buffer, writePosition + 2);
         return this;
     }
 
+    /**
+     * Returns the number of bytes needed to encode the specified characters as UTF-8, not counting any length prefix.
+     * <p>
+     * Unpaired surrogates count as one byte, matching {@link #writeString(String)}.
+     * </p>
+     *
+     * @param value the characters to measure
+     * @return the encoded length in bytes
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static int utf8Length(CharSequence value) {
+        int count = value.length();
+        int length = count;
+        int i = 0;
+        while (i < count && value.charAt(i) < 0x80)
+            i++;
+        for (; i < count; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80)
+                continue;
+            if (c < 0x800) {
+                length++;
+            } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                length += 2;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Encodes the specified string as UTF-8 into an array.
+     *
+     * @param value    the string to encode
+     * @param target   the array to encode into, which must have room for {@link #utf8Length(CharSequence)} bytes
+     * @param position the index of the first byte to write
+     * @return the index one past the last byte written
+     */
+    static int encodeUtf8(String value, byte[] target, int position) {
+        int count = value.length();
+        int i = 0;
+        for (char c; i < count && (c = value.charAt(i)) < 0x80; i++)
+            target[position++] = (byte) c;
+
+        for (; i < count; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                target[position++] = (byte) c;
+            } else if (c < 0x800) {
+                target[position++] = (byte) (0xC0 | (c >> 6));
+                target[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                target[position++] = (byte) (0xF0 | (codePoint >> 18));
+                target[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                target[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                target[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                target[position++] = '?';
+            } else {
+                target[position++] = (byte) (0xE0 | (c >> 12));
+                target[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                target[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+
     /**
      * Reads a specified number of bytes from the buffer into a new byte array and advances the read position.
      *
@@ -549,6 +743,7 @@ public class DynamicByteBuffer {
      * @throws BufferUnderflowException if there are fewer than {@code length} bytes remaining in the buffer
      * @throws IllegalArgumentException if {@code length} is negative
      */
+    @Override
     public byte[] readBytes(int length) {
         checkRead(length);
         byte[] bytes = new byte[length];
@@ -557,6 +752,30 @@ public class DynamicByteBuffer {
         return bytes;
     }
 
+    /**
+     * Reads bytes from the buffer into a portion of the specified array and advances the read position.
+     *
+     * @param bytes  the array to read into
+     * @param offset the index in {@code bytes} of the first byte to fill
+     * @param length the number of bytes to read
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code bytes} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length} bytes remaining in the buffer
+     */
+    @Override
+    public DynamicByteBuffer readBytes(byte[] bytes, int offset, int length) {
+        Objects.requireNonNull(bytes, "Byte array cannot be null");
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IllegalArgumentException("Invalid offset or length");
+        }
+        checkRead(length);
+        System.arraycopy(buffer, readPosition, bytes, offset, length);
+        readPosition += length;
+        return this;
+    }
+
     /**
      * Writes all bytes from the specified byte array to the buffer and advances the write position.
      * <p>
@@ -567,6 +786,7 @@ public class DynamicByteBuffer {
      * @return this buffer, for method chaining
      * @throws NullPointerException if {@code bytes} is {@code null}
      */
+    @Override
     public DynamicByteBuffer writeBytes(byte[] bytes) {
         return writeBytes(bytes, 0, bytes.length);
     }
@@ -585,6 +805,7 @@ public class DynamicByteBuffer {
      * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
      *                                  {@code offset + length} exceeds the array length
      */
+    @Override
     public DynamicByteBuffer writeBytes(byte[] bytes, int offset, int length) {
         Objects.requireNonNull(bytes, "Byte array cannot be null");
         if (offset < 0 || length < 0 || offset + length > bytes.length) {
@@ -597,106 +818,648 @@ public class DynamicByteBuffer {
     }
 
     /**
-     * Reads a single bit from the buffer and advances the bit position.
+     * Reads bytes from a channel into this buffer at the write position with a single {@code read} call, and advances
+     * the write position by the number of bytes read.
      * <p>
-     * Bits are read from bytes in most-significant-bit-first order. When the bit buffer is empty, a new byte is read from
-     * the buffer, and 8 bits are available for reading.
+     * The channel reads straight into the backing array through a heap {@link ByteBuffer} wrapper; nothing is copied.
+     * The buffer is grown first if fewer than {@code maxBytes} bytes are writable.
      * </p>
      *
-     * @return {@code true} if the bit is 1, {@code false} if the bit is 0
-     * @throws BufferUnderflowException if there are no bytes remaining in the buffer when a new byte is needed
+     * @param channel  the channel to read from
+     * @param maxBytes the maximum number of bytes to read
+     * @return the number of bytes read, possibly 0, or -1 if the channel has reached end-of-stream
+     * @throws NullPointerException     if {@code channel} is {@code null}
+     * @throws IllegalArgumentException if {@code maxBytes} is negative
+     * @throws ReadOnlyBufferException  if this buffer is read-only
+     * @throws BufferOverflowException  if this buffer is a view with fewer than {@code maxBytes} writable bytes
+     * @throws IOException              if the channel fails to read
      */
-    public boolean readBit() {
-        if (bitReadCount == 0) {
-            checkRead(1);
-            bitReadBuffer = buffer[readPosition++] & 0xFF;
-            bitReadCount = 8;
-        }
-        boolean bit = ((bitReadBuffer >> (bitReadCount - 1)) & 1) == 1;
-        bitReadCount--;
-        return bit;
+    @Override
+    public int readFrom(ReadableByteChannel channel, int maxBytes) throws IOException {
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        if (maxBytes < 0)
+            throw new IllegalArgumentException("Maximum bytes cannot be negative");
+        checkWrite(maxBytes);
+        int read = channel.read(ByteBuffer.wrap(buffer, writePosition, maxBytes));
+        if (read > 0)
+            writePosition += read;
+        return read;
     }
 
     /**
-     * Writes a single bit to the buffer and advances the bit position.
-     * <p>
-     * Bits are accumulated in the bit write buffer in the most-significant-bit-first order. When 8 bits are accumulated, they
-     * are written as a byte to the buffer, and the bit buffer is cleared. If the buffer is too small, it is dynamically
-     * resized to accommodate the write operation.
-     * </p>
+     * Reads exactly {@code length} bytes from a channel into this buffer at the write position, calling {@code read}
+     * as many times as needed, and advances the write position.
      *
-     * @param bit the bit to write ({@code true} for 1, {@code false} for 0)
+     * @param channel the channel to read from
+     * @param length  the number of bytes to read
      * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code channel} is {@code null}
+     * @throws IllegalArgumentException if {@code length} is negative
+     * @throws EOFException             if the channel reaches end-of-stream first
+     * @throws IOException              if the channel fails to read
      */
-    public DynamicByteBuffer writeBit(boolean bit) {
-        bitWriteBuffer = (bitWriteBuffer << 1) | (bit ? 1 : 0);
-        bitWriteCount++;
-        if (bitWriteCount == 8) {
-            checkWrite(1);
-            buffer[writePosition++] = (byte) bitWriteBuffer;
-            bitWriteBuffer = 0;
-            bitWriteCount = 0;
+    public DynamicByteBuffer readFully(ReadableByteChannel channel, int length) throws IOException {
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        if (length < 0)
+            throw new IllegalArgumentException("Length cannot be negative");
+        checkWrite(length);
+        ByteBuffer target = ByteBuffer.wrap(buffer, writePosition, length);
+        while (target.hasRemaining()) {
+            if (channel.read(target) < 0)
+                throw new EOFException();
         }
+        writePosition += length;
         return this;
     }
 
     /**
-     * Reads a specified number of bits from the buffer and returns them as an integer.
+     * Writes the bytes between the read and write positions to a channel and advances the read position past the bytes
+     * written.
      * <p>
-     * The bits are read in most-significant-bit-first order and assembled into the lower bits of the returned integer.
-     * For example, reading 3 bits with values 1, 0, 1 returns the integer 5 (binary 101).
+     * The channel reads straight from the backing array; nothing is copied. Pending bits must be flushed with
+     * {@link #flushBits()} beforehand to be included. The method keeps writing until every byte has been written or the
+     * channel accepts nothing, as a non-blocking channel may.
      * </p>
      *
-     * @param numBits the number of bits to read (0 to 32)
-     * @return the integer value formed by the read bits
-     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 32
-     * @throws BufferUnderflowException if there are insufficient bytes to read the required bits
+     * @param channel the channel to write to
+     * @return the number of bytes written
+     * @throws NullPointerException if {@code channel} is {@code null}
+     * @throws IOException          if the channel fails to write
      */
-    public int readBits(int numBits) {
-        if (numBits < 0 || numBits > 32)
-            throw new IllegalArgumentException("Number of bits must be between 0 and 32");
-
-        int result = 0;
-        for (int i = 0; i < numBits; i++)
-            result = (result << 1) | (readBit() ? 1 : 0);
-
-        return result;
+    @Override
+    public int writeTo(WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        ByteBuffer source = ByteBuffer.wrap(buffer, readPosition, Math.max(0, writePosition - readPosition));
+        while (source.hasRemaining()) {
+            if (channel.write(source) <= 0)
+                break;
+        }
+        int written = source.position() - readPosition;
+        readPosition += written;
+        return written;
     }
 
     /**
-     * Writes a specified number of bits from an integer to the buffer.
+     * Writes the pending bytes of several buffers to a channel with gathering writes.
      * <p>
-     * The bits are taken from the lower {@code numBits} of the {@code value} parameter and written in
-     * most-significant-bit-first order. For example, writing the value 5 (binary 101) with {@code numBits=3} writes
-     * the bits 1, 0, 1.
+     * For every buffer, the bytes between its read and write positions are written in order, and its read position is
+     * advanced past the bytes that were written. A typical use is sending a header and a body kept in separate buffers
+     * with one system call.
      * </p>
      *
-     * @param value   the integer containing the bits to write
-     * @param numBits the number of bits to write (0 to 32)
-     * @return this buffer, for method chaining
-     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 32
+     * @param channel the channel to write to
+     * @param buffers the buffers to write
+     * @return the total number of bytes written
+     * @throws NullPointerException if {@code channel} or any buffer is {@code null}
+     * @throws IOException          if the channel fails to write
+     * @see #writeTo(WritableByteChannel)
      */
-    public DynamicByteBuffer writeBits(int value, int numBits) {
-        if (numBits < 0 || numBits > 32)
-            throw new IllegalArgumentException("Number of bits must be between 0 and 32");
-
-        for (int i = numBits - 1; i >= 0; i--)
-            writeBit(((value >>> i) & 1) == 1);
+    public static long gatherTo(GatheringByteChannel channel, DynamicByteBuffer... buffers) throws IOException {
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        ByteBuffer[] sources = new ByteBuffer[buffers.length];
+        long remaining = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            DynamicByteBuffer buffer = buffers[i];
+            int length = Math.max(0, buffer.writePosition - buffer.readPosition);
+            sources[i] = ByteBuffer.wrap(buffer.buffer, buffer.readPosition, length);
+            remaining += length;
+        }
 
-        return this;
+        long total = 0;
+        while (total < remaining) {
+            long written = channel.write(sources);
+            if (written <= 0)
+                break;
+            total += written;
+        }
+        for (int i = 0; i < buffers.length; i++)
+            buffers[i].readPosition = sources[i].position();
+        return total;
     }
 
     /**
-     * Flushes any remaining bits in the bit write buffer to the byte buffer, padding with zeros if necessary.
+     * Reads from a channel into several buffers with a single scattering read.
      * <p>
-     * If fewer than 8 bits are in the bit write buffer, they are shifted left to align with the most significant bits of
-     * a byte, and the byte is written to the buffer. This method should be called after writing bits to ensure all bits are
-     * persisted. If the buffer is too small, it is dynamically resized to accommodate the write operation.
+     * Bytes fill the writable space of each buffer in order, from its write position to the end of its current
+     * capacity, and each write position is advanced by the bytes it received. Buffers are not grown, so the capacities
+     * define how the input is split; this suits fixed-size headers followed by a payload.
      * </p>
      *
-     * @return this buffer, for method chaining
+     * @param channel the channel to read from
+     * @param buffers the buffers to read into
+     * @return the number of bytes read, possibly 0, or -1 if the channel has reached end-of-stream
+     * @throws NullPointerException    if {@code channel} or any buffer is {@code null}
+     * @throws ReadOnlyBufferException if any buffer is read-only
+     * @throws IOException             if the channel fails to read
      */
-    public DynamicByteBuffer flushBits() {
+    public static long scatterFrom(ScatteringByteChannel channel, DynamicByteBuffer... buffers) throws IOException {
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        ByteBuffer[] targets = new ByteBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            DynamicByteBuffer buffer = buffers[i];
+            if (buffer.isReadOnly())
+                throw new ReadOnlyBufferException();
+            targets[i] = ByteBuffer.wrap(buffer.buffer, buffer.writePosition, buffer.remainingWrite());
+        }
+
+        long read = channel.read(targets);
+        for (int i = 0; i < buffers.length; i++)
+            buffers[i].writePosition = targets[i].position();
+        return read;
+    }
+
+    /**
+     * Reads {@code length} 16-bit short integers from the buffer into the specified array in the configured byte order and
+     * advances the read position.
+     * <p>
+     * The whole range is bounds-checked once and each element is transferred with a single byte-array view access,
+     * instead of calling {@link #readShort()} for every element.
+     * </p>
+     *
+     * @param values the array to read into
+     * @param offset the index in {@code values} of the first element to fill
+     * @param length the number of elements to read
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code values} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length * 2} bytes remaining in the buffer
+     */
+    @Override
+    public DynamicByteBuffer readShorts(short[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkRead(length << 1);
+        int position = readPosition;
+        if (byteOrder == ByteOrder.BIG_ENDIAN) {
+            for (int i = offset, end = offset + length; i < end; i++, position += 2)
+                values[i] = (short) SHORT_BE.get(buffer, position);
+        } else {
+            for (int i = offset, end = offset + length; i < end; i++, position += 2)
+                values[i] = (short) SHORT_LE.get(buffer, position);
+        }
+        readPosition = position;
+        return this;
+    }
+
+    /**
+     * Writes {@code length} 16-bit short integers from the specified array to the buffer in the configured byte order and
+     * advances the write position.
+     * <p>
+     * Capacity is ensured once for the whole range and each element is transferred with a single byte-array view
+     * access, instead of calling {@link #writeShort(short)} for every element.
+     * </p>
+     *
+     * @param values the array to write
+     * @param offset the index in {@code values} of the first element to write
+     * @param length the number of elements to write
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code values} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     */
+    @Override
+    public DynamicByteBuffer writeShorts(short[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkWrite(length << 1);
+        int position = writePosition;
+        if (byteOrder == ByteOrder.BIG_ENDIAN) {
+            for (int i = offset, end = offset + length; i < end; i++, position += 2)
+                SHORT_BE.set(buffer, position, values[i]);
+        } else {
+            for (int i = offset, end = offset + length; i < end; i++, position += 2)
+                SHORT_LE.set(buffer, position, values[i]);
+        }
+        writePosition = position;
+        return this;
+    }
+
+    /**
+     * Reads {@code length} 32-bit integers from the buffer into the specified array in the configured byte order and
+     * advances the read position.
+     * <p>
+     * The whole range is bounds-checked once and each element is transferred with a single byte-array view access,
+     * instead of calling {@link #readInt()} for every element.
+     * </p>
+     *
+     * @param values the array to read into
+     * @param offset the index in {@code values} of the first element to fill
+     * @param length the number of elements to read
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code values} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length * 4} bytes remaining in the buffer
+     */
+    @Override
+    public DynamicByteBuffer readInts(int[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkRead(length << 2);
+        int position = readPosition;
+        if (byteOrder == ByteOrder.BIG_ENDIAN) {
+            for (int i = offset, end = offset + length; i < end; i++, position += 4)
+                values[i] = (int) INT_BE.get(buffer, position);
+        } else {
+            for (int i = offset, end = offset + length; i < end; i++, position += 4)
+                values[i] = (int) INT_LE.get(buffer, position);
+        }
+        readPosition = position;
+        return this;
+    }
+
+    /**
+     * Writes {@code length} 32-bit integers from the specified array to the buffer in the configured byte order and
+     * advances the write position.
+     * <p>
+     * Capacity is ensured once for the whole range and each element is transferred with a single byte-array view
+     * access, instead of calling {@link #writeInt(int)} for every element.
+     * </p>
+     *
+     * @param values the array to write
+     * @param offset the index in {@code values} of the first element to write
+     * @param length the number of elements to write
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code values} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     */
+    @Override
+    public DynamicByteBuffer writeInts(int[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkWrite(length << 2);
+        int position = writePosition;
+        if (byteOrder == ByteOrder.BIG_ENDIAN) {
+            for (int i = offset, end = offset + length; i < end; i++, position += 4)
+                INT_BE.set(buffer, position, values[i]);
+        } else {
+            for (int i = offset, end = offset + length; i < end; i++, position += 4)
+                INT_LE.set(buffer, position, values[i]);
+        }
+        writePosition = position;
+        return this;
+    }
+
+    /**
+     * Reads {@code length} 64-bit long integers from the buffer into the specified array in the configured byte order and
+     * advances the read position.
+     * <p>
+     * The whole range is bounds-checked once and each element is transferred with a single byte-array view access,
+     * instead of calling {@link #readLong()} for every element.
+     * </p>
+     *
+     * @param values the array to read into
+     * @param offset the index in {@code values} of the first element to fill
+     * @param length the number of elements to read
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code values} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length * 8} bytes remaining in the buffer
+     */
+    @Override
+    public DynamicByteBuffer readLongs(long[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkRead(length << 3);
+        int position = readPosition;
+        if (byteOrder == ByteOrder.BIG_ENDIAN) {
+            for (int i = offset, end = offset + length; i < end; i++, position += 8)
+                values[i] = (long) LONG_BE.get(buffer, position);
+        } else {
+            for (int i = offset, end = offset + length; i < end; i++, position += 8)
+                values[i] = (long) LONG_LE.get(buffer, position);
+        }
+        readPosition = position;
+        return this;
+    }
+
+    /**
+     * Writes {@code length} 64-bit long integers from the specified array to the buffer in the configured byte order and
+     * advances the write position.
+     * <p>
+     * Capacity is ensured once for the whole range and each element is transferred with a single byte-array view
+     * access, instead of calling {@link #writeLong(long)} for every element.
+     * </p>
+     *
+     * @param values the array to write
+     * @param offset the index in {@code values} of the first element to write
+     * @param length the number of elements to write
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code values} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     */
+    @Override
+    public DynamicByteBuffer writeLongs(long[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkWrite(length << 3);
+        int position = writePosition;
+        if (byteOrder == ByteOrder.BIG_ENDIAN) {
+            for (int i = offset, end = offset + length; i < end; i++, position += 8)
+                LONG_BE.set(buffer, position, values[i]);
+        } else {
+            for (int i = offset, end = offset + length; i < end; i++, position += 8)
+                LONG_LE.set(buffer, position, values[i]);
+        }
+        writePosition = position;
+        return this;
+    }
+
+    /**
+     * Reads {@code length} 32-bit floating-point numbers from the buffer into the specified array in the configured byte order and
+     * advances the read position.
+     * <p>
+     * The whole range is checked once and transferred as a single bulk copy between the array and the backing storage,
+     * swapping bytes during the copy when the configured order differs from the platform order.
+     * </p>
+     *
+     * @param values the array to read into
+     * @param offset the index in {@code values} of the first element to fill
+     * @param length the number of elements to read
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code values} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length * 4} bytes remaining in the buffer
+     */
+    @Override
+    public DynamicByteBuffer readFloats(float[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkRead(length << 2);
+        MemorySegment.copy(MemorySegment.ofArray(buffer), byteOrder == ByteOrder.BIG_ENDIAN ? FLOAT_BE : FLOAT_LE, readPosition, values, offset, length);
+        readPosition += length << 2;
+        return this;
+    }
+
+    /**
+     * Writes {@code length} 32-bit floating-point numbers from the specified array to the buffer in the configured byte order and
+     * advances the write position.
+     * <p>
+     * The whole range is checked once and transferred as a single bulk copy between the array and the backing storage,
+     * swapping bytes during the copy when the configured order differs from the platform order.
+     * </p>
+     *
+     * @param values the array to write
+     * @param offset the index in {@code values} of the first element to write
+     * @param length the number of elements to write
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code values} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     */
+    @Override
+    public DynamicByteBuffer writeFloats(float[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkWrite(length << 2);
+        MemorySegment.copy(values, offset, MemorySegment.ofArray(buffer), byteOrder == ByteOrder.BIG_ENDIAN ? FLOAT_BE : FLOAT_LE, writePosition, length);
+        writePosition += length << 2;
+        return this;
+    }
+
+    /**
+     * Reads {@code length} 64-bit floating-point numbers from the buffer into the specified array in the configured byte order and
+     * advances the read position.
+     * <p>
+     * The whole range is checked once and transferred as a single bulk copy between the array and the backing storage,
+     * swapping bytes during the copy when the configured order differs from the platform order.
+     * </p>
+     *
+     * @param values the array to read into
+     * @param offset the index in {@code values} of the first element to fill
+     * @param length the number of elements to read
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code values} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length * 8} bytes remaining in the buffer
+     */
+    @Override
+    public DynamicByteBuffer readDoubles(double[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkRead(length << 3);
+        MemorySegment.copy(MemorySegment.ofArray(buffer), byteOrder == ByteOrder.BIG_ENDIAN ? DOUBLE_BE : DOUBLE_LE, readPosition, values, offset, length);
+        readPosition += length << 3;
+        return this;
+    }
+
+    /**
+     * Writes {@code length} 64-bit floating-point numbers from the specified array to the buffer in the configured byte order and
+     * advances the write position.
+     * <p>
+     * The whole range is checked once and transferred as a single bulk copy between the array and the backing storage,
+     * swapping bytes during the copy when the configured order differs from the platform order.
+     * </p>
+     *
+     * @param values the array to write
+     * @param offset the index in {@code values} of the first element to write
+     * @param length the number of elements to write
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code values} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     */
+    @Override
+    public DynamicByteBuffer writeDoubles(double[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkWrite(length << 3);
+        MemorySegment.copy(values, offset, MemorySegment.ofArray(buffer), byteOrder == ByteOrder.BIG_ENDIAN ? DOUBLE_BE : DOUBLE_LE, writePosition, length);
+        writePosition += length << 3;
+        return this;
+    }
+
+    /**
+     * Reads a single bit from the buffer and advances the bit position.
+     * <p>
+     * Bits are read from bytes in most-significant-bit-first order. When the bit buffer is empty, a new byte is read from
+     * the buffer, and 8 bits are available for reading.
+     * </p>
+     *
+     * @return {@code true} if the bit is 1, {@code false} if the bit is 0
+     * @throws BufferUnderflowException if there are no bytes remaining in the buffer when a new byte is needed
+     */
+    @Override
+    public boolean readBit() {
+        if (bitReadCount == 0) {
+            checkRead(1);
+            bitReadBuffer = buffer[readPosition++] & 0xFF;
+            bitReadCount = 8;
+        }
+        boolean bit = ((bitReadBuffer >> (bitReadCount - 1)) & 1) == 1;
+        bitReadCount--;
+        return bit;
+    }
+
+    /**
+     * Writes a single bit to the buffer and advances the bit position.
+     * <p>
+     * Bits are accumulated in the bit write buffer in the most-significant-bit-first order. When 8 bits are accumulated, they
+     * are written as a byte to the buffer, and the bit buffer is cleared. If the buffer is too small, it is dynamically
+     * resized to accommodate the write operation.
+     * </p>
+     *
+     * @param bit the bit to write ({@code true} for 1, {@code false} for 0)
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public DynamicByteBuffer writeBit(boolean bit) {
+        bitWriteBuffer = (bitWriteBuffer << 1) | (bit ? 1 : 0);
+        bitWriteCount++;
+        if (bitWriteCount == 8) {
+            checkWrite(1);
+            buffer[writePosition++] = (byte) bitWriteBuffer;
+            bitWriteBuffer = 0;
+            bitWriteCount = 0;
+        }
+        return this;
+    }
+
+    /**
+     * Reads a specified number of bits from the buffer and returns them as an integer.
+     * <p>
+     * The bits are read in most-significant-bit-first order and assembled into the lower bits of the returned integer.
+     * For example, reading 3 bits with values 1, 0, 1 returns the integer 5 (binary 101).
+     * </p>
+     * <p>
+     * Rather than reading one bit at a time, the pending bits of the current byte and every whole byte needed are
+     * gathered into a 64-bit accumulator with a single bounds check, and the result is extracted with one shift. The
+     * bit layout is identical to reading the same number of bits through {@link #readBit()}.
+     * </p>
+     *
+     * @param numBits the number of bits to read (0 to 32)
+     * @return the integer value formed by the read bits
+     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 32
+     * @throws BufferUnderflowException if there are insufficient bytes to read the required bits
+     */
+    @Override
+    public int readBits(int numBits) {
+        if (numBits < 0 || numBits > 32)
+            throw new IllegalArgumentException("Number of bits must be between 0 and 32");
+
+        int available = bitReadCount;
+        if (numBits <= available) {
+            bitReadCount = available - numBits;
+            return (bitReadBuffer >>> bitReadCount) & ((1 << numBits) - 1);
+        }
+
+        int bytes = (numBits - available + 7) >>> 3;
+        checkRead(bytes);
+
+        long accumulator = bitReadBuffer & ((1 << available) - 1);
+        for (int i = 0; i < bytes; i++)
+            accumulator = (accumulator << 8) | (buffer[readPosition++] & 0xFF);
+
+        bitReadCount = available + (bytes << 3) - numBits;
+        bitReadBuffer = buffer[readPosition - 1] & 0xFF;
+        return (int) (accumulator >>> bitReadCount);
+    }
+
+    /**
+     * Reads a specified number of bits from the buffer and returns them as a long.
+     * <p>
+     * This behaves exactly like {@link #readBits(int)} but supports up to 64 bits. Values wider than 32 bits are read as
+     * their high part followed by their low 32 bits, matching the layout produced by {@link #writeBits(long, int)}.
+     * </p>
+     *
+     * @param numBits the number of bits to read (0 to 64)
+     * @return the long value formed by the read bits
+     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 64
+     * @throws BufferUnderflowException if there are insufficient bytes to read the required bits
+     */
+    @Override
+    public long readLongBits(int numBits) {
+        if (numBits < 0 || numBits > 64)
+            throw new IllegalArgumentException("Number of bits must be between 0 and 64");
+        if (numBits <= 32)
+            return readBits(numBits) & 0xFFFFFFFFL;
+
+        long high = readBits(numBits - 32) & 0xFFFFFFFFL;
+        return (high << 32) | (readBits(32) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Writes a specified number of bits from an integer to the buffer.
+     * <p>
+     * The bits are taken from the lower {@code numBits} of the {@code value} parameter and written in
+     * most-significant-bit-first order. For example, writing the value 5 (binary 101) with {@code numBits=3} writes
+     * the bits 1, 0, 1.
+     * </p>
+     * <p>
+     * The bits are appended to the pending bits in a 64-bit accumulator, and every completed byte is emitted after a
+     * single capacity check. The output is byte-for-byte identical to writing the bits one at a time through
+     * {@link #writeBit(boolean)}.
+     * </p>
+     *
+     * @param value   the integer containing the bits to write
+     * @param numBits the number of bits to write (0 to 32)
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 32
+     */
+    @Override
+    public DynamicByteBuffer writeBits(int value, int numBits) {
+        if (numBits < 0 || numBits > 32)
+            throw new IllegalArgumentException("Number of bits must be between 0 and 32");
+        if (numBits == 0)
+            return this;
+
+        long accumulator = ((long) bitWriteBuffer << numBits) | (value & (0xFFFFFFFFL >>> (32 - numBits)));
+        int count = bitWriteCount + numBits;
+        int bytes = count >>> 3;
+
+        if (bytes > 0) {
+            checkWrite(bytes);
+            count -= bytes << 3;
+            for (int i = bytes - 1; i >= 0; i--)
+                buffer[writePosition++] = (byte) (accumulator >>> (count + (i << 3)));
+        }
+
+        bitWriteBuffer = (int) accumulator & ((1 << count) - 1);
+        bitWriteCount = count;
+        return this;
+    }
+
+    /**
+     * Writes a specified number of bits from a long to the buffer.
+     * <p>
+     * This behaves exactly like {@link #writeBits(int, int)} but supports up to 64 bits, writing values wider than 32 bits
+     * as their high part followed by their low 32 bits.
+     * </p>
+     *
+     * @param value   the long containing the bits to write
+     * @param numBits the number of bits to write (0 to 64)
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 64
+     */
+    @Override
+    public DynamicByteBuffer writeBits(long value, int numBits) {
+        if (numBits < 0 || numBits > 64)
+            throw new IllegalArgumentException("Number of bits must be between 0 and 64");
+        if (numBits <= 32)
+            return writeBits((int) value, numBits);
+
+        writeBits((int) (value >>> 32), numBits - 32);
+        return writeBits((int) value, 32);
+    }
+
+    /**
+     * Flushes any remaining bits in the bit write buffer to the byte buffer, padding with zeros if necessary.
+     * <p>
+     * If fewer than 8 bits are in the bit write buffer, they are shifted left to align with the most significant bits of
+     * a byte, and the byte is written to the buffer. This method should be called after writing bits to ensure all bits are
+     * persisted. If the buffer is too small, it is dynamically resized to accommodate the write operation.
+     * </p>
+     *
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public DynamicByteBuffer flushBits() {
         if (bitWriteCount > 0) {
             checkWrite(1);
             buffer[writePosition++] = (byte) (bitWriteBuffer << (8 - bitWriteCount));
@@ -706,13 +1469,202 @@ public class DynamicByteBuffer {
         return this;
     }
 
+    /**
+     * Discards any bits remaining from the byte currently being read bit by bit, so the next bit read starts at a byte
+     * boundary.
+     * <p>
+     * This is the reading counterpart of {@link #flushBits()}: after reading a group of bits that was written and then
+     * flushed, call this method to skip the padding before reading the bytes that follow.
+     * </p>
+     *
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public DynamicByteBuffer discardBits() {
+        bitReadBuffer = 0;
+        bitReadCount = 0;
+        return this;
+    }
+
+    /**
+     * Reads an unsigned variable-length integer (VarInt) from the buffer and advances the read position.
+     * <p>
+     * VarInts store seven bits per byte, least significant group first, with the high bit of each byte set when more
+     * bytes follow. Small values therefore take a single byte, and any {@code int} takes at most 5 bytes.
+     * </p>
+     *
+     * @return the integer value read from the buffer
+     * @throws BufferUnderflowException if the buffer ends before the VarInt is complete
+     * @throws IllegalStateException    if the VarInt is longer than 5 bytes
+     */
+    @Override
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            checkRead(1);
+            byte b = buffer[readPosition++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new IllegalStateException("VarInt is longer than 5 bytes");
+    }
+
+    /**
+     * Writes an unsigned variable-length integer (VarInt) to the buffer and advances the write position.
+     * <p>
+     * Negative values are treated as unsigned and always take 5 bytes; use {@link #writeSignedVarInt(int)} for values
+     * that are frequently negative.
+     * </p>
+     *
+     * @param value the integer to write
+     * @return this buffer, for method chaining
+     * @see #readVarInt()
+     */
+    @Override
+    public DynamicByteBuffer writeVarInt(int value) {
+        checkWrite(varIntSize(value));
+        while ((value & ~0x7F) != 0) {
+            buffer[writePosition++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[writePosition++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Reads an unsigned variable-length long (VarLong) from the buffer and advances the read position.
+     *
+     * @return the long value read from the buffer
+     * @throws BufferUnderflowException if the buffer ends before the VarLong is complete
+     * @throws IllegalStateException    if the VarLong is longer than 10 bytes
+     * @see #readVarInt()
+     */
+    @Override
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            checkRead(1);
+            byte b = buffer[readPosition++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new IllegalStateException("VarLong is longer than 10 bytes");
+    }
+
+    /**
+     * Writes an unsigned variable-length long (VarLong) to the buffer and advances the write position.
+     *
+     * @param value the long to write
+     * @return this buffer, for method chaining
+     * @see #writeVarInt(int)
+     */
+    @Override
+    public DynamicByteBuffer writeVarLong(long value) {
+        checkWrite(varLongSize(value));
+        while ((value & ~0x7FL) != 0) {
+            buffer[writePosition++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[writePosition++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Writes a signed integer as a ZigZag-encoded VarInt, so small negative values take as few bytes as small positive ones.
+     *
+     * @param value the signed integer to write
+     * @return this buffer, for method chaining
+     * @see #zigZagEncode(int)
+     */
+    @Override
+    public DynamicByteBuffer writeSignedVarInt(int value) {
+        return writeVarInt(zigZagEncode(value));
+    }
+
+    /**
+     * Writes a signed long as a ZigZag-encoded VarLong.
+     *
+     * @param value the signed long to write
+     * @return this buffer, for method chaining
+     * @see #zigZagEncode(long)
+     */
+    @Override
+    public DynamicByteBuffer writeSignedVarLong(long value) {
+        return writeVarLong(zigZagEncode(value));
+    }
+
+    /**
+     * Maps a signed integer onto an unsigned one so that values of small magnitude have small encodings
+     * (0 → 0, -1 → 1, 1 → 2, -2 → 3, ...).
+     *
+     * @param value the signed value
+     * @return the ZigZag-encoded value
+     */
+    public static int zigZagEncode(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Reverses {@link #zigZagEncode(int)}.
+     *
+     * @param value the ZigZag-encoded value
+     * @return the original signed value
+     */
+    public static int zigZagDecode(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Maps a signed long onto an unsigned one so that values of small magnitude have small encodings.
+     *
+     * @param value the signed value
+     * @return the ZigZag-encoded value
+     * @see #zigZagEncode(int)
+     */
+    public static long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Reverses {@link #zigZagEncode(long)}.
+     *
+     * @param value the ZigZag-encoded value
+     * @return the original signed value
+     */
+    public static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeVarInt(int)} uses to encode the specified value.
+     *
+     * @param value the value to measure
+     * @return the encoded size, from 1 to 5 bytes
+     */
+    public static int varIntSize(int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * Returns the number of bytes {@link #writeVarLong(long)} uses to encode the specified value.
+     *
+     * @param value the value to measure
+     * @return the encoded size, from 1 to 10 bytes
+     */
+    public static int varLongSize(long value) {
+        return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
     /**
      * Returns the current read position in the buffer.
      *
      * @return the current read position
      */
+    @Override
     public int getReadPosition() {
-        return readPosition;
+        return readPosition - offset;
     }
 
     /**
@@ -722,13 +1674,14 @@ public class DynamicByteBuffer {
      * </p>
      *
      * @param position the new read position
-     * @throws IllegalArgumentException if {@code position} is negative or greater than the buffer length
+     * @throws IllegalArgumentException if {@code position} is negative or greater than the buffer capacity
      */
+    @Override
     public void setReadPosition(int position) {
-        if (position < 0 || position > buffer.length)
+        if (position < 0 || position > limit - offset)
             throw new IllegalArgumentException("Invalid read position");
 
-        this.readPosition = position;
+        this.readPosition = offset + position;
         this.bitReadBuffer = 0;
         this.bitReadCount = 0;
     }
@@ -743,8 +1696,9 @@ public class DynamicByteBuffer {
      * @return {@code true} if there are remaining bytes to read, {@code false} otherwise
      * @see java.nio.ByteBuffer#hasRemaining()
      */
+    @Override
     public boolean hasRemaining() {
-        return readPosition < buffer.length;
+        return readPosition < limit;
     }
 
     /**
@@ -752,8 +1706,9 @@ public class DynamicByteBuffer {
      *
      * @return the current write position
      */
+    @Override
     public int getWritePosition() {
-        return writePosition;
+        return writePosition - offset;
     }
 
     /**
@@ -763,36 +1718,146 @@ public class DynamicByteBuffer {
      * </p>
      *
      * @param position the new write position
-     * @throws IllegalArgumentException if {@code position} is negative or greater than the buffer length
+     * @throws IllegalArgumentException if {@code position} is negative or greater than the buffer capacity
      */
+    @Override
     public void setWritePosition(int position) {
-        if (position < 0 || position > buffer.length)
+        if (position < 0 || position > limit - offset)
             throw new IllegalArgumentException("Invalid write position");
 
-        this.writePosition = position;
+        this.writePosition = offset + position;
         this.bitWriteBuffer = 0;
         this.bitWriteCount = 0;
     }
 
+    /**
+     * Creates a view of a portion of this buffer that shares its backing array.
+     * <p>
+     * No bytes are copied: reads through the slice see the bytes of this buffer and writes through it modify them.
+     * The slice has its own read and write positions, both initialized to 0, and its own byte order, and it is bounded
+     * to {@code length} bytes. A slice never grows; a write past its end throws a {@link BufferOverflowException}.
+     * A slice of a read-only buffer is read-only. Use {@link #copySlice(int, int)} for an independent copy.
+     * </p>
+     *
+     * @param start  the starting index of the slice, relative to the start of this buffer
+     * @param length the length of the slice
+     * @return a view of the specified range
+     * @throws IllegalArgumentException if {@code start} or {@code length} is negative, or if
+     *                                  {@code start + length} exceeds the buffer capacity
+     */
+    public DynamicByteBuffer slice(int start, int length) {
+        if (start < 0 || length < 0 || start + length > limit - offset)
+            throw new IllegalArgumentException("Invalid slice range");
+
+        DynamicByteBuffer slice = newView();
+        slice.offset = offset + start;
+        slice.limit = slice.offset + length;
+        slice.writeLimit = writeLimit < 0 ? -1 : slice.limit;
+        slice.growable = false;
+        return slice.resetPositions();
+    }
+
+    /**
+     * Returns a view of the next {@code length} readable bytes and advances the read position past them.
+     * <p>
+     * This is the zero-copy way to hand a nested message to its own parser: the returned slice is equivalent to
+     * {@code slice(getReadPosition(), length)}.
+     * </p>
+     *
+     * @param length the number of bytes to take
+     * @return a view of the next {@code length} bytes
+     * @throws BufferUnderflowException if there are fewer than {@code length} bytes remaining in the buffer
+     * @throws IllegalArgumentException if {@code length} is negative
+     */
+    public DynamicByteBuffer readSlice(int length) {
+        if (length < 0)
+            throw new IllegalArgumentException("Length cannot be negative");
+        checkRead(length);
+        DynamicByteBuffer slice = slice(readPosition - offset, length);
+        readPosition += length;
+        return slice;
+    }
+
     /**
      * Creates a new {@code DynamicByteBuffer} containing a copy of a portion of this buffer's data.
      * <p>
-     * The new buffer is independent of this buffer, and its read and write positions are initialized to 0.
+     * The new buffer is independent of this buffer, writable and growable even if this buffer is not, and its read and
+     * write positions are initialized to 0.
      * </p>
      *
-     * @param start  the starting index of the slice
+     * @param start  the starting index of the slice, relative to the start of this buffer
      * @param length the length of the slice
      * @return a new {@code DynamicByteBuffer} containing the sliced data
      * @throws IllegalArgumentException if {@code start} or {@code length} is negative, or if
-     *                                  {@code start + length} exceeds the buffer length
+     *                                  {@code start + length} exceeds the buffer capacity
      */
-    public DynamicByteBuffer slice(int start, int length) {
-        if (start < 0 || length < 0 || start + length > buffer.length)
+    public DynamicByteBuffer copySlice(int start, int length) {
+        if (start < 0 || length < 0 || start + length > limit - offset)
             throw new IllegalArgumentException("Invalid slice range");
 
         byte[] sliceBuffer = new byte[length];
-        System.arraycopy(buffer, start, sliceBuffer, 0, length);
-        return new DynamicByteBuffer(sliceBuffer);
+        System.arraycopy(buffer, offset + start, sliceBuffer, 0, length);
+        return newInstance(sliceBuffer);
+    }
+
+    /**
+     * Creates a view of this buffer that shares its backing array, bounds and current positions.
+     * <p>
+     * The positions of the duplicate are independent from then on. A duplicate of a growable buffer does not grow, so
+     * it keeps seeing the same array.
+     * </p>
+     *
+     * @return a duplicate of this buffer
+     */
+    public DynamicByteBuffer duplicate() {
+        DynamicByteBuffer duplicate = newView();
+        duplicate.growable = false;
+        return duplicate;
+    }
+
+    /**
+     * Creates a read-only view of this buffer that shares its backing array, bounds and current positions.
+     * <p>
+     * Every write through the returned buffer throws a {@link ReadOnlyBufferException}. The check costs nothing extra
+     * on the read path, and writes fail on the same capacity comparison that normally triggers growth.
+     * </p>
+     *
+     * @return a read-only duplicate of this buffer
+     */
+    public DynamicByteBuffer asReadOnlyBuffer() {
+        DynamicByteBuffer duplicate = duplicate();
+        duplicate.writeLimit = -1;
+        return duplicate;
+    }
+
+    /**
+     * Returns whether this buffer rejects writes.
+     *
+     * @return {@code true} if this buffer is read-only
+     */
+    public boolean isReadOnly() {
+        return writeLimit < 0;
+    }
+
+    /**
+     * Moves the bytes between the read and write positions to the start of the buffer, so that the space taken by bytes
+     * already read can be written again.
+     * <p>
+     * Afterwards the read position is 0 and the write position is the number of bytes moved. Pending bits are kept.
+     * </p>
+     *
+     * @return this buffer, for method chaining
+     * @throws ReadOnlyBufferException if this buffer is read-only
+     * @see java.nio.ByteBuffer#compact()
+     */
+    public DynamicByteBuffer compact() {
+        if (isReadOnly())
+            throw new ReadOnlyBufferException();
+        int remaining = Math.max(0, writePosition - readPosition);
+        System.arraycopy(buffer, readPosition, buffer, offset, remaining);
+        readPosition = offset;
+        writePosition = offset + remaining;
+        return this;
     }
 
     /**
@@ -800,20 +1865,46 @@ public class DynamicByteBuffer {
      *
      * @return this buffer, for method chaining
      */
+    @Override
     public DynamicByteBuffer clear() {
+        if (isReadOnly())
+            throw new ReadOnlyBufferException();
         resetPositions();
-        Arrays.fill(buffer, (byte) 0);
+        Arrays.fill(buffer, offset, limit, (byte) 0);
         return this;
     }
 
+    /**
+     * Returns the backing array to the {@link BufferPool} if this buffer obtained it there while growing, and leaves this
+     * buffer empty. A growable buffer can be written to again afterwards and will obtain a new array as it grows.
+     * <p>
+     * The array is only returned if it was never shared: once {@link #getData()} has been called or a view of this
+     * buffer has been created, the array is left to the garbage collector.
+     * </p>
+     *
+     * @return this buffer, for method chaining
+     */
+    public DynamicByteBuffer release() {
+        if (pooled)
+            BufferPool.free(buffer);
+        pooled = false;
+        buffer = EMPTY;
+        offset = 0;
+        limit = 0;
+        if (writeLimit >= 0)
+            writeLimit = 0;
+        return resetPositions();
+    }
+
     /**
      * Resets the read and write positions and bit buffers to their initial states without modifying the buffer's contents.
      *
      * @return this buffer, for method chaining
      */
+    @Override
     public DynamicByteBuffer resetPositions() {
-        readPosition = 0;
-        writePosition = 0;
+        readPosition = offset;
+        writePosition = offset;
         bitReadBuffer = 0;
         bitWriteBuffer = 0;
         bitReadCount = 0;
@@ -821,17 +1912,51 @@ public class DynamicByteBuffer {
         return this;
     }
 
+    /**
+     * Returns the backing array of this buffer.
+     * <p>
+     * For slices, the data of this buffer starts at {@link #arrayOffset()} in the returned array. A read-only buffer
+     * does not give out its array, since writing to it would change the buffer.
+     * </p>
+     *
+     * @return the backing array
+     * @throws ReadOnlyBufferException if this buffer is read-only
+     * @see java.nio.ByteBuffer#array()
+     */
     public byte[] getData() {
+        if (isReadOnly())
+            throw new ReadOnlyBufferException();
+        pooled = false;
         return this.buffer;
     }
 
+    /**
+     * Returns the index in the {@linkplain #getData() backing array} of the first byte of this buffer.
+     *
+     * @return the array offset, which is 0 unless this buffer is a slice
+     */
+    public int arrayOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the number of bytes this buffer currently spans.
+     *
+     * @return the capacity in bytes
+     */
+    @Override
+    public int capacity() {
+        return limit - offset;
+    }
+
     /**
      * Returns the number of bytes remaining for reading from the current read position.
      *
      * @return the number of readable bytes
      */
+    @Override
     public int remainingRead() {
-        return buffer.length - readPosition;
+        return limit - readPosition;
     }
 
     /**
@@ -839,8 +1964,116 @@ public class DynamicByteBuffer {
      *
      * @return the number of writable bytes
      */
+    @Override
     public int remainingWrite() {
-        return buffer.length - writePosition;
+        return Math.max(0, writeLimit - writePosition);
+    }
+
+    /**
+     * Creates a new buffer of the same kind as this one over the specified byte array.
+     *
+     * @param storage the byte array for the new buffer
+     * @return a new buffer over {@code storage}
+     */
+    DynamicByteBuffer newInstance(byte[] storage) {
+        return new DynamicByteBuffer(storage);
+    }
+
+    /**
+     * Creates a buffer of the same kind as this one that shares its backing array, bounds, byte order and positions.
+     *
+     * @return a new view of this buffer
+     */
+    DynamicByteBuffer newView() {
+        return new DynamicByteBuffer(this, byteOrder);
+    }
+
+    /**
+     * Reads a 16-bit value at the specified index in the configured byte order, without bounds checks or moving the
+     * read position. Byte-order specialized subclasses override this with a branch-free version.
+     *
+     * @param index the index of the first byte
+     * @return the value read
+     */
+    short loadShort(int index) {
+        return byteOrder == ByteOrder.BIG_ENDIAN ? (short) SHORT_BE.get(buffer, index) : (short) SHORT_LE.get(buffer, index);
+    }
+
+    /**
+     * Writes a 16-bit value at the specified index in the configured byte order, without capacity checks or moving
+     * the write position.
+     *
+     * @param index the index of the first byte
+     * @param value the value to write
+     */
+    void storeShort(int index, short value) {
+        if (byteOrder == ByteOrder.BIG_ENDIAN)
+            SHORT_BE.set(buffer, index, value);
+        else
+            SHORT_LE.set(buffer, index, value);
+    }
+
+    /**
+     * Reads a 32-bit value at the specified index in the configured byte order, without bounds checks or moving the
+     * read position.
+     *
+     * @param index the index of the first byte
+     * @return the value read
+     */
+    int loadInt(int index) {
+        return byteOrder == ByteOrder.BIG_ENDIAN ? (int) INT_BE.get(buffer, index) : (int) INT_LE.get(buffer, index);
+    }
+
+    /**
+     * Writes a 32-bit value at the specified index in the configured byte order, without capacity checks or moving
+     * the write position.
+     *
+     * @param index the index of the first byte
+     * @param value the value to write
+     */
+    void storeInt(int index, int value) {
+        if (byteOrder == ByteOrder.BIG_ENDIAN)
+            INT_BE.set(buffer, index, value);
+        else
+            INT_LE.set(buffer, index, value);
+    }
+
+    /**
+     * Reads a 64-bit value at the specified index in the configured byte order, without bounds checks or moving the
+     * read position.
+     *
+     * @param index the index of the first byte
+     * @return the value read
+     */
+    long loadLong(int index) {
+        return byteOrder == ByteOrder.BIG_ENDIAN ? (long) LONG_BE.get(buffer, index) : (long) LONG_LE.get(buffer, index);
+    }
+
+    /**
+     * Writes a 64-bit value at the specified index in the configured byte order, without capacity checks or moving
+     * the write position.
+     *
+     * @param index the index of the first byte
+     * @param value the value to write
+     */
+    void storeLong(int index, long value) {
+        if (byteOrder == ByteOrder.BIG_ENDIAN)
+            LONG_BE.set(buffer, index, value);
+        else
+            LONG_LE.set(buffer, index, value);
+    }
+
+    /**
+     * Validates that {@code offset} and {@code length} describe a range within an array of the specified length.
+     *
+     * @param arrayLength the length of the array
+     * @param offset      the starting index in the array
+     * @param length      the number of elements in the range
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    private static void checkRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > arrayLength)
+            throw new IllegalArgumentException("Invalid offset or length");
     }
 
     /**
@@ -850,7 +2083,7 @@ public class DynamicByteBuffer {
      * @throws BufferUnderflowException if there are insufficient bytes remaining
      */
     private void checkRead(int bytes) {
-        if (readPosition + bytes > buffer.length) {
+        if (readPosition + bytes > limit) {
             throw new BufferUnderflowException();
         }
     }
@@ -859,21 +2092,47 @@ public class DynamicByteBuffer {
      * Ensures the buffer has enough capacity to write the specified number of bytes, resizing if necessary.
      *
      * @param bytes the number of bytes to check
+     * @throws ReadOnlyBufferException if this buffer is read-only
+     * @throws BufferOverflowException if this buffer is a view and the write does not fit
      */
-    private void checkWrite(int bytes) {
-        if (writePosition + bytes > buffer.length) {
-            int newCapacity = Math.max(buffer.length * 2, writePosition + bytes);
-            byte[] newBuffer = new byte[newCapacity];
-            System.arraycopy(buffer, 0, newBuffer, 0, buffer.length);
-            buffer = newBuffer;
-        }
+    void checkWrite(int bytes) {
+        if (writePosition + bytes > writeLimit)
+            grow(bytes);
+    }
+
+    /**
+     * Replaces the backing array with one large enough to write the specified number of bytes, or throws if this
+     * buffer cannot grow.
+     * <p>
+     * The new array comes from the {@link BufferPool}, and the old one goes back to it if this buffer obtained it there
+     * and never shared it, so a buffer that is released and reallocated in steady state creates no garbage.
+     * </p>
+     *
+     * @param bytes the number of bytes about to be written
+     */
+    private void grow(int bytes) {
+        if (writeLimit < 0)
+            throw new ReadOnlyBufferException();
+        if (!growable)
+            throw new BufferOverflowException();
+
+        byte[] newBuffer = BufferPool.obtainBytes(Math.max(buffer.length * 2, writePosition + bytes));
+        System.arraycopy(buffer, 0, newBuffer, 0, buffer.length);
+        Arrays.fill(newBuffer, buffer.length, newBuffer.length, (byte) 0);
+        if (pooled)
+            BufferPool.free(buffer);
+        buffer = newBuffer;
+        pooled = true;
+        limit = newBuffer.length;
+        writeLimit = newBuffer.length;
     }
 
     /**
      * Compares this buffer to another object for equality.
      * <p>
      * Two {@code DynamicByteBuffer} instances are equal if they have the same read and write positions, bit buffer states,
-     * and identical buffer contents.
+     * and identical buffer contents. Only the bytes within the bounds of each buffer are compared, so a slice can equal
+     * a copy of the same range.
      * </p>
      *
      * @param o the object to compare with
@@ -883,14 +2142,14 @@ public class DynamicByteBuffer {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof DynamicByteBuffer other)) return false;
-        return readPosition == other.readPosition &&
-                writePosition == other.writePosition &&
+        return readPosition - offset == other.readPosition - other.offset &&
+                writePosition - offset == other.writePosition - other.offset &&
                 bitReadCount == other.bitReadCount &&
                 bitWriteCount == other.bitWriteCount &&
                 bitReadBuffer == other.bitReadBuffer &&
                 bitWriteBuffer == other.bitWriteBuffer &&
                 byteOrder == other.byteOrder &&
-                Arrays.equals(buffer, other.buffer);
+                Arrays.equals(buffer, offset, limit, other.buffer, other.offset, other.limit);
     }
 
     /**
@@ -900,8 +2159,11 @@ public class DynamicByteBuffer {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(readPosition, writePosition, bitReadCount, bitWriteCount,
-                bitReadBuffer, bitWriteBuffer, byteOrder, Arrays.hashCode(buffer));
+        int result = Objects.hash(readPosition - offset, writePosition - offset, bitReadCount, bitWriteCount,
+                bitReadBuffer, bitWriteBuffer, byteOrder);
+        for (int i = offset; i < limit; i++)
+            result = 31 * result + buffer[i];
+        return result;
     }
 
     /**
@@ -0,0 +1,270 @@
+package jgl.io.buffer;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+/**
+ * Accumulates a stream of bytes that arrive in arbitrary pieces and splits it into length-prefixed frames.
+ * <p>
+ * Every frame on the wire is a 32-bit length, in the configured byte order, followed by that many payload bytes; it is
+ * what {@code buffer.writeInt(payload.length).writeBytes(payload)} produces. Input is appended as it arrives, either from
+ * byte arrays or straight from a channel, and {@link #nextFrame()} returns each complete frame as a read-only slice of
+ * the accumulation buffer, without copying. A partially received frame simply yields {@code null} until the rest of it
+ * arrives, without the bytes received so far being scanned again.
+ * </p>
+ * <p>
+ * Consumed bytes are reclaimed lazily: the unread bytes are only moved back to the start of the buffer when an append
+ * would otherwise have to grow it, and the buffer is rewound for free whenever everything has been consumed. Every
+ * length prefix is checked against the configured maximum by the append or read that completes it, even while earlier
+ * frames are still waiting to be returned. A frame that announces a larger length is rejected right there, so no more
+ * of it is buffered than arrived in that one call, and a corrupt or hostile peer cannot make the decoder allocate
+ * without bound.
+ * </p>
+ * <p>
+ * <b>Note:</b> A frame returned by {@link #nextFrame()} shares memory with this decoder and is only valid until the next
+ * call to an {@code append} or {@code readFrom} method, which may move or overwrite the bytes it views. Parse each frame
+ * before feeding more input, or copy it with {@link DynamicByteBuffer#copySlice(int, int)}.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is not thread-safe.
+ * </p>
+ * <p>
+ * <b>Usage Example:</b>
+ * <pre>
+ * FrameDecoder decoder = new FrameDecoder(64 * 1024);
+ * while (decoder.readFrom(channel) &gt;= 0) {
+ *     DynamicByteBuffer frame;
+ *     while ((frame = decoder.nextFrame()) != null)
+ *         handle(frame);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @see DynamicByteBuffer#readSlice(int)
+ * @since October 17th, 2026
+ */
+public class FrameDecoder {
+
+    /**
+     * The size of the length prefix of every frame, in bytes.
+     */
+    public static final int HEADER_SIZE = 4;
+    /**
+     * The minimum amount of free space made available before each channel read.
+     */
+    private static final int READ_SIZE = 8192;
+
+    /**
+     * The accumulated input; its read position is the start of the first unconsumed byte.
+     */
+    private final DynamicByteBuffer buffer;
+    /**
+     * The largest payload length accepted.
+     */
+    private final int maxFrameSize;
+    /**
+     * A read-only duplicate of {@code buffer} that frames are sliced from, recreated when the backing array changes.
+     */
+    private DynamicByteBuffer frames;
+    /**
+     * The payload length of the frame being received, or -1 if its length prefix has not been read yet.
+     */
+    private int frameLength = -1;
+    /**
+     * The position in {@code buffer} of the first length prefix that has not been checked yet.
+     */
+    private long unchecked;
+
+    /**
+     * Constructs a frame decoder with big-endian length prefixes.
+     *
+     * @param maxFrameSize the largest payload length accepted, in bytes
+     * @throws IllegalArgumentException if {@code maxFrameSize} is negative
+     */
+    public FrameDecoder(int maxFrameSize) {
+        this(maxFrameSize, DynamicByteBuffer.ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructs a frame decoder.
+     *
+     * @param maxFrameSize the largest payload length accepted, in bytes
+     * @param order        the byte order of the length prefixes and of the returned frames
+     * @throws IllegalArgumentException if {@code maxFrameSize} is negative
+     * @throws NullPointerException     if {@code order} is {@code null}
+     */
+    public FrameDecoder(int maxFrameSize, DynamicByteBuffer.ByteOrder order) {
+        if (maxFrameSize < 0)
+            throw new IllegalArgumentException("Maximum frame size cannot be negative");
+        this.maxFrameSize = maxFrameSize;
+        this.buffer = DynamicByteBuffer.allocate(Math.max(READ_SIZE, Math.min(maxFrameSize, 1 << 16) + HEADER_SIZE), order);
+    }
+
+    /**
+     * Appends all bytes of the specified array to the input.
+     *
+     * @param bytes the bytes received
+     * @return this decoder, for method chaining
+     * @throws NullPointerException  if {@code bytes} is {@code null}
+     * @throws IllegalStateException if a length prefix is negative or larger than the maximum frame size
+     */
+    public FrameDecoder append(byte[] bytes) {
+        return append(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Appends a portion of the specified array to the input.
+     *
+     * @param bytes  the bytes received
+     * @param offset the index of the first byte to append
+     * @param length the number of bytes to append
+     * @return this decoder, for method chaining
+     * @throws NullPointerException     if {@code bytes} is {@code null}
+     * @throws IllegalArgumentException if the range is invalid
+     * @throws IllegalStateException    if a length prefix is negative or larger than the maximum frame size
+     */
+    public FrameDecoder append(byte[] bytes, int offset, int length) {
+        Objects.requireNonNull(bytes, "Byte array cannot be null");
+        if (offset < 0 || length < 0 || offset + length > bytes.length)
+            throw new IllegalArgumentException("Invalid offset or length");
+        reserve(length);
+        buffer.writeBytes(bytes, offset, length);
+        checkLengths();
+        return this;
+    }
+
+    /**
+     * Appends the readable bytes of the specified buffer to the input and advances its read position past them.
+     * <p>
+     * The bytes are copied once, from the source straight into the input buffer, whether the source is on the heap or
+     * in native memory.
+     * </p>
+     *
+     * @param source the buffer holding the bytes received
+     * @return this decoder, for method chaining
+     * @throws NullPointerException  if {@code source} is {@code null}
+     * @throws IllegalStateException if a length prefix is negative or larger than the maximum frame size
+     */
+    public FrameDecoder append(DataBuffer source) {
+        int length = Math.max(0, source.getWritePosition() - source.getReadPosition());
+        reserve(length);
+        buffer.checkWrite(length);
+        int at = buffer.getWritePosition();
+        source.readBytes(buffer.buffer, buffer.arrayOffset() + at, length);
+        buffer.setWritePosition(at + length);
+        checkLengths();
+        return this;
+    }
+
+    /**
+     * Reads whatever the channel has available straight into the input buffer, with a single {@code read} call.
+     *
+     * @param channel the channel to read from
+     * @return the number of bytes read, possibly 0, or -1 if the channel has reached end-of-stream
+     * @throws NullPointerException  if {@code channel} is {@code null}
+     * @throws IOException           if the channel fails to read
+     * @throws IllegalStateException if a length prefix is negative or larger than the maximum frame size
+     */
+    public int readFrom(ReadableByteChannel channel) throws IOException {
+        reserve(READ_SIZE);
+        int read = buffer.readFrom(channel, Math.max(buffer.remainingWrite(), READ_SIZE));
+        checkLengths();
+        return read;
+    }
+
+    /**
+     * Returns the next complete frame, or {@code null} if not all of it has been received yet.
+     * <p>
+     * The frame is a read-only view of its payload, positioned at its first byte, with a capacity equal to the payload
+     * length. It is valid until more input is appended.
+     * </p>
+     *
+     * @return the next frame, or {@code null} if no complete frame is buffered
+     */
+    public DynamicByteBuffer nextFrame() {
+        if (frameLength < 0) {
+            if (buffered() < HEADER_SIZE)
+                return null;
+            // Already checked by checkLengths when it was appended
+            frameLength = buffer.readInt();
+        }
+        if (buffered() < frameLength)
+            return null;
+
+        if (frames == null || frames.buffer != buffer.buffer)
+            frames = buffer.asReadOnlyBuffer();
+        int start = buffer.getReadPosition();
+        DynamicByteBuffer frame = frames.slice(start, frameLength);
+        buffer.setReadPosition(start + frameLength);
+        frameLength = -1;
+        return frame;
+    }
+
+    /**
+     * Returns the number of bytes received but not yet returned as part of a frame, not counting a length prefix that
+     * has already been parsed.
+     *
+     * @return the number of buffered bytes
+     */
+    public int buffered() {
+        return buffer.getWritePosition() - buffer.getReadPosition();
+    }
+
+    /**
+     * Returns the largest payload length this decoder accepts.
+     *
+     * @return the maximum frame size in bytes
+     */
+    public int getMaxFrameSize() {
+        return maxFrameSize;
+    }
+
+    /**
+     * Discards all buffered input, including a partially received frame.
+     *
+     * @return this decoder, for method chaining
+     */
+    public FrameDecoder reset() {
+        buffer.resetPositions();
+        frameLength = -1;
+        unchecked = 0;
+        return this;
+    }
+
+    /**
+     * Makes room for {@code length} more bytes at the end of the input, compacting before growing.
+     *
+     * @param length the number of bytes about to be appended
+     */
+    private void reserve(int length) {
+        int consumed = buffer.getReadPosition();
+        if (buffered() == 0 && consumed > 0) {
+            buffer.resetPositions();
+            unchecked -= consumed;
+        } else if (buffer.remainingWrite() < length && consumed > 0) {
+            buffer.compact();
+            unchecked -= consumed;
+        }
+    }
+
+    /**
+     * Checks every length prefix that has been received completely since the last call, skipping over the payloads
+     * they announce, so an invalid length is reported as soon as it arrives rather than when its frame is reached.
+     *
+     * @throws IllegalStateException if a length prefix is negative or larger than the maximum frame size; the stream
+     *                               cannot be resynchronized after this
+     */
+    private void checkLengths() {
+        while (buffer.getWritePosition() - unchecked >= HEADER_SIZE) {
+            int index = buffer.arrayOffset() + (int) unchecked;
+            int length = buffer.getByteOrder() == DynamicByteBuffer.ByteOrder.BIG_ENDIAN
+                    ? (int) DynamicByteBuffer.INT_BE.get(buffer.buffer, index)
+                    : (int) DynamicByteBuffer.INT_LE.get(buffer.buffer, index);
+            if (length < 0 || length > maxFrameSize)
+                throw new IllegalStateException("Invalid frame length " + length + ", maximum is " + maxFrameSize);
+            unchecked += HEADER_SIZE + length;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package jgl.io.buffer;
+
+import java.util.Objects;
+
+/**
+ * A {@link DynamicByteBuffer} whose multibyte values are always little-endian.
+ * <p>
+ * The byte order of this class is fixed, so every multibyte read and write goes straight to the little-endian view handle
+ * without checking a byte order field. Instances are created through {@link DynamicByteBuffer#wrap(byte[], ByteOrder)}
+ * and {@link DynamicByteBuffer#allocate(int, ByteOrder)}.
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+final class LittleEndianByteBuffer extends DynamicByteBuffer {
+
+    /**
+     * Constructs a little-endian buffer over the specified byte array.
+     *
+     * @param buffer the byte array to use as the underlying storage
+     */
+    LittleEndianByteBuffer(byte[] buffer) {
+        super(buffer, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Constructs a little-endian view of {@code source}.
+     *
+     * @param source the buffer to view
+     */
+    LittleEndianByteBuffer(DynamicByteBuffer source) {
+        super(source, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns this buffer if {@code order} is {@link ByteOrder#LITTLE_ENDIAN}, otherwise a big-endian view that shares
+     * the backing array and starts at the current positions.
+     *
+     * @param order the byte order to use
+     * @return this buffer or a view in the requested order
+     */
+    @Override
+    public DynamicByteBuffer setByteOrder(ByteOrder order) {
+        if (Objects.requireNonNull(order, "Byte order cannot be null") == ByteOrder.LITTLE_ENDIAN)
+            return this;
+        return new BigEndianByteBuffer(this);
+    }
+
+    @Override
+    DynamicByteBuffer newInstance(byte[] storage) {
+        return new LittleEndianByteBuffer(storage);
+    }
+
+    @Override
+    DynamicByteBuffer newView() {
+        return new LittleEndianByteBuffer(this);
+    }
+
+    @Override
+    short loadShort(int index) {
+        return (short) SHORT_LE.get(buffer, index);
+    }
+
+    @Override
+    void storeShort(int index, short value) {
+        SHORT_LE.set(buffer, index, value);
+    }
+
+    @Override
+    int loadInt(int index) {
+        return (int) INT_LE.get(buffer, index);
+    }
+
+    @Override
+    void storeInt(int index, int value) {
+        INT_LE.set(buffer, index, value);
+    }
+
+    @Override
+    long loadLong(int index) {
+        return (long) LONG_LE.get(buffer, index);
+    }
+
+    @Override
+    void storeLong(int index, long value) {
+        LONG_LE.set(buffer, index, value);
+    }
+}
@@ -0,0 +1,1493 @@
+package jgl.io.buffer;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * An off-heap counterpart to {@link DynamicByteBuffer}, backed by a {@link MemorySegment} instead of a {@code byte[]}.
+ * <p>
+ * The {@code NativeByteBuffer} class implements the same {@link DataBuffer} API as {@code DynamicByteBuffer}, but
+ * its contents live in native memory. This allows the written data to be handed to LWJGL (texture uploads, OpenAL
+ * {@code alBufferData}, STB decoders) without first copying it into a {@code BufferUtils} direct buffer. The native
+ * address of the data is exposed through {@link #address()}, and a zero-copy direct {@link ByteBuffer} view is available
+ * through {@link #asByteBuffer()}.
+ * </p>
+ * <p>
+ * Key features include:
+ * <ul>
+ *     <li>Reading and writing primitive types, strings and bits with the same layout as {@code DynamicByteBuffer}.</li>
+ *     <li>Multi-byte values are transferred with a single unaligned memory access rather than byte by byte.</li>
+ *     <li>Growth copies only the bytes that have actually been written, never the full capacity.</li>
+ *     <li>Wrapping of existing segments (for example memory owned by LWJGL) without copying.</li>
+ *     <li>Memory-mapped files through {@link #map(Path, FileChannel.MapMode)}, read in place with the typed API.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <b>Memory Management:</b> Memory allocated by this buffer is owned by it and must be released with {@link #close()}.
+ * Buffers created through {@link #wrap(MemorySegment)} do not own their memory, cannot grow, and closing them has no
+ * effect on the wrapped segment. Buffers created through {@link #map(Path, FileChannel.MapMode)} own their mapping, which
+ * {@link #close()} unmaps, but cannot grow either.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is not thread-safe. The memory it allocates or maps comes from a confined arena, so
+ * only the thread that created the buffer may access or close it; other threads get a {@link WrongThreadException}.
+ * Confinement keeps growing and closing cheap: releasing confined memory needs no handshake with other threads. A
+ * buffer created with {@link #wrap(MemorySegment)} follows the rules of the arena that owns the wrapped segment.
+ * </p>
+ * <p>
+ * <b>Usage Example:</b>
+ * <pre>
+ * try (NativeByteBuffer buffer = new NativeByteBuffer(4096)) {
+ *     buffer.setByteOrder(DynamicByteBuffer.ByteOrder.LITTLE_ENDIAN);
+ *     for (short sample : samples)
+ *         buffer.writeShort(sample);
+ *     alBufferData(bufferId, AL_FORMAT_MONO16, buffer.asByteBuffer(), sampleRate);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @version 1.0
+ * @see DynamicByteBuffer
+ * @see MemorySegment
+ * @since October 17th, 2026
+ */
+public final class NativeByteBuffer implements DataBuffer, AutoCloseable {
+
+    /**
+     * The alignment used for segments allocated by this buffer, enough for any primitive and most SIMD loads.
+     */
+    private static final long ALIGNMENT = 16;
+
+    /**
+     * The memory segment holding the buffer contents.
+     */
+    private MemorySegment segment;
+    /**
+     * The arena owning {@code segment}, or {@code null} if the segment is wrapped and not owned by this buffer.
+     */
+    private Arena arena;
+    /**
+     * Whether {@code segment} may be replaced by a larger one; {@code false} for wrapped and mapped segments.
+     */
+    private final boolean growable;
+    /**
+     * The current position for reading from the buffer.
+     */
+    private int readPosition;
+    /**
+     * The current position for writing to the buffer.
+     */
+    private int writePosition;
+    /**
+     * The highest write position that has been moved away from, used to bound the copy performed on growth.
+     */
+    private int extent;
+    /**
+     * Accumulates bits for reading, holding up to one byte (8 bits) at a time.
+     */
+    private int bitReadBuffer;
+    /**
+     * Accumulates bits for writing, holding up to one byte (8 bits) before flushing to the buffer.
+     */
+    private int bitWriteBuffer;
+    /**
+     * The number of bits remaining to be read from {@code bitReadBuffer}.
+     */
+    private int bitReadCount;
+    /**
+     * The number of bits accumulated in {@code bitWriteBuffer} for writing.
+     */
+    private int bitWriteCount;
+    /**
+     * The byte order used for multibyte data types (default is big-endian).
+     */
+    private DynamicByteBuffer.ByteOrder byteOrder;
+    /**
+     * Memory layouts for each multibyte type, resolved from {@code byteOrder} whenever it changes.
+     */
+    private ValueLayout.OfChar charLayout;
+    private ValueLayout.OfShort shortLayout;
+    private ValueLayout.OfInt intLayout;
+    private ValueLayout.OfLong longLayout;
+    private ValueLayout.OfFloat floatLayout;
+    private ValueLayout.OfDouble doubleLayout;
+
+    /**
+     * Constructs a new {@code NativeByteBuffer} with the specified initial capacity in native memory.
+     * <p>
+     * The memory is zero-initialized and owned by this buffer until {@link #close()} is called.
+     * </p>
+     *
+     * @param capacity the initial capacity in bytes
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public NativeByteBuffer(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        this.arena = Arena.ofConfined();
+        this.segment = arena.allocate(Math.max(capacity, 1), ALIGNMENT);
+        this.growable = true;
+        setByteOrder(DynamicByteBuffer.ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructs a new {@code NativeByteBuffer} over an existing segment without copying it.
+     *
+     * @param segment the segment to use as the underlying storage
+     * @param arena   the arena owning the segment, closed with this buffer, or {@code null} if the buffer does not own it
+     */
+    private NativeByteBuffer(MemorySegment segment, Arena arena) {
+        if (segment.byteSize() > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Segment is larger than " + Integer.MAX_VALUE + " bytes");
+        this.segment = segment;
+        this.arena = arena;
+        this.growable = false;
+        setByteOrder(DynamicByteBuffer.ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Creates a {@code NativeByteBuffer} that reads and writes directly into the specified segment.
+     * <p>
+     * The segment is used directly (not copied), and the buffer does not take ownership of it. Because the size of a
+     * wrapped segment is fixed, writes past its end throw a {@link BufferOverflowException} instead of growing.
+     * </p>
+     *
+     * @param segment the segment to wrap
+     * @return a new buffer over {@code segment}
+     * @throws NullPointerException     if {@code segment} is {@code null}
+     * @throws IllegalArgumentException if the segment is larger than {@link Integer#MAX_VALUE} bytes
+     */
+    public static NativeByteBuffer wrap(MemorySegment segment) {
+        return new NativeByteBuffer(Objects.requireNonNull(segment, "Segment cannot be null"), null);
+    }
+
+    /**
+     * Maps an entire file into memory and returns a buffer over the mapping.
+     *
+     * @param path the file to map
+     * @param mode the mapping mode
+     * @return a new buffer over the mapped file
+     * @throws IOException if the file cannot be opened or mapped
+     * @see #map(Path, FileChannel.MapMode, long, long)
+     */
+    public static NativeByteBuffer map(Path path, FileChannel.MapMode mode) throws IOException {
+        Objects.requireNonNull(path, "Path cannot be null");
+        return map(path, mode, 0, Files.size(path));
+    }
+
+    /**
+     * Maps a region of a file into memory with {@link FileChannel#map(FileChannel.MapMode, long, long, Arena)} and
+     * returns a buffer over the mapping.
+     * <p>
+     * The file is read in place: the typed read methods load straight from the page cache, so large save and replay
+     * files never have to be copied onto the heap. With {@link FileChannel.MapMode#READ_WRITE}, writes go to the file
+     * and the file is created or extended as needed to cover the region. The buffer owns the mapping, which is released
+     * by {@link #close()}. Like a wrapped segment, a mapped buffer cannot grow; writes past its end throw a
+     * {@link BufferOverflowException}. The write position starts at 0.
+     * </p>
+     *
+     * @param path     the file to map
+     * @param mode     the mapping mode
+     * @param position the position in the file where the mapped region starts
+     * @param size     the size of the mapped region in bytes
+     * @return a new buffer over the mapped region
+     * @throws NullPointerException     if {@code path} or {@code mode} is {@code null}
+     * @throws IllegalArgumentException if {@code position} or {@code size} is negative, or {@code size} is larger than
+     *                                  {@link Integer#MAX_VALUE}
+     * @throws IOException              if the file cannot be opened or mapped
+     */
+    public static NativeByteBuffer map(Path path, FileChannel.MapMode mode, long position, long size) throws IOException {
+        Objects.requireNonNull(path, "Path cannot be null");
+        Objects.requireNonNull(mode, "Map mode cannot be null");
+        if (position < 0 || size < 0 || size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Invalid position or size");
+
+        OpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new OpenOption[]{StandardOpenOption.READ}
+                : mode == FileChannel.MapMode.READ_WRITE
+                ? new OpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE}
+                : new OpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+
+        Arena arena = Arena.ofConfined();
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            return new NativeByteBuffer(channel.map(mode, position, size, arena), arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Sets the byte order for multi-byte data types (char, short, int, long, float, double, string length prefix).
+     *
+     * @param order the byte order to use
+     * @return this buffer, for method chaining
+     * @throws NullPointerException if {@code order} is {@code null}
+     */
+    @Override
+    public NativeByteBuffer setByteOrder(DynamicByteBuffer.ByteOrder order) {
+        this.byteOrder = Objects.requireNonNull(order, "Byte order cannot be null");
+        java.nio.ByteOrder nativeOrder = order == DynamicByteBuffer.ByteOrder.BIG_ENDIAN
+                ? java.nio.ByteOrder.BIG_ENDIAN
+                : java.nio.ByteOrder.LITTLE_ENDIAN;
+        this.charLayout = ValueLayout.JAVA_CHAR_UNALIGNED.withOrder(nativeOrder);
+        this.shortLayout = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(nativeOrder);
+        this.intLayout = ValueLayout.JAVA_INT_UNALIGNED.withOrder(nativeOrder);
+        this.longLayout = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(nativeOrder);
+        this.floatLayout = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(nativeOrder);
+        this.doubleLayout = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(nativeOrder);
+        return this;
+    }
+
+    /**
+     * Returns the byte order used for multi-byte data types.
+     *
+     * @return the current byte order
+     */
+    @Override
+    public DynamicByteBuffer.ByteOrder getByteOrder() {
+        return byteOrder;
+    }
+
+    /**
+     * Reads a single byte from the buffer at the current read position and advances the read position.
+     *
+     * @return the byte value read from the buffer
+     * @throws BufferUnderflowException if there are no bytes remaining in the buffer
+     */
+    @Override
+    public byte readByte() {
+        checkRead(1);
+        return segment.get(ValueLayout.JAVA_BYTE, readPosition++);
+    }
+
+    /**
+     * Writes a single byte to the buffer at the current write position and advances the write position.
+     *
+     * @param value the byte value to write
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer writeByte(byte value) {
+        checkWrite(1);
+        segment.set(ValueLayout.JAVA_BYTE, writePosition++, value);
+        return this;
+    }
+
+    /**
+     * Reads a 16-bit character (2 bytes) from the buffer in the configured byte order and advances the read position.
+     *
+     * @return the character read from the buffer
+     * @throws BufferUnderflowException if there are fewer than 2 bytes remaining in the buffer
+     */
+    @Override
+    public char readChar() {
+        checkRead(2);
+        char value = segment.get(charLayout, readPosition);
+        readPosition += 2;
+        return value;
+    }
+
+    /**
+     * Writes a 16-bit character (2 bytes) to the buffer in the configured byte order and advances the write position.
+     *
+     * @param value the character to write
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer writeChar(char value) {
+        checkWrite(2);
+        segment.set(charLayout, writePosition, value);
+        writePosition += 2;
+        return this;
+    }
+
+    /**
+     * Reads a 16-bit short integer (2 bytes) from the buffer in the configured byte order and advances the read position.
+     *
+     * @return the short integer read from the buffer
+     * @throws BufferUnderflowException if there are fewer than 2 bytes remaining in the buffer
+     */
+    @Override
+    public short readShort() {
+        checkRead(2);
+        short value = segment.get(shortLayout, readPosition);
+        readPosition += 2;
+        return value;
+    }
+
+    /**
+     * Writes a 16-bit unsigned short integer (2 bytes) to the buffer in the configured byte order and advances the write position.
+     *
+     * @param value the unsigned short integer to write (0 to 65535)
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code value} is negative or greater than 65535
+     */
+    @Override
+    public NativeByteBuffer writeUnsignedShort(int value) {
+        if (value < 0 || value > 0xFFFF)
+            throw new IllegalArgumentException("Unsigned short value must be between 0 and 65535");
+        return writeShort((short) value);
+    }
+
+    /**
+     * Writes a 16-bit short integer (2 bytes) to the buffer in the configured byte order and advances the write position.
+     *
+     * @param value the short integer to write
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer writeShort(short value) {
+        checkWrite(2);
+        segment.set(shortLayout, writePosition, value);
+        writePosition += 2;
+        return this;
+    }
+
+    /**
+     * Writes a 32-bit unsigned integer (4 bytes) to the buffer in the configured byte order and advances the write position.
+     *
+     * @param value the unsigned integer to write (0 to 4294967295)
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code value} is negative or greater than 4294967295
+     */
+    @Override
+    public NativeByteBuffer writeUnsignedInt(long value) {
+        if (value < 0 || value > 0xFFFFFFFFL)
+            throw new IllegalArgumentException("Unsigned int value must be between 0 and 4294967295");
+        return writeInt((int) value);
+    }
+
+    /**
+     * Reads a 32-bit integer (4 bytes) from the buffer in the configured byte order and advances the read position.
+     *
+     * @return the integer read from the buffer
+     * @throws BufferUnderflowException if there are fewer than 4 bytes remaining in the buffer
+     */
+    @Override
+    public int readInt() {
+        checkRead(4);
+        int value = segment.get(intLayout, readPosition);
+        readPosition += 4;
+        return value;
+    }
+
+    /**
+     * Writes a 32-bit integer (4 bytes) to the buffer in the configured byte order and advances the write position.
+     *
+     * @param value the integer to write
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer writeInt(int value) {
+        checkWrite(4);
+        segment.set(intLayout, writePosition, value);
+        writePosition += 4;
+        return this;
+    }
+
+    /**
+     * Reads a 64-bit long integer (8 bytes) from the buffer in the configured byte order and advances the read position.
+     *
+     * @return the long integer read from the buffer
+     * @throws BufferUnderflowException if there are fewer than 8 bytes remaining in the buffer
+     */
+    @Override
+    public long readLong() {
+        checkRead(8);
+        long value = segment.get(longLayout, readPosition);
+        readPosition += 8;
+        return value;
+    }
+
+    /**
+     * Writes a 64-bit long integer (8 bytes) to the buffer in the configured byte order and advances the write position.
+     *
+     * @param value the long integer to write
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer writeLong(long value) {
+        checkWrite(8);
+        segment.set(longLayout, writePosition, value);
+        writePosition += 8;
+        return this;
+    }
+
+    /**
+     * Reads a 32-bit floating-point number (4 bytes) from the buffer by reading an integer and converting it to a float.
+     *
+     * @return the float value read from the buffer
+     * @throws BufferUnderflowException if there are fewer than 4 bytes remaining in the buffer
+     */
+    @Override
+    public float readFloat() {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    /**
+     * Writes a 32-bit floating-point number (4 bytes) to the buffer by converting it to an integer and writing it.
+     *
+     * @param value the float value to write
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer writeFloat(float value) {
+        return writeInt(Float.floatToIntBits(value));
+    }
+
+    /**
+     * Reads a 64-bit double-precision floating-point number (8 bytes) from the buffer by reading a long and converting it to a double.
+     *
+     * @return the double value read from the buffer
+     * @throws BufferUnderflowException if there are fewer than 8 bytes remaining in the buffer
+     */
+    @Override
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Writes a 64-bit double-precision floating-point number (8 bytes) to the buffer by converting it to a long and writing it.
+     *
+     * @param value the double value to write
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer writeDouble(double value) {
+        return writeLong(Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Reads a boolean value from the buffer by reading a single byte (non-zero is {@code true}, zero is {@code false}).
+     *
+     * @return the boolean value read from the buffer
+     * @throws BufferUnderflowException if there are no bytes remaining in the buffer
+     */
+    @Override
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    /**
+     * Writes a boolean value to the buffer as a single byte (1 for {@code true}, 0 for {@code false}).
+     *
+     * @param value the boolean value to write
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer writeBoolean(boolean value) {
+        return writeByte((byte) (value ? 1 : 0));
+    }
+
+    /**
+     * Reads a UTF-8 encoded string from the buffer, prefixed with a 16-bit length in the configured byte order.
+     *
+     * @return the string read from the buffer
+     * @throws BufferUnderflowException if there are not enough bytes to read the length or the string data
+     */
+    @Override
+    public String readString() {
+        int length = readShort();
+        if (length < 0)
+            throw new BufferUnderflowException();
+        return new String(readBytes(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a UTF-8 encoded string to the buffer, prefixed with a 16-bit length in the configured byte order.
+     * <p>
+     * Characters are encoded straight into native memory with the same rules as
+     * {@link DynamicByteBuffer#writeString(String)}, without an intermediate byte array.
+     * </p>
+     *
+     * @param value the string to write
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code value} is {@code null} or its encoding is longer than 32767 bytes
+     */
+    @Override
+    public NativeByteBuffer writeString(String value) {
+        if (value == null)
+            throw new IllegalArgumentException("String cannot be null");
+
+        int length = DynamicByteBuffer.utf8Length(value);
+        if (length > Short.MAX_VALUE)
+            throw new IllegalArgumentException("String is too long");
+        checkWrite(2 + length);
+        segment.set(shortLayout, writePosition, (short) length);
+        writePosition = encodeUtf8(value, segment, writePosition + 2);
+        return this;
+    }
+
+    /**
+     * Reads a specified number of bytes from the buffer into a new byte array and advances the read position.
+     *
+     * @param length the number of bytes to read
+     * @return a new byte array containing the read bytes
+     * @throws BufferUnderflowException if there are fewer than {@code length} bytes remaining in the buffer
+     */
+    @Override
+    public byte[] readBytes(int length) {
+        checkRead(length);
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, readPosition, bytes, 0, length);
+        readPosition += length;
+        return bytes;
+    }
+
+    /**
+     * Reads bytes from the buffer into a portion of the specified array and advances the read position.
+     *
+     * @param bytes  the array to read into
+     * @param offset the index in {@code bytes} of the first byte to fill
+     * @param length the number of bytes to read
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code bytes} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length} bytes remaining in the buffer
+     */
+    @Override
+    public NativeByteBuffer readBytes(byte[] bytes, int offset, int length) {
+        Objects.requireNonNull(bytes, "Byte array cannot be null");
+        if (offset < 0 || length < 0 || offset + length > bytes.length)
+            throw new IllegalArgumentException("Invalid offset or length");
+        checkRead(length);
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, readPosition, bytes, offset, length);
+        readPosition += length;
+        return this;
+    }
+
+    /**
+     * Writes all bytes from the specified byte array to the buffer and advances the write position.
+     *
+     * @param bytes the byte array to write
+     * @return this buffer, for method chaining
+     * @throws NullPointerException if {@code bytes} is {@code null}
+     */
+    @Override
+    public NativeByteBuffer writeBytes(byte[] bytes) {
+        return writeBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes a portion of the specified byte array to the buffer and advances the write position.
+     *
+     * @param bytes  the byte array to write
+     * @param offset the starting index in the byte array
+     * @param length the number of bytes to write
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code bytes} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     */
+    @Override
+    public NativeByteBuffer writeBytes(byte[] bytes, int offset, int length) {
+        Objects.requireNonNull(bytes, "Byte array cannot be null");
+        if (offset < 0 || length < 0 || offset + length > bytes.length)
+            throw new IllegalArgumentException("Invalid offset or length");
+        checkWrite(length);
+        MemorySegment.copy(bytes, offset, segment, ValueLayout.JAVA_BYTE, writePosition, length);
+        writePosition += length;
+        return this;
+    }
+
+    /**
+     * Writes the entire contents of the specified segment to the buffer and advances the write position.
+     *
+     * @param source the segment to copy from
+     * @return this buffer, for method chaining
+     * @throws NullPointerException     if {@code source} is {@code null}
+     * @throws IllegalArgumentException if the segment is larger than {@link Integer#MAX_VALUE} bytes
+     */
+    public NativeByteBuffer writeBytes(MemorySegment source) {
+        Objects.requireNonNull(source, "Segment cannot be null");
+        if (source.byteSize() > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Segment is larger than " + Integer.MAX_VALUE + " bytes");
+        int length = (int) source.byteSize();
+        checkWrite(length);
+        MemorySegment.copy(source, 0, segment, writePosition, length);
+        writePosition += length;
+        return this;
+    }
+
+    /**
+     * Reads bytes from a channel into this buffer at the write position with a single {@code read} call, and advances
+     * the write position by the number of bytes read.
+     * <p>
+     * The channel reads straight into native memory through a direct {@link ByteBuffer} view; nothing is copied.
+     * The buffer is grown first if fewer than {@code maxBytes} bytes are writable.
+     * </p>
+     *
+     * @param channel  the channel to read from
+     * @param maxBytes the maximum number of bytes to read
+     * @return the number of bytes read, possibly 0, or -1 if the channel has reached end-of-stream
+     * @throws NullPointerException     if {@code channel} is {@code null}
+     * @throws IllegalArgumentException if {@code maxBytes} is negative
+     * @throws BufferOverflowException  if this buffer cannot grow and has fewer than {@code maxBytes} writable bytes
+     * @throws IOException              if the channel fails to read
+     */
+    @Override
+    public int readFrom(ReadableByteChannel channel, int maxBytes) throws IOException {
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        if (maxBytes < 0)
+            throw new IllegalArgumentException("Maximum bytes cannot be negative");
+        checkWrite(maxBytes);
+        int read = channel.read(segment.asSlice(writePosition, maxBytes).asByteBuffer());
+        if (read > 0)
+            writePosition += read;
+        return read;
+    }
+
+    /**
+     * Writes the bytes between the read and write positions to a channel and advances the read position past the bytes
+     * written.
+     * <p>
+     * The channel reads straight from native memory; nothing is copied. Pending bits must be flushed with
+     * {@link #flushBits()} beforehand to be included.
+     * </p>
+     *
+     * @param channel the channel to write to
+     * @return the number of bytes written
+     * @throws NullPointerException if {@code channel} is {@code null}
+     * @throws IOException          if the channel fails to write
+     */
+    @Override
+    public int writeTo(WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        ByteBuffer source = segment.asSlice(readPosition, Math.max(0, writePosition - readPosition)).asByteBuffer();
+        while (source.hasRemaining()) {
+            if (channel.write(source) <= 0)
+                break;
+        }
+        readPosition += source.position();
+        return source.position();
+    }
+
+    /**
+     * Reads {@code length} 16-bit short integers from the buffer into the specified array in the configured byte order and
+     * advances the read position, using a single bulk copy.
+     *
+     * @param values the array to read into
+     * @param offset the index in {@code values} of the first element to fill
+     * @param length the number of elements to read
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length * 2} bytes remaining in the buffer
+     */
+    @Override
+    public NativeByteBuffer readShorts(short[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkRead(length << 1);
+        MemorySegment.copy(segment, shortLayout, readPosition, values, offset, length);
+        readPosition += length << 1;
+        return this;
+    }
+
+    /**
+     * Writes {@code length} 16-bit short integers from the specified array to the buffer in the configured byte order and
+     * advances the write position, using a single bulk copy.
+     *
+     * @param values the array to write
+     * @param offset the index in {@code values} of the first element to write
+     * @param length the number of elements to write
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     */
+    @Override
+    public NativeByteBuffer writeShorts(short[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkWrite(length << 1);
+        MemorySegment.copy(values, offset, segment, shortLayout, writePosition, length);
+        writePosition += length << 1;
+        return this;
+    }
+
+    /**
+     * Reads {@code length} 32-bit integers from the buffer into the specified array in the configured byte order and
+     * advances the read position, using a single bulk copy.
+     *
+     * @param values the array to read into
+     * @param offset the index in {@code values} of the first element to fill
+     * @param length the number of elements to read
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length * 4} bytes remaining in the buffer
+     */
+    @Override
+    public NativeByteBuffer readInts(int[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkRead(length << 2);
+        MemorySegment.copy(segment, intLayout, readPosition, values, offset, length);
+        readPosition += length << 2;
+        return this;
+    }
+
+    /**
+     * Writes {@code length} 32-bit integers from the specified array to the buffer in the configured byte order and
+     * advances the write position, using a single bulk copy.
+     *
+     * @param values the array to write
+     * @param offset the index in {@code values} of the first element to write
+     * @param length the number of elements to write
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     */
+    @Override
+    public NativeByteBuffer writeInts(int[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkWrite(length << 2);
+        MemorySegment.copy(values, offset, segment, intLayout, writePosition, length);
+        writePosition += length << 2;
+        return this;
+    }
+
+    /**
+     * Reads {@code length} 64-bit long integers from the buffer into the specified array in the configured byte order and
+     * advances the read position, using a single bulk copy.
+     *
+     * @param values the array to read into
+     * @param offset the index in {@code values} of the first element to fill
+     * @param length the number of elements to read
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length * 8} bytes remaining in the buffer
+     */
+    @Override
+    public NativeByteBuffer readLongs(long[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkRead(length << 3);
+        MemorySegment.copy(segment, longLayout, readPosition, values, offset, length);
+        readPosition += length << 3;
+        return this;
+    }
+
+    /**
+     * Writes {@code length} 64-bit long integers from the specified array to the buffer in the configured byte order and
+     * advances the write position, using a single bulk copy.
+     *
+     * @param values the array to write
+     * @param offset the index in {@code values} of the first element to write
+     * @param length the number of elements to write
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     */
+    @Override
+    public NativeByteBuffer writeLongs(long[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkWrite(length << 3);
+        MemorySegment.copy(values, offset, segment, longLayout, writePosition, length);
+        writePosition += length << 3;
+        return this;
+    }
+
+    /**
+     * Reads {@code length} 32-bit floating-point numbers from the buffer into the specified array in the configured byte order and
+     * advances the read position, using a single bulk copy.
+     *
+     * @param values the array to read into
+     * @param offset the index in {@code values} of the first element to fill
+     * @param length the number of elements to read
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length * 4} bytes remaining in the buffer
+     */
+    @Override
+    public NativeByteBuffer readFloats(float[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkRead(length << 2);
+        MemorySegment.copy(segment, floatLayout, readPosition, values, offset, length);
+        readPosition += length << 2;
+        return this;
+    }
+
+    /**
+     * Writes {@code length} 32-bit floating-point numbers from the specified array to the buffer in the configured byte order and
+     * advances the write position, using a single bulk copy.
+     *
+     * @param values the array to write
+     * @param offset the index in {@code values} of the first element to write
+     * @param length the number of elements to write
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     */
+    @Override
+    public NativeByteBuffer writeFloats(float[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkWrite(length << 2);
+        MemorySegment.copy(values, offset, segment, floatLayout, writePosition, length);
+        writePosition += length << 2;
+        return this;
+    }
+
+    /**
+     * Reads {@code length} 64-bit floating-point numbers from the buffer into the specified array in the configured byte order and
+     * advances the read position, using a single bulk copy.
+     *
+     * @param values the array to read into
+     * @param offset the index in {@code values} of the first element to fill
+     * @param length the number of elements to read
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     * @throws BufferUnderflowException if there are fewer than {@code length * 8} bytes remaining in the buffer
+     */
+    @Override
+    public NativeByteBuffer readDoubles(double[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkRead(length << 3);
+        MemorySegment.copy(segment, doubleLayout, readPosition, values, offset, length);
+        readPosition += length << 3;
+        return this;
+    }
+
+    /**
+     * Writes {@code length} 64-bit floating-point numbers from the specified array to the buffer in the configured byte order and
+     * advances the write position, using a single bulk copy.
+     *
+     * @param values the array to write
+     * @param offset the index in {@code values} of the first element to write
+     * @param length the number of elements to write
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative, or if
+     *                                  {@code offset + length} exceeds the array length
+     */
+    @Override
+    public NativeByteBuffer writeDoubles(double[] values, int offset, int length) {
+        Objects.requireNonNull(values, "Array cannot be null");
+        checkRange(values.length, offset, length);
+        checkWrite(length << 3);
+        MemorySegment.copy(values, offset, segment, doubleLayout, writePosition, length);
+        writePosition += length << 3;
+        return this;
+    }
+
+    /**
+     * Reads a single bit from the buffer and advances the bit position.
+     * <p>
+     * Bits are read from bytes in most-significant-bit-first order, exactly as in {@link DynamicByteBuffer#readBit()}.
+     * </p>
+     *
+     * @return {@code true} if the bit is 1, {@code false} if the bit is 0
+     * @throws BufferUnderflowException if there are no bytes remaining in the buffer when a new byte is needed
+     */
+    @Override
+    public boolean readBit() {
+        if (bitReadCount == 0) {
+            checkRead(1);
+            bitReadBuffer = segment.get(ValueLayout.JAVA_BYTE, readPosition++) & 0xFF;
+            bitReadCount = 8;
+        }
+        boolean bit = ((bitReadBuffer >> (bitReadCount - 1)) & 1) == 1;
+        bitReadCount--;
+        return bit;
+    }
+
+    /**
+     * Writes a single bit to the buffer and advances the bit position.
+     * <p>
+     * Bits are accumulated in the most-significant-bit-first order, exactly as in {@link DynamicByteBuffer#writeBit(boolean)}.
+     * </p>
+     *
+     * @param bit the bit to write ({@code true} for 1, {@code false} for 0)
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer writeBit(boolean bit) {
+        bitWriteBuffer = (bitWriteBuffer << 1) | (bit ? 1 : 0);
+        bitWriteCount++;
+        if (bitWriteCount == 8) {
+            checkWrite(1);
+            segment.set(ValueLayout.JAVA_BYTE, writePosition++, (byte) bitWriteBuffer);
+            bitWriteBuffer = 0;
+            bitWriteCount = 0;
+        }
+        return this;
+    }
+
+    /**
+     * Flushes any remaining bits in the bit write buffer to the buffer, padding with zeros if necessary.
+     *
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer flushBits() {
+        if (bitWriteCount > 0) {
+            checkWrite(1);
+            segment.set(ValueLayout.JAVA_BYTE, writePosition++, (byte) (bitWriteBuffer << (8 - bitWriteCount)));
+            bitWriteBuffer = 0;
+            bitWriteCount = 0;
+        }
+        return this;
+    }
+
+    /**
+     * Discards any bits remaining from the byte currently being read bit by bit, so the next bit read starts at a byte
+     * boundary. This is the reading counterpart of {@link #flushBits()}.
+     *
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer discardBits() {
+        bitReadBuffer = 0;
+        bitReadCount = 0;
+        return this;
+    }
+
+    /**
+     * Reads a specified number of bits from the buffer and returns them as an integer.
+     * <p>
+     * The bits are read in most-significant-bit-first order and assembled into the lower bits of the returned integer.
+     * For example, reading 3 bits with values 1, 0, 1 returns the integer 5 (binary 101).
+     * </p>
+     * <p>
+     * Rather than reading one bit at a time, the pending bits of the current byte and every whole byte needed are
+     * gathered into a 64-bit accumulator with a single bounds check, and the result is extracted with one shift. The
+     * bit layout is identical to reading the same number of bits through {@link #readBit()}.
+     * </p>
+     *
+     * @param numBits the number of bits to read (0 to 32)
+     * @return the integer value formed by the read bits
+     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 32
+     * @throws BufferUnderflowException if there are insufficient bytes to read the required bits
+     */
+    @Override
+    public int readBits(int numBits) {
+        if (numBits < 0 || numBits > 32)
+            throw new IllegalArgumentException("Number of bits must be between 0 and 32");
+
+        int available = bitReadCount;
+        if (numBits <= available) {
+            bitReadCount = available - numBits;
+            return (bitReadBuffer >>> bitReadCount) & ((1 << numBits) - 1);
+        }
+
+        int bytes = (numBits - available + 7) >>> 3;
+        checkRead(bytes);
+
+        long accumulator = bitReadBuffer & ((1 << available) - 1);
+        for (int i = 0; i < bytes; i++)
+            accumulator = (accumulator << 8) | (segment.get(ValueLayout.JAVA_BYTE, readPosition++) & 0xFF);
+
+        bitReadCount = available + (bytes << 3) - numBits;
+        bitReadBuffer = segment.get(ValueLayout.JAVA_BYTE, readPosition - 1) & 0xFF;
+        return (int) (accumulator >>> bitReadCount);
+    }
+
+    /**
+     * Reads a specified number of bits from the buffer and returns them as a long.
+     * <p>
+     * This behaves exactly like {@link #readBits(int)} but supports up to 64 bits. Values wider than 32 bits are read as
+     * their high part followed by their low 32 bits, matching the layout produced by {@link #writeBits(long, int)}.
+     * </p>
+     *
+     * @param numBits the number of bits to read (0 to 64)
+     * @return the long value formed by the read bits
+     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 64
+     * @throws BufferUnderflowException if there are insufficient bytes to read the required bits
+     */
+    @Override
+    public long readLongBits(int numBits) {
+        if (numBits < 0 || numBits > 64)
+            throw new IllegalArgumentException("Number of bits must be between 0 and 64");
+        if (numBits <= 32)
+            return readBits(numBits) & 0xFFFFFFFFL;
+
+        long high = readBits(numBits - 32) & 0xFFFFFFFFL;
+        return (high << 32) | (readBits(32) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Writes a specified number of bits from an integer to the buffer.
+     * <p>
+     * The bits are taken from the lower {@code numBits} of the {@code value} parameter and written in
+     * most-significant-bit-first order. For example, writing the value 5 (binary 101) with {@code numBits=3} writes
+     * the bits 1, 0, 1.
+     * </p>
+     * <p>
+     * The bits are appended to the pending bits in a 64-bit accumulator, and every completed byte is emitted after a
+     * single capacity check. The output is byte-for-byte identical to writing the bits one at a time through
+     * {@link #writeBit(boolean)}.
+     * </p>
+     *
+     * @param value   the integer containing the bits to write
+     * @param numBits the number of bits to write (0 to 32)
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 32
+     */
+    @Override
+    public NativeByteBuffer writeBits(int value, int numBits) {
+        if (numBits < 0 || numBits > 32)
+            throw new IllegalArgumentException("Number of bits must be between 0 and 32");
+        if (numBits == 0)
+            return this;
+
+        long accumulator = ((long) bitWriteBuffer << numBits) | (value & (0xFFFFFFFFL >>> (32 - numBits)));
+        int count = bitWriteCount + numBits;
+        int bytes = count >>> 3;
+
+        if (bytes > 0) {
+            checkWrite(bytes);
+            count -= bytes << 3;
+            for (int i = bytes - 1; i >= 0; i--)
+                segment.set(ValueLayout.JAVA_BYTE, writePosition++, (byte) (accumulator >>> (count + (i << 3))));
+        }
+
+        bitWriteBuffer = (int) accumulator & ((1 << count) - 1);
+        bitWriteCount = count;
+        return this;
+    }
+
+    /**
+     * Writes a specified number of bits from a long to the buffer.
+     * <p>
+     * This behaves exactly like {@link #writeBits(int, int)} but supports up to 64 bits, writing values wider than 32 bits
+     * as their high part followed by their low 32 bits.
+     * </p>
+     *
+     * @param value   the long containing the bits to write
+     * @param numBits the number of bits to write (0 to 64)
+     * @return this buffer, for method chaining
+     * @throws IllegalArgumentException if {@code numBits} is negative or greater than 64
+     */
+    @Override
+    public NativeByteBuffer writeBits(long value, int numBits) {
+        if (numBits < 0 || numBits > 64)
+            throw new IllegalArgumentException("Number of bits must be between 0 and 64");
+        if (numBits <= 32)
+            return writeBits((int) value, numBits);
+
+        writeBits((int) (value >>> 32), numBits - 32);
+        return writeBits((int) value, 32);
+    }
+
+    /**
+     * Reads an unsigned variable-length integer (VarInt) from the buffer and advances the read position.
+     * <p>
+     * VarInts store seven bits per byte, least significant group first, with the high bit of each byte set when more
+     * bytes follow. Small values therefore take a single byte, and any {@code int} takes at most 5 bytes.
+     * </p>
+     *
+     * @return the integer value read from the buffer
+     * @throws BufferUnderflowException if the buffer ends before the VarInt is complete
+     * @throws IllegalStateException    if the VarInt is longer than 5 bytes
+     */
+    @Override
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            checkRead(1);
+            byte b = segment.get(ValueLayout.JAVA_BYTE, readPosition++);
+            value |= (b & 0x7F) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new IllegalStateException("VarInt is longer than 5 bytes");
+    }
+
+    /**
+     * Writes an unsigned variable-length integer (VarInt) to the buffer and advances the write position.
+     * <p>
+     * Negative values are treated as unsigned and always take 5 bytes; use {@link #writeSignedVarInt(int)} for values
+     * that are frequently negative.
+     * </p>
+     *
+     * @param value the integer to write
+     * @return this buffer, for method chaining
+     * @see #readVarInt()
+     */
+    @Override
+    public NativeByteBuffer writeVarInt(int value) {
+        checkWrite(DynamicByteBuffer.varIntSize(value));
+        while ((value & ~0x7F) != 0) {
+            segment.set(ValueLayout.JAVA_BYTE, writePosition++, (byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        segment.set(ValueLayout.JAVA_BYTE, writePosition++, (byte) value);
+        return this;
+    }
+
+    /**
+     * Reads an unsigned variable-length long (VarLong) from the buffer and advances the read position.
+     *
+     * @return the long value read from the buffer
+     * @throws BufferUnderflowException if the buffer ends before the VarLong is complete
+     * @throws IllegalStateException    if the VarLong is longer than 10 bytes
+     * @see #readVarInt()
+     */
+    @Override
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            checkRead(1);
+            byte b = segment.get(ValueLayout.JAVA_BYTE, readPosition++);
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new IllegalStateException("VarLong is longer than 10 bytes");
+    }
+
+    /**
+     * Writes an unsigned variable-length long (VarLong) to the buffer and advances the write position.
+     *
+     * @param value the long to write
+     * @return this buffer, for method chaining
+     * @see #writeVarInt(int)
+     */
+    @Override
+    public NativeByteBuffer writeVarLong(long value) {
+        checkWrite(DynamicByteBuffer.varLongSize(value));
+        while ((value & ~0x7FL) != 0) {
+            segment.set(ValueLayout.JAVA_BYTE, writePosition++, (byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        segment.set(ValueLayout.JAVA_BYTE, writePosition++, (byte) value);
+        return this;
+    }
+
+    /**
+     * Writes a signed integer as a ZigZag-encoded VarInt, so small negative values take as few bytes as small positive ones.
+     *
+     * @param value the signed integer to write
+     * @return this buffer, for method chaining
+     * @see DynamicByteBuffer#zigZagEncode(int)
+     */
+    @Override
+    public NativeByteBuffer writeSignedVarInt(int value) {
+        return writeVarInt(DynamicByteBuffer.zigZagEncode(value));
+    }
+
+    /**
+     * Writes a signed long as a ZigZag-encoded VarLong.
+     *
+     * @param value the signed long to write
+     * @return this buffer, for method chaining
+     * @see DynamicByteBuffer#zigZagEncode(long)
+     */
+    @Override
+    public NativeByteBuffer writeSignedVarLong(long value) {
+        return writeVarLong(DynamicByteBuffer.zigZagEncode(value));
+    }
+
+    /**
+     * Returns the current read position in the buffer.
+     *
+     * @return the current read position
+     */
+    @Override
+    public int getReadPosition() {
+        return readPosition;
+    }
+
+    /**
+     * Sets the read position to the specified value, resetting the bit read buffer.
+     *
+     * @param position the new read position
+     * @throws IllegalArgumentException if {@code position} is negative or greater than the capacity
+     */
+    @Override
+    public void setReadPosition(int position) {
+        if (position < 0 || position > capacity())
+            throw new IllegalArgumentException("Invalid read position");
+
+        this.readPosition = position;
+        this.bitReadBuffer = 0;
+        this.bitReadCount = 0;
+    }
+
+    /**
+     * Checks if there are any bytes remaining to read from the current read position to the end of the buffer.
+     *
+     * @return {@code true} if there are remaining bytes to read, {@code false} otherwise
+     */
+    @Override
+    public boolean hasRemaining() {
+        return readPosition < capacity();
+    }
+
+    /**
+     * Returns the current write position in the buffer.
+     *
+     * @return the current write position
+     */
+    @Override
+    public int getWritePosition() {
+        return writePosition;
+    }
+
+    /**
+     * Sets the write position to the specified value, resetting the bit write buffer.
+     *
+     * @param position the new write position
+     * @throws IllegalArgumentException if {@code position} is negative or greater than the capacity
+     */
+    @Override
+    public void setWritePosition(int position) {
+        if (position < 0 || position > capacity())
+            throw new IllegalArgumentException("Invalid write position");
+
+        this.extent = Math.max(extent, writePosition);
+        this.writePosition = position;
+        this.bitWriteBuffer = 0;
+        this.bitWriteCount = 0;
+    }
+
+    /**
+     * Creates a new {@code NativeByteBuffer} containing a copy of a portion of this buffer's data.
+     * <p>
+     * The new buffer owns its own memory, is independent of this buffer, and must be closed separately.
+     * </p>
+     *
+     * @param start  the starting index of the slice
+     * @param length the length of the slice
+     * @return a new {@code NativeByteBuffer} containing the sliced data
+     * @throws IllegalArgumentException if {@code start} or {@code length} is negative, or if
+     *                                  {@code start + length} exceeds the capacity
+     */
+    public NativeByteBuffer slice(int start, int length) {
+        if (start < 0 || length < 0 || start + length > capacity())
+            throw new IllegalArgumentException("Invalid slice range");
+
+        NativeByteBuffer slice = new NativeByteBuffer(length);
+        MemorySegment.copy(segment, start, slice.segment, 0, length);
+        return slice.setByteOrder(byteOrder);
+    }
+
+    /**
+     * Clears the buffer by resetting all positions and bit buffers and filling the memory with zeros.
+     *
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer clear() {
+        resetPositions();
+        segment.fill((byte) 0);
+        return this;
+    }
+
+    /**
+     * Resets the read and write positions and bit buffers to their initial states without modifying the contents.
+     *
+     * @return this buffer, for method chaining
+     */
+    @Override
+    public NativeByteBuffer resetPositions() {
+        extent = Math.max(extent, writePosition);
+        readPosition = 0;
+        writePosition = 0;
+        bitReadBuffer = 0;
+        bitWriteBuffer = 0;
+        bitReadCount = 0;
+        bitWriteCount = 0;
+        return this;
+    }
+
+    /**
+     * Returns the segment currently backing this buffer.
+     * <p>
+     * The returned segment is invalidated when the buffer grows or is closed, so it should not be retained across writes.
+     * </p>
+     *
+     * @return the backing memory segment
+     */
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    /**
+     * Returns the native address of the first byte of this buffer, for LWJGL functions taking raw pointers
+     * (for example {@code nglTexImage2D} or {@code nalBufferData}).
+     * <p>
+     * The address is invalidated when the buffer grows or is closed.
+     * </p>
+     *
+     * @return the native base address of the buffer contents
+     */
+    public long address() {
+        return segment.address();
+    }
+
+    /**
+     * Returns a direct {@link ByteBuffer} view of the bytes written so far, from index 0 to the write position.
+     * <p>
+     * No data is copied; the view shares this buffer's memory and is invalidated when the buffer grows or is closed.
+     * </p>
+     *
+     * @return a direct byte buffer viewing the written contents
+     */
+    public ByteBuffer asByteBuffer() {
+        return segment.asSlice(0, writePosition).asByteBuffer();
+    }
+
+    /**
+     * Returns the total number of bytes this buffer can currently hold without growing.
+     *
+     * @return the capacity in bytes
+     */
+    @Override
+    public int capacity() {
+        return (int) segment.byteSize();
+    }
+
+    /**
+     * Returns the number of bytes remaining for reading from the current read position.
+     *
+     * @return the number of readable bytes
+     */
+    @Override
+    public int remainingRead() {
+        return capacity() - readPosition;
+    }
+
+    /**
+     * Returns the number of bytes remaining for writing from the current write position.
+     *
+     * @return the number of writable bytes
+     */
+    @Override
+    public int remainingWrite() {
+        return capacity() - writePosition;
+    }
+
+    /**
+     * Releases the native memory owned by this buffer. Buffers wrapping a foreign segment are left untouched.
+     * <p>
+     * The buffer must not be used after it has been closed.
+     * </p>
+     */
+    @Override
+    public void close() {
+        if (arena != null) {
+            arena.close();
+            arena = null;
+        }
+    }
+
+    /**
+     * Encodes the specified string as UTF-8 into a segment, exactly as {@link DynamicByteBuffer#encodeUtf8} encodes into
+     * an array.
+     *
+     * @param value    the string to encode
+     * @param target   the segment to encode into, which must have room for
+     *                 {@link DynamicByteBuffer#utf8Length(CharSequence)} bytes
+     * @param position the offset of the first byte to write
+     * @return the offset one past the last byte written
+     */
+    private static int encodeUtf8(String value, MemorySegment target, int position) {
+        int count = value.length();
+        for (int i = 0; i < count; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                target.set(ValueLayout.JAVA_BYTE, position++, (byte) c);
+            } else if (c < 0x800) {
+                target.set(ValueLayout.JAVA_BYTE, position++, (byte) (0xC0 | (c >> 6)));
+                target.set(ValueLayout.JAVA_BYTE, position++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                target.set(ValueLayout.JAVA_BYTE, position++, (byte) (0xF0 | (codePoint >> 18)));
+                target.set(ValueLayout.JAVA_BYTE, position++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                target.set(ValueLayout.JAVA_BYTE, position++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                target.set(ValueLayout.JAVA_BYTE, position++, (byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                target.set(ValueLayout.JAVA_BYTE, position++, (byte) '?');
+            } else {
+                target.set(ValueLayout.JAVA_BYTE, position++, (byte) (0xE0 | (c >> 12)));
+                target.set(ValueLayout.JAVA_BYTE, position++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                target.set(ValueLayout.JAVA_BYTE, position++, (byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Validates that {@code offset} and {@code length} describe a range within an array of the specified length.
+     *
+     * @param arrayLength the length of the array
+     * @param offset      the starting index in the array
+     * @param length      the number of elements in the range
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    private static void checkRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > arrayLength)
+            throw new IllegalArgumentException("Invalid offset or length");
+    }
+
+    /**
+     * Checks if there are enough bytes remaining to read the specified number of bytes.
+     *
+     * @param bytes the number of bytes to check
+     * @throws BufferUnderflowException if there are insufficient bytes remaining
+     */
+    private void checkRead(int bytes) {
+        if (readPosition + bytes > segment.byteSize())
+            throw new BufferUnderflowException();
+    }
+
+    /**
+     * Ensures the buffer has enough capacity to write the specified number of bytes, growing if necessary.
+     *
+     * @param bytes the number of bytes to check
+     * @throws BufferOverflowException if the buffer wraps a foreign segment that is too small
+     */
+    private void checkWrite(int bytes) {
+        if (writePosition + bytes > segment.byteSize())
+            grow(writePosition + bytes);
+    }
+
+    /**
+     * Moves the buffer into a larger segment of at least {@code required} bytes.
+     * <p>
+     * Only the bytes that have been written are copied; everything past that point is zero in both the old segment and
+     * the freshly allocated one, so copying the full capacity would be wasted work.
+     * </p>
+     *
+     * @param required the minimum capacity needed
+     * @throws BufferOverflowException if this buffer wraps or maps a segment it cannot replace
+     */
+    private void grow(int required) {
+        if (!growable)
+            throw new BufferOverflowException();
+
+        long newCapacity = Math.min(Integer.MAX_VALUE, Math.max(segment.byteSize() * 2, required));
+        Arena newArena = Arena.ofConfined();
+        MemorySegment newSegment = newArena.allocate(newCapacity, ALIGNMENT);
+        MemorySegment.copy(segment, 0, newSegment, 0, Math.max(extent, writePosition));
+        arena.close();
+
+        arena = newArena;
+        segment = newSegment;
+    }
+}
@@ -0,0 +1,217 @@
+package jgl.io.buffer;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A string table that sends repeated strings through a {@link DataBuffer} as small integer IDs.
+ * <p>
+ * The first time a string is written it is sent as a literal and assigned the next free ID; every later write of the
+ * same string sends only that ID. The reading side assigns IDs in the same order as it reads literals, so IDs never
+ * have to be sent explicitly and both tables stay in sync as long as every write is read back in order.
+ * </p>
+ * <p>
+ * <b>Wire format:</b> a VarInt of {@code id + 1} for a known string, or a VarInt of {@code 0} followed by the string in
+ * the format of {@link DynamicByteBuffer#writeString(String)} for a new one. Once the table holds {@code maxEntries}
+ * strings, new strings are still sent as literals but are no longer assigned IDs, which keeps memory bounded.
+ * </p>
+ * <p>
+ * A table tracks one direction of one connection: use one instance for writing and a separate one for reading, and
+ * {@link #clear()} both ends together when the connection is reset.
+ * </p>
+ * <p>
+ * <b>Thread Safety:</b> This class is not thread-safe.
+ * </p>
+ * <p>
+ * <b>Usage Example:</b>
+ * <pre>
+ * StringTable outgoing = new StringTable(1024);
+ * outgoing.write(buffer, "player");   // 0, then the literal "player"
+ * outgoing.write(buffer, "player");   // 1
+ *
+ * StringTable incoming = new StringTable(1024);
+ * incoming.read(buffer);              // "player"
+ * incoming.read(buffer);              // "player", without decoding any bytes
+ * </pre>
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+public final class StringTable {
+
+    /**
+     * The maximum number of strings this table assigns IDs to.
+     */
+    private final int maxEntries;
+    /**
+     * The strings written so far, used by the writing side as the keys of an open-addressing table with linear probing.
+     * The length is a power of two, at least twice the number of strings.
+     */
+    private String[] keys = new String[32];
+    /**
+     * The ID of the string in the same slot of {@code keys}, stored unboxed.
+     */
+    private int[] ids = new int[32];
+    /**
+     * The strings read so far, indexed by ID, used by the reading side.
+     */
+    private String[] strings = new String[16];
+    /**
+     * The number of strings that have an ID.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty string table.
+     *
+     * @param maxEntries the maximum number of strings to assign IDs to
+     * @throws IllegalArgumentException if {@code maxEntries} is negative
+     */
+    public StringTable(int maxEntries) {
+        if (maxEntries < 0)
+            throw new IllegalArgumentException("Maximum entries cannot be negative");
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Writes a string to the buffer, as its ID if it was written before or as a literal otherwise.
+     *
+     * @param buffer the buffer to write to
+     * @param value  the string to write
+     * @throws NullPointerException     if {@code buffer} or {@code value} is {@code null}
+     * @throws IllegalArgumentException if a literal is too long for {@link DataBuffer#writeString(String)}
+     * @throws java.nio.BufferOverflowException if the buffer is a view and the string does not fit
+     */
+    public void write(DataBuffer buffer, String value) {
+        Objects.requireNonNull(value, "String cannot be null");
+        int id = idOf(value);
+        if (id >= 0) {
+            buffer.writeVarInt(id + 1);
+            return;
+        }
+        // A literal that cannot be written must not leave its tag behind, or every later read is misaligned.
+        int start = buffer.getWritePosition();
+        try {
+            buffer.writeVarInt(0).writeString(value);
+        } catch (RuntimeException e) {
+            buffer.setWritePosition(start);
+            throw e;
+        }
+        if (size < maxEntries)
+            put(value, size++);
+    }
+
+    /**
+     * Reads a string written by {@link #write(DataBuffer, String)} on the other end of the connection.
+     * <p>
+     * A string sent as an ID is returned from the table without decoding or allocating anything.
+     * </p>
+     *
+     * @param buffer the buffer to read from
+     * @return the string read
+     * @throws NullPointerException     if {@code buffer} is {@code null}
+     * @throws IllegalStateException    if the ID is not in the table, which means the two ends are out of sync
+     * @throws java.nio.BufferUnderflowException if there are not enough bytes in the buffer
+     */
+    public String read(DataBuffer buffer) {
+        int tag = buffer.readVarInt();
+        if (tag != 0) {
+            int id = tag - 1;
+            if (id < 0 || id >= size)
+                throw new IllegalStateException("Unknown string ID: " + id);
+            return strings[id];
+        }
+        String value = buffer.readString();
+        if (size < maxEntries) {
+            if (size == strings.length)
+                strings = Arrays.copyOf(strings, Math.min(maxEntries, size * 2));
+            strings[size++] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Removes every string from the table. Both ends of a connection must be cleared at the same point in the stream.
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(strings, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the number of strings that have an ID.
+     *
+     * @return the size of this table
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of strings this table assigns IDs to.
+     *
+     * @return the maximum number of entries
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Returns the ID of a string written before.
+     *
+     * @param value the string
+     * @return the ID of {@code value}, or -1 if it has none
+     */
+    private int idOf(String value) {
+        int mask = keys.length - 1;
+        for (int slot = mix(value.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            String key = keys[slot];
+            if (key == null)
+                return -1;
+            if (key.equals(value))
+                return ids[slot];
+        }
+    }
+
+    /**
+     * Assigns the next ID to a string that has none, doubling the table first if it would become more than half full.
+     * IDs are assigned in order from 0, so {@code id + 1} is the number of strings in the table afterwards.
+     *
+     * @param value the string
+     * @param id    the ID to assign
+     */
+    private void put(String value, int id) {
+        if ((id + 1) * 2 > keys.length) {
+            String[] oldKeys = keys;
+            int[] oldIds = ids;
+            keys = new String[oldKeys.length * 2];
+            ids = new int[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null)
+                    insert(oldKeys[i], oldIds[i]);
+            }
+        }
+        insert(value, id);
+    }
+
+    private void insert(String value, int id) {
+        int mask = keys.length - 1;
+        int slot = mix(value.hashCode()) & mask;
+        while (keys[slot] != null)
+            slot = (slot + 1) & mask;
+        keys[slot] = value;
+        ids[slot] = id;
+    }
+
+    /**
+     * Spreads the high bits of a string hash into the low bits the table index is taken from.
+     *
+     * @param hash the hash code to mix
+     * @return the mixed hash
+     */
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
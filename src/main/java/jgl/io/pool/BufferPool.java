@@ -0,0 +1,364 @@
+package jgl.io.pool;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * A shared pool of primitive arrays and direct byte buffers, for code that needs temporary storage on every call.
+ * <p>
+ * Storage is grouped into power-of-two size classes: a request for {@code n} elements is served with an array or buffer
+ * of the smallest class that holds {@code n}, so the result may be larger than asked for. Each platform thread keeps a
+ * small magazine of free arrays per class, so a thread that frees and obtains storage of its own never touches shared
+ * state; magazines that fill up spill into a small shared depot per class that every thread can take from. Virtual
+ * threads skip the magazines and use the depot directly.
+ * </p>
+ * <p>
+ * Requests smaller than {@value #MIN_SIZE} elements are rounded up to that size, and requests larger than
+ * {@value #MAX_SIZE} bytes are allocated exactly and never pooled. The amount of memory each class may hold is bounded,
+ * so the pool never keeps more than a few megabytes per thread plus a few megabytes per class in the depot.
+ * </p>
+ * <p>
+ * The contents of obtained storage are undefined; direct buffers are returned cleared and in native byte order, like
+ * the buffers of {@code org.lwjgl.BufferUtils}. Storage must not be used after it is freed, and only storage obtained
+ * from this pool should be freed to it; anything of a size the pool does not manage is simply dropped.
+ * </p>
+ * <p>
+ * <b>Usage Example:</b>
+ * <pre>
+ * byte[] scratch = BufferPool.obtainBytes(1024);
+ * try {
+ *     int read = in.read(scratch);
+ *     ...
+ * } finally {
+ *     BufferPool.free(scratch);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+public final class BufferPool {
+
+    /**
+     * The smallest size class, in elements.
+     */
+    public static final int MIN_SIZE = 64;
+    /**
+     * The largest size class, in bytes.
+     */
+    public static final int MAX_SIZE = 1 << 22;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_SIZE);
+    private static final int MAX_SHIFT = Integer.numberOfTrailingZeros(MAX_SIZE);
+    /**
+     * The number of bytes each class may hold in the shared depot.
+     */
+    private static final int DEPOT_BYTES = 1 << 23;
+    /**
+     * The number of bytes each class may hold in the magazine of one thread.
+     */
+    private static final int MAGAZINE_BYTES = 1 << 18;
+
+    private static final SizeClasses<byte[]> BYTES = new SizeClasses<>(byte[]::new, a -> a.length, 0);
+    private static final SizeClasses<short[]> SHORTS = new SizeClasses<>(short[]::new, a -> a.length, 1);
+    private static final SizeClasses<ByteBuffer> DIRECT = new SizeClasses<>(ByteBuffer::allocateDirect, ByteBuffer::capacity, 0);
+
+    private BufferPool() {
+    }
+
+    /**
+     * Obtains a byte array of at least the specified length.
+     *
+     * @param minLength the minimum length of the array
+     * @return a pooled or new array whose length is at least {@code minLength}
+     * @throws IllegalArgumentException if {@code minLength} is negative
+     */
+    public static byte[] obtainBytes(int minLength) {
+        return BYTES.obtain(minLength);
+    }
+
+    /**
+     * Obtains a short array of at least the specified length.
+     *
+     * @param minLength the minimum length of the array
+     * @return a pooled or new array whose length is at least {@code minLength}
+     * @throws IllegalArgumentException if {@code minLength} is negative
+     */
+    public static short[] obtainShorts(int minLength) {
+        return SHORTS.obtain(minLength);
+    }
+
+    /**
+     * Obtains a direct byte buffer of at least the specified capacity. The buffer's position is 0, its limit is its
+     * capacity and its byte order is the native order.
+     *
+     * @param minCapacity the minimum capacity of the buffer
+     * @return a pooled or new direct buffer whose capacity is at least {@code minCapacity}
+     * @throws IllegalArgumentException if {@code minCapacity} is negative
+     */
+    public static ByteBuffer obtainDirect(int minCapacity) {
+        return DIRECT.obtain(minCapacity).clear().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Obtains a byte array of at least the specified length as a lease that frees it when closed.
+     *
+     * @param minLength the minimum length of the array
+     * @return a lease of a pooled or new array whose length is at least {@code minLength}
+     * @throws IllegalArgumentException if {@code minLength} is negative
+     * @see Lease
+     */
+    public static Lease<byte[]> leaseBytes(int minLength) {
+        return Lease.of(obtainBytes(minLength), BufferPool::free);
+    }
+
+    /**
+     * Obtains a short array of at least the specified length as a lease that frees it when closed.
+     *
+     * @param minLength the minimum length of the array
+     * @return a lease of a pooled or new array whose length is at least {@code minLength}
+     * @throws IllegalArgumentException if {@code minLength} is negative
+     * @see Lease
+     */
+    public static Lease<short[]> leaseShorts(int minLength) {
+        return Lease.of(obtainShorts(minLength), BufferPool::free);
+    }
+
+    /**
+     * Obtains a direct byte buffer of at least the specified capacity as a lease that frees it when closed.
+     *
+     * @param minCapacity the minimum capacity of the buffer
+     * @return a lease of a pooled or new direct buffer whose capacity is at least {@code minCapacity}
+     * @throws IllegalArgumentException if {@code minCapacity} is negative
+     * @see Lease
+     */
+    public static Lease<ByteBuffer> leaseDirect(int minCapacity) {
+        return Lease.of(obtainDirect(minCapacity), BufferPool::free);
+    }
+
+    /**
+     * Returns a byte array to the pool.
+     *
+     * @param array the array to return; {@code null} is ignored
+     */
+    public static void free(byte[] array) {
+        BYTES.free(array);
+    }
+
+    /**
+     * Returns a short array to the pool.
+     *
+     * @param array the array to return; {@code null} is ignored
+     */
+    public static void free(short[] array) {
+        SHORTS.free(array);
+    }
+
+    /**
+     * Returns a direct byte buffer to the pool. Heap buffers are ignored.
+     *
+     * @param buffer the buffer to return; {@code null} is ignored
+     */
+    public static void free(ByteBuffer buffer) {
+        if (buffer != null && buffer.isDirect() && !buffer.isReadOnly())
+            DIRECT.free(buffer);
+    }
+
+    /**
+     * Drops everything held in the shared depots and in the calling thread's magazines. The magazines of other threads
+     * are emptied the next time those threads use the pool.
+     */
+    public static void clear() {
+        BYTES.clear();
+        SHORTS.clear();
+        DIRECT.clear();
+    }
+
+    /**
+     * The size classes of one kind of storage.
+     *
+     * @param <A> the array or buffer type
+     */
+    private static final class SizeClasses<A> {
+
+        /**
+         * The number of depot slots a thread examines before giving up.
+         */
+        private static final int PROBES = 8;
+
+        private final IntFunction<A> allocator;
+        private final ToIntFunction<A> length;
+        private final int maxShift;
+        private final AtomicReferenceArray<A>[] depots;
+        private final int[] magazineCapacities;
+        private final ThreadLocal<Magazines> magazines;
+        private volatile int generation;
+
+        /**
+         * Creates the size classes for one kind of storage.
+         *
+         * @param allocator    allocates storage of an exact number of elements
+         * @param length       returns the number of elements in a piece of storage
+         * @param elementShift the base 2 logarithm of the size of one element in bytes
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        SizeClasses(IntFunction<A> allocator, ToIntFunction<A> length, int elementShift) {
+            this.allocator = allocator;
+            this.length = length;
+            this.maxShift = MAX_SHIFT - elementShift;
+
+            int classes = maxShift - MIN_SHIFT + 1;
+            this.depots = new AtomicReferenceArray[classes];
+            this.magazineCapacities = new int[classes];
+            for (int i = 0; i < classes; i++) {
+                int bytesShift = MIN_SHIFT + i + elementShift;
+                depots[i] = new AtomicReferenceArray<>(Math.clamp(DEPOT_BYTES >>> bytesShift, 2, 32));
+                magazineCapacities[i] = Math.clamp(MAGAZINE_BYTES >>> bytesShift, 1, 8);
+            }
+            this.magazines = ThreadLocal.withInitial(() -> new Magazines(classes));
+        }
+
+        /**
+         * Obtains storage of at least the specified number of elements.
+         */
+        A obtain(int minLength) {
+            if (minLength < 0)
+                throw new IllegalArgumentException("Length cannot be negative");
+            int shift = minLength <= MIN_SIZE ? MIN_SHIFT : 32 - Integer.numberOfLeadingZeros(minLength - 1);
+            if (shift > maxShift)
+                return allocator.apply(minLength);
+
+            int index = shift - MIN_SHIFT;
+            Thread thread = Thread.currentThread();
+            if (!thread.isVirtual()) {
+                A item = magazines().pop(index);
+                if (item != null)
+                    return item;
+            }
+            AtomicReferenceArray<A> depot = depots[index];
+            int start = start(thread);
+            for (int i = 0, n = Math.min(PROBES, depot.length()); i < n; i++) {
+                int slot = (start + i) % depot.length();
+                if (depot.getPlain(slot) != null) {
+                    A item = depot.getAndSet(slot, null);
+                    if (item != null)
+                        return item;
+                }
+            }
+            return allocator.apply(1 << shift);
+        }
+
+        /**
+         * Returns storage to its size class, or drops it if it does not belong to one.
+         */
+        void free(A item) {
+            if (item == null)
+                return;
+            int size = length.applyAsInt(item);
+            if (Integer.bitCount(size) != 1)
+                return;
+            int shift = Integer.numberOfTrailingZeros(size);
+            if (shift < MIN_SHIFT || shift > maxShift)
+                return;
+
+            int index = shift - MIN_SHIFT;
+            Thread thread = Thread.currentThread();
+            if (!thread.isVirtual() && magazines().push(index, item, magazineCapacities[index]))
+                return;
+            AtomicReferenceArray<A> depot = depots[index];
+            int start = start(thread);
+            for (int i = 0, n = Math.min(PROBES, depot.length()); i < n; i++) {
+                int slot = (start + i) % depot.length();
+                if (depot.getPlain(slot) == null && depot.compareAndSet(slot, null, item))
+                    return;
+            }
+        }
+
+        /**
+         * Drops everything in the depots and in the calling thread's magazines.
+         */
+        void clear() {
+            generation++;
+            for (AtomicReferenceArray<A> depot : depots) {
+                for (int i = 0; i < depot.length(); i++)
+                    depot.set(i, null);
+            }
+            if (!Thread.currentThread().isVirtual())
+                magazines();
+        }
+
+        /**
+         * Returns the magazines of the calling platform thread, emptying them first if the pool was cleared since
+         * they were last used.
+         */
+        private Magazines magazines() {
+            Magazines magazines = this.magazines.get();
+            int current = generation;
+            if (magazines.generation != current) {
+                magazines.clear();
+                magazines.generation = current;
+            }
+            return magazines;
+        }
+
+        /**
+         * Returns the depot slot a thread starts probing from.
+         */
+        private static int start(Thread thread) {
+            long id = thread.threadId();
+            int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & Integer.MAX_VALUE;
+        }
+
+        /**
+         * The magazines of one thread: a small stack of free storage per size class.
+         */
+        private final class Magazines {
+            private final Object[][] items;
+            private final int[] counts;
+            private int generation;
+
+            Magazines(int classes) {
+                this.items = new Object[classes][];
+                this.counts = new int[classes];
+            }
+
+            @SuppressWarnings("unchecked")
+            A pop(int index) {
+                int count = counts[index];
+                if (count == 0)
+                    return null;
+                Object[] magazine = items[index];
+                counts[index] = --count;
+                A item = (A) magazine[count];
+                magazine[count] = null;
+                return item;
+            }
+
+            boolean push(int index, A item, int capacity) {
+                Object[] magazine = items[index];
+                if (magazine == null)
+                    magazine = items[index] = new Object[capacity];
+                int count = counts[index];
+                if (count == magazine.length)
+                    return false;
+                magazine[count] = item;
+                counts[index] = count + 1;
+                return true;
+            }
+
+            void clear() {
+                for (int i = 0; i < items.length; i++) {
+                    if (items[i] != null)
+                        Arrays.fill(items[i], null);
+                    counts[i] = 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package jgl.io.pool;
+
+import jgl.collections.stack.FastStack;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe pool of reusable objects with the same {@code obtain()}/{@code free()} contract as {@link Pool}.
+ * <p>
+ * Each platform thread keeps a small private cache of free objects, so the common case of a thread freeing and
+ * obtaining objects of its own touches no shared state at all. Objects that overflow a cache go to a shared array of
+ * slots that every thread can take from. Threads claim and release slots with single atomic operations, starting from
+ * different positions so they rarely compete for the same slot or cache line; nothing is locked and no node is
+ * allocated per object, so obtain/free throughput keeps scaling as more threads use the pool.
+ * </p>
+ * <p>
+ * Virtual threads skip the private cache and use the shared slots directly. They are typically short-lived and
+ * numerous, and a cache per virtual thread would strand objects in threads that never come back.
+ * </p>
+ * <p>
+ * The pool is a cache, not an inventory: an {@code obtain()} that finds nothing within a few probes creates a new object,
+ * and a {@code free()} that finds no empty slot drops the object. Neither ever blocks or fails.
+ * </p>
+ *
+ * @param <T> the type of objects managed by this pool, must extend {@code Poolable}
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+public class ConcurrentPool<T extends Poolable> implements ObjectPool<T> {
+
+    /**
+     * The number of shared slots a thread examines before giving up.
+     */
+    private static final int PROBES = 8;
+    /**
+     * The number of references that fit in a cache line, used to start threads on different lines.
+     */
+    private static final int LINE = 16;
+    /**
+     * The default capacity of each thread's private cache.
+     */
+    private static final int DEFAULT_LOCAL_CAPACITY = 16;
+
+    private final Supplier<T> factory;
+    private final int maxSize;
+    private final int localCapacity;
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final ThreadLocal<Cache<T>> caches = ThreadLocal.withInitial(Cache::new);
+
+    /**
+     * Incremented by {@link #clear()}; thread caches from an older generation are emptied the next time they are used.
+     */
+    private volatile int generation;
+
+    /**
+     * Creates a pool with a factory and max size, and the default thread cache capacity.
+     *
+     * @param factory Supplier to create new objects.
+     * @param maxSize Maximum number of objects in the shared part of the pool, rounded up to a power of two.
+     */
+    public ConcurrentPool(Supplier<T> factory, int maxSize) {
+        this(factory, maxSize, DEFAULT_LOCAL_CAPACITY);
+    }
+
+    /**
+     * Creates a pool with a factory, max size and thread cache capacity.
+     *
+     * @param factory       Supplier to create new objects.
+     * @param maxSize       Maximum number of objects in the shared part of the pool, rounded up to a power of two.
+     * @param localCapacity Maximum number of objects each platform thread keeps for itself; 0 disables thread caches.
+     * @throws NullPointerException     if {@code factory} is {@code null}
+     * @throws IllegalArgumentException if {@code maxSize} or {@code localCapacity} is negative
+     */
+    public ConcurrentPool(Supplier<T> factory, int maxSize, int localCapacity) {
+        if (maxSize < 0 || localCapacity < 0)
+            throw new IllegalArgumentException("Pool sizes cannot be negative");
+        this.factory = Objects.requireNonNull(factory, "Factory cannot be null");
+        this.maxSize = maxSize;
+        this.localCapacity = localCapacity;
+        int capacity = maxSize <= 1 ? 1 : Integer.highestOneBit(maxSize - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(maxSize == 0 ? 0 : capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Get an object from the calling thread's cache, then from the shared slots, or create a new one.
+     *
+     * @return A pooled object.
+     */
+    @Override
+    public T obtain() {
+        Thread thread = Thread.currentThread();
+        if (localCapacity > 0 && !thread.isVirtual()) {
+            T obj = cache().stack.pop();
+            if (obj != null)
+                return obj;
+        }
+        if (maxSize > 0) {
+            int start = start(thread);
+            for (int i = 0; i < PROBES; i++) {
+                int index = (start + i) & mask;
+                if (slots.getPlain(index) != null) {
+                    T obj = slots.getAndSet(index, null);
+                    if (obj != null)
+                        return obj;
+                }
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * Reset an object and return it to the calling thread's cache, or to the shared slots if the cache is full.
+     *
+     * @param obj Object to return; {@code null} is ignored.
+     */
+    @Override
+    public void free(T obj) {
+        if (obj == null) return;
+        obj.reset();
+
+        Thread thread = Thread.currentThread();
+        if (localCapacity > 0 && !thread.isVirtual()) {
+            Cache<T> cache = cache();
+            if (cache.stack.size() < localCapacity) {
+                cache.stack.push(obj);
+                return;
+            }
+        }
+        if (maxSize > 0) {
+            int start = start(thread);
+            for (int i = 0; i < PROBES; i++) {
+                int index = (start + i) & mask;
+                if (slots.getPlain(index) == null && slots.compareAndSet(index, null, obj))
+                    return;
+            }
+        }
+    }
+
+    /**
+     * Clear all objects from the shared slots and from the calling thread's cache. The caches of other threads are
+     * emptied the next time those threads use the pool.
+     */
+    @Override
+    public void clear() {
+        generation++;
+        for (int i = 0; i < slots.length(); i++)
+            slots.set(i, null);
+        if (localCapacity > 0 && !Thread.currentThread().isVirtual())
+            cache();
+    }
+
+    /**
+     * Get the number of objects in the shared slots and in the calling thread's cache. Objects cached by other threads
+     * are not counted, and the result is only a snapshot while other threads use the pool.
+     *
+     * @return Number of objects currently available to the calling thread.
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null)
+                size++;
+        }
+        if (localCapacity > 0 && !Thread.currentThread().isVirtual())
+            size += cache().stack.size();
+        return size;
+    }
+
+    /**
+     * Returns the calling thread's cache, emptying it first if the pool was cleared since it was last used.
+     *
+     * @return the cache of the calling thread
+     */
+    private Cache<T> cache() {
+        Cache<T> cache = caches.get();
+        int current = generation;
+        if (cache.generation != current) {
+            cache.stack.clear();
+            cache.generation = current;
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the slot a thread starts probing from: a hash of its id, rounded to the start of a cache line so that
+     * threads spread over different lines.
+     *
+     * @param thread the calling thread
+     * @return the first slot index to probe
+     */
+    private static int start(Thread thread) {
+        long id = thread.threadId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) * LINE;
+    }
+
+    /**
+     * The private cache of one thread.
+     */
+    private static final class Cache<T> {
+        final FastStack<T> stack = new FastStack<>();
+        int generation;
+    }
+}
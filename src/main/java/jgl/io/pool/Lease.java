@@ -0,0 +1,165 @@
+package jgl.io.pool;
+
+import java.lang.ref.Cleaner;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A borrowed pooled object that goes back to its pool when the lease is closed, for use with try-with-resources.
+ * <p>
+ * An object obtained from a pool and never freed does not break anything; the pool just creates a new one next time,
+ * and slowly degrades into plain allocation. Leases make the return automatic, and in leak detection mode they also
+ * report the leases that were never closed: each lease then records where it was obtained, and when a lease is garbage
+ * collected without having been closed, that stack trace is logged as a warning. Leak detection costs a stack trace and
+ * a {@link Cleaner} registration per lease, so it is meant for debugging; it is off unless the system property
+ * {@code jgl.pool.leakDetection} is {@code true} or {@link #setLeakDetection(boolean)} turns it on.
+ * </p>
+ * <p>
+ * <b>Usage Example:</b>
+ * <pre>
+ * try (Lease&lt;Particle&gt; lease = particles.lease()) {
+ *     Particle particle = lease.get();
+ *     ...
+ * }
+ *
+ * try (Lease&lt;byte[]&gt; scratch = BufferPool.leaseBytes(4096)) {
+ *     int read = in.read(scratch.get());
+ *     ...
+ * }
+ * </pre>
+ * </p>
+ *
+ * @param <T> the type of the leased object
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+public final class Lease<T> implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(Lease.class.getName());
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final AtomicLong LEAKS = new AtomicLong();
+    private static volatile boolean leakDetection = Boolean.getBoolean("jgl.pool.leakDetection");
+
+    private final Consumer<? super T> release;
+    private T value;
+    private final Tracker tracker;
+    private final Cleaner.Cleanable cleanable;
+
+    private Lease(T value, Consumer<? super T> release) {
+        this.value = value;
+        this.release = release;
+        if (leakDetection) {
+            this.tracker = new Tracker(value.getClass().getName(), new Throwable("Lease obtained here"));
+            this.cleanable = CLEANER.register(this, tracker);
+        } else {
+            this.tracker = null;
+            this.cleanable = null;
+        }
+    }
+
+    /**
+     * Creates a lease of an object that is given to {@code release} when the lease is closed.
+     *
+     * @param value   the leased object
+     * @param release returns the object to its pool
+     * @param <T>     the type of the leased object
+     * @return the lease
+     * @throws NullPointerException if {@code value} or {@code release} is {@code null}
+     */
+    public static <T> Lease<T> of(T value, Consumer<? super T> release) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        Objects.requireNonNull(release, "Release cannot be null");
+        return new Lease<>(value, release);
+    }
+
+    /**
+     * Returns the leased object.
+     *
+     * @return the leased object
+     * @throws IllegalStateException if the lease has been closed
+     */
+    public T get() {
+        T value = this.value;
+        if (value == null)
+            throw new IllegalStateException("Lease is closed");
+        return value;
+    }
+
+    /**
+     * Returns whether the lease has been closed.
+     *
+     * @return {@code true} if the object has been returned
+     */
+    public boolean isClosed() {
+        return value == null;
+    }
+
+    /**
+     * Returns the leased object to its pool. Closing a lease more than once has no effect.
+     */
+    @Override
+    public void close() {
+        T value = this.value;
+        if (value == null)
+            return;
+        this.value = null;
+        if (tracker != null) {
+            tracker.closed = true;
+            cleanable.clean();
+        }
+        release.accept(value);
+    }
+
+    /**
+     * Turns leak detection on or off for leases created from now on.
+     *
+     * @param enabled whether new leases record where they were obtained and report themselves if never closed
+     */
+    public static void setLeakDetection(boolean enabled) {
+        leakDetection = enabled;
+    }
+
+    /**
+     * Returns whether leak detection is on for new leases.
+     *
+     * @return {@code true} if leak detection is on
+     */
+    public static boolean isLeakDetection() {
+        return leakDetection;
+    }
+
+    /**
+     * Returns the number of leaks reported since the application started.
+     *
+     * @return the number of leases that were garbage collected without being closed while leak detection was on
+     */
+    public static long getLeakCount() {
+        return LEAKS.get();
+    }
+
+    /**
+     * The state a {@link Cleaner} needs to report a leaked lease, kept apart from the lease so that it does not keep
+     * the lease reachable.
+     */
+    private static final class Tracker implements Runnable {
+        private final String type;
+        private final Throwable origin;
+        private volatile boolean closed;
+
+        Tracker(String type, Throwable origin) {
+            this.type = type;
+            this.origin = origin;
+        }
+
+        @Override
+        public void run() {
+            if (closed)
+                return;
+            LEAKS.incrementAndGet();
+            logger.log(Level.WARNING, "Leaked a lease of " + type + " that was never closed", origin);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package jgl.io.pool;
+
+/**
+ * The common contract of object pools: {@link #obtain()} hands out an object, and {@link #free(Poolable)} resets it with
+ * {@link Poolable#reset()} and keeps it for a later {@code obtain()}.
+ * <p>
+ * Code that only borrows and returns objects can depend on this interface and work with either the single-threaded
+ * {@link Pool} or the thread-safe {@link ConcurrentPool}.
+ *
+ * @param <T> the type of objects managed by the pool
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+public interface ObjectPool<T extends Poolable> {
+
+    /**
+     * Get an object from the pool or create a new one if empty.
+     *
+     * @return A pooled object.
+     */
+    T obtain();
+
+    /**
+     * Reset an object and return it to the pool. Objects beyond the capacity of the pool are left to the garbage collector.
+     *
+     * @param obj Object to return; {@code null} is ignored.
+     */
+    void free(T obj);
+
+    /**
+     * Get an object from the pool as a lease that frees it when closed, for use with try-with-resources.
+     *
+     * @return A lease of a pooled object.
+     * @see Lease
+     */
+    default Lease<T> lease() {
+        return Lease.of(obtain(), this::free);
+    }
+
+    /**
+     * Clear all objects from the pool.
+     */
+    void clear();
+
+    /**
+     * Get the current size of the pool.
+     *
+     * @return Number of objects currently in the pool.
+     */
+    int size();
+}
@@ -2,6 +2,7 @@ package jgl.io.pool;
 
 import jgl.collections.stack.FastStack;
 
+import java.util.Objects;
 import java.util.function.Supplier;
 
 
@@ -9,16 +10,44 @@ import java.util.function.Supplier;
  * A generic pool implementation for managing reusable objects to minimize object creation and improve performance.
  * Objects stored in this pool must implement the {@code Poolable} interface to support resetting their state
  * before being reused.
+ * <p>
+ * This pool is not thread-safe; use {@link ConcurrentPool} to share a pool between threads.
+ * <p>
+ * The pool counts hits, misses, kept and dropped frees, and its high-water mark; read them with {@link #stats()} to
+ * tune its size. A pool created with a {@link PoolPolicy} tunes itself: it grows under sustained misses and releases
+ * objects that stay idle for longer than the policy's decay.
  *
  * @param <T> the type of objects managed by this pool, must extend {@code Poolable}
  * @author Albert Beaupre
  * @since December 9th, 2025
  */
-public class Pool<T extends Poolable> {
+public class Pool<T extends Poolable> implements ObjectPool<T> {
+
+    /**
+     * The number of {@code obtain()} calls between two evaluations of the adaptive policy.
+     */
+    private static final int WINDOW = 256;
 
     private final FastStack<T> pool;
     private final Supplier<T> factory;
-    private final int maxSize;
+    private final PoolPolicy policy;
+    private int maxSize;
+
+    private long hits;
+    private long misses;
+    private long frees;
+    private long drops;
+    private long trimmed;
+    private int highWaterMark;
+
+    /**
+     * The smallest size of the pool since the last trim; that many objects have been idle the whole time.
+     */
+    private int lowWaterMark;
+    private long lastTrim = System.nanoTime();
+    private int windowObtains;
+    private int windowMisses;
+    private int windowDrops;
 
     /**
      * Creates a pool with a factory and max size.
@@ -29,19 +58,41 @@ public class Pool<T extends Poolable> {
     public Pool(Supplier<T> factory, int maxSize) {
         this.pool = new FastStack<>();
         this.factory = factory;
+        this.policy = null;
         this.maxSize = maxSize;
     }
 
+    /**
+     * Creates a pool with a factory whose size adapts to its use.
+     *
+     * @param factory Supplier to create new objects.
+     * @param policy  Policy that decides when the pool grows and trims.
+     */
+    public Pool(Supplier<T> factory, PoolPolicy policy) {
+        this.pool = new FastStack<>();
+        this.factory = factory;
+        this.policy = Objects.requireNonNull(policy, "Policy cannot be null");
+        this.maxSize = policy.minCapacity();
+    }
+
     /**
      * Get an object from the pool or create a new one if empty.
      *
      * @return A pooled object.
      */
+    @Override
     public T obtain() {
         T obj = pool.pop();
         if (obj == null) {
             obj = factory.get();
+            misses++;
+            windowMisses++;
+        } else {
+            hits++;
+            lowWaterMark = Math.min(lowWaterMark, pool.size());
         }
+        if (policy != null && ++windowObtains == WINDOW)
+            adapt();
         return obj;
     }
 
@@ -50,18 +101,59 @@ public class Pool<T extends Poolable> {
      *
      * @param obj Object to return.
      */
+    @Override
     public void free(T obj) {
         if (obj == null) return;
         obj.reset();
-        if (pool.size() < maxSize)
+        if (pool.size() < maxSize) {
             pool.push(obj);
+            frees++;
+            highWaterMark = Math.max(highWaterMark, pool.size());
+        } else {
+            drops++;
+            windowDrops++;
+        }
+    }
+
+    /**
+     * Releases the objects that have stayed in the pool since the previous trim without being obtained. With an
+     * adaptive policy the capacity shrinks by the same amount; this happens automatically once per decay period while
+     * the pool is in use, and can be forced by calling this method, for example when a pool goes quiet.
+     *
+     * @return The number of objects released.
+     */
+    public int trim() {
+        int idle = Math.min(lowWaterMark, pool.size());
+        for (int i = 0; i < idle; i++)
+            pool.pop();
+        trimmed += idle;
+        if (policy != null)
+            maxSize = Math.max(policy.minCapacity(), maxSize - idle);
+        lowWaterMark = pool.size();
+        lastTrim = System.nanoTime();
+        return idle;
+    }
+
+    /**
+     * Applies the adaptive policy at the end of a window of {@code obtain()} calls.
+     */
+    private void adapt() {
+        if (windowDrops > 0 && windowMisses > windowObtains * policy.growMissRatio())
+            maxSize = (int) Math.min(policy.maxCapacity(), Math.max(1, maxSize * 2L));
+        windowObtains = 0;
+        windowMisses = 0;
+        windowDrops = 0;
+        if (System.nanoTime() - lastTrim >= policy.decay().toNanos())
+            trim();
     }
 
     /**
      * Clear all objects from the pool.
      */
+    @Override
     public void clear() {
         pool.clear();
+        lowWaterMark = 0;
     }
 
     /**
@@ -69,7 +161,43 @@ public class Pool<T extends Poolable> {
      *
      * @return Number of objects currently in the pool.
      */
+    @Override
     public int size() {
         return pool.size();
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the maximum number of objects the pool currently keeps.
+     *
+     * @return The capacity of the pool, which changes over time under an adaptive policy.
+     */
+    public int getCapacity() {
+        return maxSize;
+    }
+
+    /**
+     * Get the adaptive policy of the pool.
+     *
+     * @return The policy, or {@code null} if the pool has a fixed size.
+     */
+    public PoolPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Take a snapshot of the pool's counters.
+     *
+     * @return The current stats of the pool.
+     */
+    public PoolStats stats() {
+        return new PoolStats(hits, misses, frees, drops, trimmed, pool.size(), highWaterMark, maxSize, System.nanoTime());
+    }
+
+    /**
+     * Reset the pool's counters and high-water mark to zero, for example at the start of a measurement.
+     */
+    public void resetStats() {
+        hits = misses = frees = drops = trimmed = 0;
+        highWaterMark = pool.size();
+    }
+}
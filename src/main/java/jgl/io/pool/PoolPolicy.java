@@ -0,0 +1,55 @@
+package jgl.io.pool;
+
+import java.time.Duration;
+
+/**
+ * An adaptive sizing policy for a {@link Pool}.
+ * <p>
+ * The pool starts at {@code minCapacity} and measures itself over windows of {@code obtain()} calls. When the share of
+ * misses in a window exceeds {@code growMissRatio} while freed objects were being dropped for lack of room, the pool
+ * doubles its capacity, up to {@code maxCapacity}. Objects that sit in the pool untouched for a whole
+ * {@code decay} period are released, and the capacity shrinks by the same amount, never below {@code minCapacity}.
+ * </p>
+ *
+ * @param minCapacity   the capacity the pool starts with and never shrinks below
+ * @param maxCapacity   the capacity the pool never grows beyond
+ * @param growMissRatio the share of misses in a window above which the pool grows
+ * @param decay         how long an object must stay idle before it is released
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+public record PoolPolicy(int minCapacity, int maxCapacity, double growMissRatio, Duration decay) {
+
+    /**
+     * The share of misses above which {@link #adaptive(int, int, Duration)} grows a pool.
+     */
+    public static final double DEFAULT_GROW_MISS_RATIO = 0.1;
+
+    /**
+     * Validates the policy.
+     *
+     * @throws IllegalArgumentException if a capacity is negative, {@code minCapacity} exceeds {@code maxCapacity},
+     *                                  {@code growMissRatio} is not between 0 and 1, or {@code decay} is negative
+     * @throws NullPointerException     if {@code decay} is {@code null}
+     */
+    public PoolPolicy {
+        if (minCapacity < 0 || maxCapacity < minCapacity)
+            throw new IllegalArgumentException("Invalid capacity range");
+        if (!(growMissRatio >= 0 && growMissRatio <= 1))
+            throw new IllegalArgumentException("Grow miss ratio must be between 0 and 1");
+        if (decay.isNegative())
+            throw new IllegalArgumentException("Decay cannot be negative");
+    }
+
+    /**
+     * Creates a policy with the default grow threshold.
+     *
+     * @param minCapacity the capacity the pool starts with and never shrinks below
+     * @param maxCapacity the capacity the pool never grows beyond
+     * @param decay       how long an object must stay idle before it is released
+     * @return the policy
+     */
+    public static PoolPolicy adaptive(int minCapacity, int maxCapacity, Duration decay) {
+        return new PoolPolicy(minCapacity, maxCapacity, DEFAULT_GROW_MISS_RATIO, decay);
+    }
+}
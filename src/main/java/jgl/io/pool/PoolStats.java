@@ -0,0 +1,56 @@
+package jgl.io.pool;
+
+/**
+ * A snapshot of the counters of a {@link Pool}, taken with {@link Pool#stats()}.
+ * <p>
+ * Counters are cumulative since the pool was created or its stats were last reset, so rates are measured by comparing
+ * two snapshots: {@code now.allocationRate(earlier)} is the number of objects the pool had to create per second in
+ * between. A pool that is too small shows a high miss count together with drops; a pool that hoards memory shows a
+ * high-water mark well above the number of objects it actually hands out, and trims once it decays.
+ * </p>
+ *
+ * @param hits          the number of {@code obtain()} calls served from the pool
+ * @param misses        the number of {@code obtain()} calls that had to create a new object
+ * @param frees         the number of objects returned to the pool and kept
+ * @param drops         the number of objects returned to a full pool and left to the garbage collector
+ * @param trimmed       the number of idle objects released by trimming
+ * @param size          the number of objects in the pool when the snapshot was taken
+ * @param highWaterMark the largest number of objects the pool has held at once
+ * @param capacity      the maximum number of objects the pool held when the snapshot was taken
+ * @param timestamp     the value of {@link System#nanoTime()} when the snapshot was taken
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+public record PoolStats(long hits, long misses, long frees, long drops, long trimmed, int size, int highWaterMark,
+                        int capacity, long timestamp) {
+
+    /**
+     * Returns the total number of {@code obtain()} calls.
+     *
+     * @return hits plus misses
+     */
+    public long obtains() {
+        return hits + misses;
+    }
+
+    /**
+     * Returns the fraction of {@code obtain()} calls that were served from the pool.
+     *
+     * @return the hit ratio between 0 and 1, or 1 if nothing was obtained yet
+     */
+    public double hitRatio() {
+        long obtains = obtains();
+        return obtains == 0 ? 1 : (double) hits / obtains;
+    }
+
+    /**
+     * Returns the number of objects created per second between an earlier snapshot and this one.
+     *
+     * @param earlier a snapshot of the same pool taken before this one
+     * @return the allocation rate in objects per second, or 0 if no time has passed
+     */
+    public double allocationRate(PoolStats earlier) {
+        long elapsed = timestamp - earlier.timestamp;
+        return elapsed <= 0 ? 0 : (misses - earlier.misses) * 1e9 / elapsed;
+    }
+}
@@ -0,0 +1,39 @@
+package jgl.io.serial;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@code BitWidth} annotation packs an integral field into the specified number of bits with
+ * {@code DynamicByteBuffer.writeBits} instead of writing whole bytes.
+ *
+ * <p>
+ * It applies to {@code byte}, {@code short}, {@code char}, {@code int} and {@code long} fields (and record components),
+ * to arrays of those types, where it applies to every element, and to {@code boolean} fields with a width of 1.
+ * Consecutive bit-packed fields share bytes; the bits are flushed to a byte boundary before the next field that is not
+ * bit-packed and at the end of the object.
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface BitWidth {
+
+    /**
+     * The number of bits to write, from 1 up to the size of the field type in bits.
+     *
+     * @return the bit width
+     */
+    int value();
+
+    /**
+     * Whether the value is signed. Only the low bits are written either way; a signed value is sign-extended from its
+     * highest written bit when it is read back, while an unsigned value is zero-extended.
+     *
+     * @return {@code true} to sign-extend on read; defaults to {@code false}
+     */
+    boolean signed() default false;
+}
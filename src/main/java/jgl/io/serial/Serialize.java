@@ -0,0 +1,22 @@
+package jgl.io.serial;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@code Serialize} annotation marks a class whose fields can be written and read by a {@link Serializer}.
+ *
+ * <p>
+ * Records are always serializable and do not need this annotation. For an annotated class, every non-static,
+ * non-transient field is serialized in declaration order, after the fields of any annotated superclass. The class must
+ * declare a no-argument constructor, which may be private.
+ *
+ * @author Albert Beaupre
+ * @since October 17th, 2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Serialize {
+}
@@ -0,0 +1,576 @@
+package jgl.io.serial;
+
+import jgl.io.buffer.DataBuffer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Writes and reads records and {@link Serialize}-annotated classes to and from a {@link DataBuffer}, on the heap or in
+ * native memory.
+ * <p>
+ * A {@code Serializer} inspects its type once, when it is created, and compiles a tree of {@link MethodHandle}s that calls
+ * the typed {@code DataBuffer} methods directly for every field: {@code writeInt} for an {@code int},
+ * {@code writeString} for a {@code String}, {@code writeBits} for a field annotated with {@link BitWidth}, and so on.
+ * Field access goes through handles obtained once as well, so encoding and decoding involve no reflection and no boxing.
+ * The field order is simply the declaration order, so the encoder and decoder can no longer drift apart.
+ * </p>
+ * <p>
+ * Supported field types are all primitives, {@code String}, enums (written as their ordinal), records and
+ * {@code Serialize}-annotated classes (nested in place), and arrays of any of these, prefixed with their length as a
+ * VarInt. Arrays of {@code byte}, {@code short}, {@code int}, {@code long}, {@code float} and {@code double} use the bulk
+ * transfer methods of {@code DataBuffer}. Null references are not supported, and neither are types that contain
+ * themselves.
+ * </p>
+ * <p>
+ * Serializers are cached per type, so {@link #of(Class)} is cheap after the first call; keep the result in a field
+ * rather than looking it up for every value. The JIT compiles each handle tree as a whole, but the tree is held in an
+ * ordinary instance field, so it is not inlined into the caller: every value costs one call through the tree, which
+ * is somewhat slower than the equivalent hand-written sequence of calls.
+ * </p>
+ * <p>
+ * <b>Usage Example:</b>
+ * <pre>
+ * record Move(int entity, &#64;BitWidth(4) int direction, &#64;BitWidth(1) boolean running, float speed) {}
+ *
+ * static final Serializer&lt;Move&gt; MOVE = Serializer.of(Move.class);
+ *
+ * MOVE.write(buffer, new Move(7, 3, true, 1.5f));
+ * Move move = MOVE.read(buffer);
+ * </pre>
+ * </p>
+ *
+ * @param <T> the type this serializer writes and reads
+ * @author Albert Beaupre
+ * @see Serialize
+ * @see BitWidth
+ * @since October 17th, 2026
+ */
+public final class Serializer<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Class<DataBuffer> BUFFER = DataBuffer.class;
+
+    /**
+     * Handles shared by every compiled tree: bit alignment on both sides, sign extension, enum ordinals and array length.
+     */
+    private static final MethodHandle FLUSH_BITS;
+    private static final MethodHandle DISCARD_BITS;
+    private static final MethodHandle SIGN_EXTEND_INT;
+    private static final MethodHandle SIGN_EXTEND_LONG;
+    private static final MethodHandle ORDINAL;
+    private static final MethodHandle WRITE_LENGTH;
+    private static final MethodHandle READ_LENGTH;
+
+    static {
+        try {
+            FLUSH_BITS = virtual("flushBits", BUFFER);
+            DISCARD_BITS = virtual("discardBits", BUFFER);
+            SIGN_EXTEND_INT = LOOKUP.findStatic(Serializer.class, "signExtend", methodType(int.class, int.class, int.class));
+            SIGN_EXTEND_LONG = LOOKUP.findStatic(Serializer.class, "signExtend", methodType(long.class, long.class, int.class));
+            ORDINAL = LOOKUP.findVirtual(Enum.class, "ordinal", methodType(int.class));
+            WRITE_LENGTH = virtual("writeVarInt", BUFFER, int.class);
+            READ_LENGTH = LOOKUP.findStatic(Serializer.class, "readLength", methodType(int.class, BUFFER));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The serializer of every type requested so far.
+     */
+    private static final ClassValue<Serializer<?>> CACHE = new ClassValue<>() {
+        @Override
+        protected Serializer<?> computeValue(Class<?> type) {
+            return new Serializer<>(type);
+        }
+    };
+
+    /**
+     * The type this serializer writes and reads.
+     */
+    private final Class<T> type;
+    /**
+     * The compiled encoder, of type {@code (DataBuffer, Object)void}.
+     */
+    private final MethodHandle writer;
+    /**
+     * The compiled decoder, of type {@code (DataBuffer)Object}.
+     */
+    private final MethodHandle reader;
+
+    /**
+     * Compiles a serializer for the specified type.
+     *
+     * @param type the record or annotated class to compile
+     */
+    private Serializer(Class<T> type) {
+        Codec codec = compile(type, new HashSet<>());
+        this.type = type;
+        this.writer = codec.writer().asType(methodType(void.class, BUFFER, Object.class));
+        this.reader = codec.reader().asType(methodType(Object.class, BUFFER));
+    }
+
+    /**
+     * Returns the serializer for the specified type, compiling it on first use.
+     *
+     * @param type the record or {@link Serialize}-annotated class
+     * @param <T>  the type to serialize
+     * @return the serializer for {@code type}
+     * @throws NullPointerException     if {@code type} is {@code null}
+     * @throws IllegalArgumentException if {@code type} is neither a record nor annotated, or if one of its fields has an
+     *                                  unsupported type or an invalid {@link BitWidth}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Serializer<T> of(Class<T> type) {
+        return (Serializer<T>) CACHE.get(Objects.requireNonNull(type, "Type cannot be null"));
+    }
+
+    /**
+     * Writes the fields of the specified value to the buffer at its write position.
+     * <p>
+     * The buffer must not hold pending bits from a previous {@code writeBits} call; the value leaves none behind.
+     * </p>
+     *
+     * @param buffer the buffer to write to
+     * @param value  the value to write
+     * @throws NullPointerException     if {@code buffer}, {@code value} or a reference inside it is {@code null}
+     * @throws IllegalArgumentException if a string is too long to be written
+     */
+    public void write(DataBuffer buffer, T value) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+        try {
+            writer.invokeExact(buffer, (Object) value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Reads a value written by {@link #write(DataBuffer, Object)} from the buffer at its read position.
+     *
+     * @param buffer the buffer to read from
+     * @return the value read
+     * @throws NullPointerException              if {@code buffer} is {@code null}
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the value does
+     * @throws IllegalStateException             if an array length is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public T read(DataBuffer buffer) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        try {
+            return (T) (Object) reader.invokeExact(buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Returns the type this serializer writes and reads.
+     *
+     * @return the serialized type
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * A compiled encoder and decoder pair for one type.
+     *
+     * @param writer a handle of type {@code (DataBuffer, V)void}
+     * @param reader a handle of type {@code (DataBuffer)V}
+     * @param bits   whether the writer leaves bits pending in the buffer, which the enclosing object must flush
+     */
+    private record Codec(MethodHandle writer, MethodHandle reader, boolean bits) {
+    }
+
+    /**
+     * Compiles the codec of a record or annotated class.
+     *
+     * @param type     the type to compile
+     * @param building the types currently being compiled, to reject recursive types
+     * @return the codec of {@code type}
+     */
+    private static Codec compile(Class<?> type, Set<Class<?>> building) {
+        if (!type.isRecord() && !type.isAnnotationPresent(Serialize.class))
+            throw new IllegalArgumentException(type.getName() + " is neither a record nor annotated with @Serialize");
+        if (!building.add(type))
+            throw new IllegalArgumentException("Recursive type cannot be serialized: " + type.getName());
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, LOOKUP);
+            List<Field> fields = fieldsOf(type);
+            List<MethodHandle> writes = new ArrayList<>();
+            List<MethodHandle> reads = new ArrayList<>();
+            List<Field> readFields = new ArrayList<>();
+            boolean pending = false;
+
+            for (Field field : fields) {
+                Codec codec = codecOf(field.getType(), field.getAnnotation(BitWidth.class), building, field);
+                MethodHandle read = codec.reader();
+                if (pending && !codec.bits()) {
+                    writes.add(MethodHandles.dropArguments(FLUSH_BITS, 1, type));
+                    read = MethodHandles.foldArguments(read, DISCARD_BITS);
+                }
+                pending = codec.bits();
+
+                // An inherited field's getter takes its declaring class, so it is adapted to take the compiled type
+                field.setAccessible(true);
+                MethodHandle getter = lookup.unreflectGetter(field).asType(methodType(field.getType(), type));
+                writes.add(MethodHandles.filterArguments(codec.writer(), 1, getter));
+                reads.add(read);
+                readFields.add(field);
+            }
+            if (pending) {
+                writes.add(MethodHandles.dropArguments(FLUSH_BITS, 1, type));
+                int last = reads.size() - 1;
+                reads.set(last, then(reads.get(last), DISCARD_BITS));
+            }
+
+            MethodHandle writer = MethodHandles.empty(methodType(void.class, BUFFER, type));
+            for (int i = writes.size() - 1; i >= 0; i--)
+                writer = MethodHandles.foldArguments(writer, writes.get(i));
+
+            MethodHandle reader = type.isRecord()
+                    ? recordReader(lookup, type, reads)
+                    : classReader(lookup, type, readFields, reads);
+            return new Codec(writer, reader, false);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot access the fields of " + type.getName(), e);
+        } finally {
+            building.remove(type);
+        }
+    }
+
+    /**
+     * Builds a decoder that reads every component in order and passes them to the canonical constructor.
+     *
+     * @param lookup a lookup with private access to {@code type}
+     * @param type   the record type
+     * @param reads  the decoder of each component, of type {@code (DataBuffer)C}
+     * @return a handle of type {@code (DataBuffer)type}
+     */
+    private static MethodHandle recordReader(MethodHandles.Lookup lookup, Class<?> type, List<MethodHandle> reads)
+            throws ReflectiveOperationException {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameters = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++)
+            parameters[i] = components[i].getType();
+
+        // (C1..Cn, buffer) -> (buffer): each fold reads one component before the ones after it
+        MethodHandle reader = MethodHandles.dropArguments(
+                lookup.findConstructor(type, methodType(void.class, parameters)), parameters.length, BUFFER);
+        for (int i = parameters.length - 1; i >= 0; i--)
+            reader = MethodHandles.foldArguments(reader, i, reads.get(i));
+        return reader;
+    }
+
+    /**
+     * Builds a decoder that creates an instance with the no-argument constructor and then sets every field in order.
+     *
+     * @param lookup a lookup with private access to {@code type}
+     * @param type   the annotated class
+     * @param fields the serialized fields
+     * @param reads  the decoder of each field, of type {@code (DataBuffer)F}
+     * @return a handle of type {@code (DataBuffer)type}
+     */
+    private static MethodHandle classReader(MethodHandles.Lookup lookup, Class<?> type, List<Field> fields,
+                                            List<MethodHandle> reads) throws ReflectiveOperationException {
+        MethodHandle body = MethodHandles.dropArguments(MethodHandles.identity(type), 1, BUFFER);
+        for (int i = fields.size() - 1; i >= 0; i--) {
+            Field field = fields.get(i);
+            MethodHandle setter = lookup.unreflectSetter(field).asType(methodType(void.class, type, field.getType()));
+            body = MethodHandles.foldArguments(body, MethodHandles.filterArguments(setter, 1, reads.get(i)));
+        }
+        MethodHandle constructor;
+        try {
+            constructor = lookup.findConstructor(type, methodType(void.class));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(type.getName() + " has no no-argument constructor", e);
+        }
+        return MethodHandles.foldArguments(body, 0, constructor);
+    }
+
+    /**
+     * Returns the codec of a single field or array element.
+     *
+     * @param type     the field or element type
+     * @param width    the bit width annotation of the field, or {@code null}
+     * @param building the types currently being compiled
+     * @param field    the field being compiled, for error messages
+     * @return the codec of {@code type}
+     */
+    private static Codec codecOf(Class<?> type, BitWidth width, Set<Class<?>> building, Field field)
+            throws ReflectiveOperationException {
+        if (type.isArray())
+            return arrayCodec(type, width, building, field);
+        if (width != null)
+            return bitsCodec(type, width, field);
+        if (type.isPrimitive())
+            return primitiveCodec(type);
+        if (type == String.class)
+            return new Codec(virtual("writeString", BUFFER, String.class), virtual("readString", String.class), false);
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            MethodHandle writer = MethodHandles.filterArguments(WRITE_LENGTH, 1, ORDINAL.asType(methodType(int.class, type)));
+            MethodHandle reader = MethodHandles.filterReturnValue(virtual("readVarInt", int.class),
+                    MethodHandles.arrayElementGetter(constants.getClass()).bindTo(constants));
+            return new Codec(writer, reader.asType(methodType(type, BUFFER)), false);
+        }
+        if (type.isRecord() || type.isAnnotationPresent(Serialize.class))
+            return compile(type, building);
+        throw new IllegalArgumentException("Unsupported type " + type.getName() + " of field " + field);
+    }
+
+    /**
+     * Returns the codec of a primitive type, calling the matching {@code DataBuffer} read and write methods.
+     *
+     * @param type the primitive type
+     * @return the codec of {@code type}
+     */
+    private static Codec primitiveCodec(Class<?> type) throws ReflectiveOperationException {
+        String name = Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+        return new Codec(virtual("write" + name, BUFFER, type), virtual("read" + name, type), false);
+    }
+
+    /**
+     * Returns the codec of a bit-packed integral or boolean value.
+     *
+     * @param type  the field or element type
+     * @param width the bit width annotation
+     * @param field the field being compiled, for error messages
+     * @return the codec, which leaves bits pending
+     */
+    private static Codec bitsCodec(Class<?> type, BitWidth width, Field field) throws ReflectiveOperationException {
+        int bits = width.value();
+        int size = type == boolean.class ? 1
+                : type == byte.class ? 8
+                : type == short.class || type == char.class ? 16
+                : type == int.class ? 32
+                : type == long.class ? 64
+                : 0;
+        if (size == 0)
+            throw new IllegalArgumentException("@BitWidth is not supported on field " + field);
+        if (bits < 1 || bits > size)
+            throw new IllegalArgumentException("Invalid @BitWidth(" + bits + ") on field " + field);
+
+        if (type == boolean.class)
+            return new Codec(virtual("writeBit", BUFFER, boolean.class), virtual("readBit", boolean.class), true);
+
+        MethodHandle writer, reader;
+        if (type == long.class) {
+            writer = MethodHandles.insertArguments(virtual("writeBits", BUFFER, long.class, int.class), 2, bits);
+            reader = MethodHandles.insertArguments(virtual("readLongBits", long.class, int.class), 1, bits);
+            if (width.signed() && bits < 64)
+                reader = MethodHandles.filterReturnValue(reader, MethodHandles.insertArguments(SIGN_EXTEND_LONG, 1, 64 - bits));
+        } else {
+            writer = MethodHandles.insertArguments(virtual("writeBits", BUFFER, int.class, int.class), 2, bits);
+            reader = MethodHandles.insertArguments(virtual("readBits", int.class, int.class), 1, bits);
+            if (width.signed() && bits < 32)
+                reader = MethodHandles.filterReturnValue(reader, MethodHandles.insertArguments(SIGN_EXTEND_INT, 1, 32 - bits));
+        }
+        return new Codec(writer.asType(methodType(void.class, BUFFER, type)),
+                MethodHandles.explicitCastArguments(reader, methodType(type, BUFFER)), true);
+    }
+
+    /**
+     * Returns the codec of an array: its length as a VarInt followed by every element.
+     * <p>
+     * Arrays of primitives with a bulk transfer method in {@code DataBuffer} are written with one call; other
+     * arrays are written with a counted loop over the element codec.
+     * </p>
+     *
+     * @param type     the array type
+     * @param width    the bit width annotation of the field, applied to every element, or {@code null}
+     * @param building the types currently being compiled
+     * @param field    the field being compiled, for error messages
+     * @return the codec of {@code type}
+     */
+    private static Codec arrayCodec(Class<?> type, BitWidth width, Set<Class<?>> building, Field field)
+            throws ReflectiveOperationException {
+        Class<?> component = type.getComponentType();
+        if (width == null && component.isPrimitive() && component != boolean.class && component != char.class) {
+            String name = Character.toUpperCase(component.getName().charAt(0)) + component.getName().substring(1);
+            return new Codec(
+                    LOOKUP.findStatic(Serializer.class, "write" + name + "s", methodType(void.class, BUFFER, type)),
+                    LOOKUP.findStatic(Serializer.class, "read" + name + "s", methodType(type, BUFFER)),
+                    false);
+        }
+
+        Codec element = codecOf(component, width, building, field);
+        MethodHandle length = MethodHandles.arrayLength(type);
+
+        // for (int i = 0; i < array.length; i++) write(buffer, array[i])
+        MethodHandle writeElement = MethodHandles.permuteArguments(
+                MethodHandles.collectArguments(element.writer(), 1, MethodHandles.arrayElementGetter(type)),
+                methodType(void.class, int.class, BUFFER, type), 1, 2, 0);
+        MethodHandle writer = MethodHandles.countedLoop(MethodHandles.dropArguments(length, 0, BUFFER), null, writeElement);
+        writer = MethodHandles.foldArguments(writer, MethodHandles.filterArguments(WRITE_LENGTH, 1, length));
+
+        // array = new E[length]; for (int i = 0; i < length; i++) array[i] = read(buffer)
+        MethodHandle storeElement = MethodHandles.dropArguments(
+                MethodHandles.filterArguments(MethodHandles.arrayElementSetter(type), 2, element.reader()), 2, int.class);
+        MethodHandle readElement = MethodHandles.foldArguments(
+                MethodHandles.dropArguments(MethodHandles.identity(type), 1, int.class, int.class, BUFFER), storeElement);
+        MethodHandle reader = MethodHandles.countedLoop(
+                MethodHandles.dropArguments(MethodHandles.identity(int.class), 1, BUFFER),
+                MethodHandles.dropArguments(MethodHandles.arrayConstructor(type), 1, BUFFER),
+                readElement);
+        reader = MethodHandles.foldArguments(reader, 0, READ_LENGTH);
+
+        if (element.bits()) {
+            writer = MethodHandles.foldArguments(MethodHandles.dropArguments(FLUSH_BITS, 1, type), writer);
+            reader = then(reader, DISCARD_BITS);
+        }
+        return new Codec(writer, reader, false);
+    }
+
+    /**
+     * Returns a decoder that runs {@code reader} and then {@code action} on the same buffer, returning the value read.
+     *
+     * @param reader a handle of type {@code (DataBuffer)V}
+     * @param action a handle of type {@code (DataBuffer)void}
+     * @return a handle of type {@code (DataBuffer)V}
+     */
+    private static MethodHandle then(MethodHandle reader, MethodHandle action) {
+        Class<?> value = reader.type().returnType();
+        MethodHandle result = MethodHandles.foldArguments(
+                MethodHandles.dropArguments(MethodHandles.identity(value), 1, BUFFER), 1, action);
+        return MethodHandles.foldArguments(result, 0, reader);
+    }
+
+    /**
+     * Returns the serialized fields of a type in order: record components, or the non-static, non-transient fields of
+     * an annotated class after those of its annotated superclasses.
+     *
+     * @param type the record or annotated class
+     * @return the fields to serialize
+     */
+    private static List<Field> fieldsOf(Class<?> type) throws NoSuchFieldException {
+        List<Field> fields = new ArrayList<>();
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents())
+                fields.add(type.getDeclaredField(component.getName()));
+            return fields;
+        }
+        Class<?> superclass = type.getSuperclass();
+        if (superclass != null && superclass.isAnnotationPresent(Serialize.class))
+            fields.addAll(fieldsOf(superclass));
+        for (Field field : type.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic())
+                fields.add(field);
+        }
+        return fields;
+    }
+
+    /**
+     * Finds a {@code DataBuffer} instance method and adapts it to return nothing if it returns the buffer, so
+     * that it can be used as a write step.
+     *
+     * @param name       the method name
+     * @param returnType the declared return type
+     * @param parameters the parameter types
+     * @return a handle taking the buffer first
+     */
+    private static MethodHandle virtual(String name, Class<?> returnType, Class<?>... parameters)
+            throws ReflectiveOperationException {
+        MethodHandle handle = LOOKUP.findVirtual(BUFFER, name, methodType(returnType, parameters));
+        return returnType == BUFFER ? MethodHandles.dropReturn(handle) : handle;
+    }
+
+    private static int signExtend(int value, int shift) {
+        return value << shift >> shift;
+    }
+
+    private static long signExtend(long value, int shift) {
+        return value << shift >> shift;
+    }
+
+    /**
+     * Reads an array length written as a VarInt, rejecting lengths that cannot possibly fit in the remaining bytes.
+     *
+     * @param buffer the buffer to read from
+     * @return the array length
+     * @throws IllegalStateException if the length is negative or larger than the remaining bits
+     */
+    private static int readLength(DataBuffer buffer) {
+        int length = buffer.readVarInt();
+        if (length < 0 || length > buffer.remainingRead() * 8L)
+            throw new IllegalStateException("Invalid array length: " + length);
+        return length;
+    }
+
+    private static void writeBytes(DataBuffer buffer, byte[] values) {
+        buffer.writeVarInt(values.length).writeBytes(values, 0, values.length);
+    }
+
+    private static byte[] readBytes(DataBuffer buffer) {
+        return buffer.readBytes(readLength(buffer));
+    }
+
+    private static void writeShorts(DataBuffer buffer, short[] values) {
+        buffer.writeVarInt(values.length).writeShorts(values, 0, values.length);
+    }
+
+    private static short[] readShorts(DataBuffer buffer) {
+        short[] values = new short[readLength(buffer)];
+        buffer.readShorts(values, 0, values.length);
+        return values;
+    }
+
+    private static void writeInts(DataBuffer buffer, int[] values) {
+        buffer.writeVarInt(values.length).writeInts(values, 0, values.length);
+    }
+
+    private static int[] readInts(DataBuffer buffer) {
+        int[] values = new int[readLength(buffer)];
+        buffer.readInts(values, 0, values.length);
+        return values;
+    }
+
+    private static void writeLongs(DataBuffer buffer, long[] values) {
+        buffer.writeVarInt(values.length).writeLongs(values, 0, values.length);
+    }
+
+    private static long[] readLongs(DataBuffer buffer) {
+        long[] values = new long[readLength(buffer)];
+        buffer.readLongs(values, 0, values.length);
+        return values;
+    }
+
+    private static void writeFloats(DataBuffer buffer, float[] values) {
+        buffer.writeVarInt(values.length).writeFloats(values, 0, values.length);
+    }
+
+    private static float[] readFloats(DataBuffer buffer) {
+        float[] values = new float[readLength(buffer)];
+        buffer.readFloats(values, 0, values.length);
+        return values;
+    }
+
+    private static void writeDoubles(DataBuffer buffer, double[] values) {
+        buffer.writeVarInt(values.length).writeDoubles(values, 0, values.length);
+    }
+
+    private static double[] readDoubles(DataBuffer buffer) {
+        double[] values = new double[readLength(buffer)];
+        buffer.readDoubles(values, 0, values.length);
+        return values;
+    }
+}
@@ -1,5 +1,6 @@
 package jgl.sound;
 
+import jgl.io.pool.BufferPool;
 import org.lwjgl.BufferUtils;
 
 import javax.sound.sampled.AudioFormat;
@@ -14,17 +15,36 @@ public class Mp3Decoder implements SoundDecoder {
         AudioInputStream in = AudioSystem.getAudioInputStream(new ByteArrayInputStream(data));
         AudioFormat f = in.getFormat();
         AudioFormat pcmFmt = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, f.getSampleRate(), 16, f.getChannels(), f.getChannels() * 2, f.getSampleRate(), false);
-        byte[] b = AudioSystem.getAudioInputStream(pcmFmt, in).readAllBytes();
-        ByteBuffer buf = BufferUtils.createByteBuffer(b.length).put(b).flip();
 
-        int ch = pcmFmt.getChannels();
-        int rate = (int) pcmFmt.getSampleRate();
-        float dur = (b.length / 2f) / (ch * rate);
+        // Decode into a pooled array instead of readAllBytes(), which grows and discards several arrays
+        byte[] b = BufferPool.obtainBytes(data.length * 4);
+        try (AudioInputStream pcm = AudioSystem.getAudioInputStream(pcmFmt, in)) {
+            int length = 0;
+            int read;
+            while (true) {
+                if (length == b.length) {
+                    byte[] larger = BufferPool.obtainBytes(b.length * 2);
+                    System.arraycopy(b, 0, larger, 0, length);
+                    BufferPool.free(b);
+                    b = larger;
+                }
+                if ((read = pcm.read(b, length, b.length - length)) == -1)
+                    break;
+                length += read;
+            }
+            ByteBuffer buf = BufferUtils.createByteBuffer(length).put(b, 0, length).flip();
 
-        short[] s = new short[b.length / 2];
-        for (int i = 0; i < s.length; i++)
-            s[i] = (short) ((b[i * 2 + 1] << 8) | (b[i * 2] & 0xFF));
+            int ch = pcmFmt.getChannels();
+            int rate = (int) pcmFmt.getSampleRate();
+            float dur = (length / 2f) / (ch * rate);
 
-        return new SoundData(buf, dur, ch, rate, 16, s);
+            short[] s = new short[length / 2];
+            for (int i = 0; i < s.length; i++)
+                s[i] = (short) ((b[i * 2 + 1] << 8) | (b[i * 2] & 0xFF));
+
+            return new SoundData(buf, dur, ch, rate, 16, s);
+        } finally {
+            BufferPool.free(b);
+        }
     }
 }
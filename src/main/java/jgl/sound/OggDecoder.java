@@ -1,5 +1,6 @@
 package jgl.sound;
 
+import jgl.io.pool.BufferPool;
 import org.lwjgl.BufferUtils;
 import org.lwjgl.stb.STBVorbis;
 import org.lwjgl.system.libc.LibCStdlib;
@@ -15,10 +16,15 @@ public class OggDecoder implements SoundDecoder {
 
     @Override
     public SoundData load(byte[] data) throws Exception {
-        ByteBuffer buffer = BufferUtils.createByteBuffer(data.length);
-        buffer.put(data).flip();
-
-        ShortBuffer pcm = STBVorbis.stb_vorbis_decode_memory(buffer, channelsBuf, sampleRateBuf);
+        // The encoded copy is only needed while decoding, so it comes from the pool
+        ByteBuffer buffer = BufferPool.obtainDirect(data.length);
+        ShortBuffer pcm;
+        try {
+            buffer.put(data).flip();
+            pcm = STBVorbis.stb_vorbis_decode_memory(buffer, channelsBuf, sampleRateBuf);
+        } finally {
+            BufferPool.free(buffer);
+        }
 
         if (pcm == null)
             throw new RuntimeException("Failed to decode OGG file");
@@ -31,12 +37,8 @@ public class OggDecoder implements SoundDecoder {
         ByteBuffer pcmBytes = BufferUtils.createByteBuffer(pcm.remaining() * 2);
         short[] pcm16 = new short[pcm.remaining()];
 
-        for (int i = 0; i < pcm16.length; i++) {
-            short s = pcm.get(i);
-            pcmBytes.putShort(s);
-            pcm16[i] = s;
-        }
-        pcmBytes.flip();
+        pcm.get(0, pcm16);
+        pcmBytes.asShortBuffer().put(pcm16);
 
         float duration = pcm16.length / (float) (channels * sampleRate);
         LibCStdlib.free(pcm);
@@ -6,21 +6,26 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
 public class WaveDecoder implements SoundDecoder {
+
+    private static final int RIFF = tag("RIFF");
+    private static final int WAVE = tag("WAVE");
+    private static final int FMT = tag("fmt ");
+    private static final int DATA = tag("data");
+
     @Override
     public SoundData load(byte[] bytes) throws Exception {
-        ByteBuffer data = BufferUtils.createByteBuffer(bytes.length);
-        data.put(bytes).flip();
-        data.order(ByteOrder.LITTLE_ENDIAN);
-        if (!readString(data).equals("RIFF")) throw new RuntimeException("Invalid WAV");
+        // Parse the headers in place; only the samples are copied into a direct buffer
+        ByteBuffer data = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        if (readTag(data) != RIFF) throw new RuntimeException("Invalid WAV");
         data.position(data.position() + 4);
-        if (!readString(data).equals("WAVE")) throw new RuntimeException("Invalid WAV");
+        if (readTag(data) != WAVE) throw new RuntimeException("Invalid WAV");
         ByteBuffer audioData = null;
         int channels = 0, sampleRate = 0, dataSize = 0;
         int bitsPerSample = 16;
         while (data.hasRemaining()) {
-            String chunk = readString(data);
+            int chunk = readTag(data);
             int chunkSize = data.getInt();
-            if (chunk.equals("fmt ")) {
+            if (chunk == FMT) {
                 int fmt = data.getShort() & 0xFFFF;
                 channels = data.getShort() & 0xFFFF;
                 sampleRate = data.getInt();
@@ -29,15 +34,10 @@ public class WaveDecoder implements SoundDecoder {
                 if (fmt != 1 || bits != 16) throw new RuntimeException("Only PCM16 WAV supported");
                 bitsPerSample = bits;
                 if (chunkSize > 16) data.position(data.position() + (chunkSize - 16));
-            } else if (chunk.equals("buffer")) {
-                dataSize = chunkSize;
-                audioData = data.slice();
-                audioData.limit(chunkSize);
-                break;
-            } else if (chunk.equals("data")) {   // <-- FIXED HERE
+            } else if (chunk == DATA) {
                 dataSize = chunkSize;
-                audioData = data.slice();
-                audioData.limit(chunkSize);
+                audioData = BufferUtils.createByteBuffer(chunkSize);
+                audioData.put(0, bytes, data.position(), chunkSize);
                 break;
             } else {
                 data.position(data.position() + chunkSize);
@@ -45,13 +45,15 @@ public class WaveDecoder implements SoundDecoder {
         }
         float duration = dataSize / (float) (channels * sampleRate * 2); // Copy PCM16
         short[] pcm16 = new short[dataSize / 2];
-        audioData.asShortBuffer().get(pcm16);
+        data.asShortBuffer().get(pcm16);
         return new SoundData(audioData, duration, channels, sampleRate, bitsPerSample, pcm16);
     }
 
-    private String readString(ByteBuffer buf) {
-        byte[] out = new byte[4];
-        buf.get(out);
-        return new String(out);
+    private static int readTag(ByteBuffer buf) {
+        return Integer.reverseBytes(buf.getInt());
+    }
+
+    private static int tag(String name) {
+        return name.charAt(0) << 24 | name.charAt(1) << 16 | name.charAt(2) << 8 | name.charAt(3);
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,13 @@
 package jgl.ui;
 
+import jgl.JGL;
 import jgl.Keyboard;
-import jgl.Mouse;
+import jgl.event.Subscription;
+import jgl.event.events.KeyEvent;
 import jgl.event.events.KeyPressEvent;
 import jgl.event.events.KeyReleaseEvent;
 import jgl.event.events.MouseDragEvent;
+import jgl.event.events.MouseEvent;
 import jgl.event.events.MouseMoveEvent;
 import jgl.event.events.MousePressEvent;
 import jgl.event.events.MouseReleaseEvent;
@@ -17,10 +20,30 @@ public class UI extends ElementContainer {
 
     private Element focused;
 
+    /**
+     * The listeners of this UI, referenced here because they are registered weakly: a discarded UI is
+     * collected together with its listeners instead of being kept alive by the event publisher.
+     */
+    private final UIKeyListener keyListener = new UIKeyListener();
+    private final UIMouseListener mouseListener = new UIMouseListener();
+    private final UIScrollListener scrollListener = new UIScrollListener();
+    private final Subscription[] subscriptions;
+
     public UI() {
-        Keyboard.addKeyListener(new UIKeyListener());
-        Mouse.addMouseListener(new UIMouseListener());
-        Mouse.addScrollListener(new UIScrollListener());
+        this.subscriptions = new Subscription[]{
+                JGL.subscribeWeak(KeyEvent.class, keyListener),
+                JGL.subscribeWeak(MouseEvent.class, mouseListener),
+                JGL.subscribeWeak(MouseScrollEvent.class, scrollListener)
+        };
+    }
+
+    /**
+     * Unregisters the listeners of this UI, so that it stops receiving input right away instead of when
+     * it is garbage collected.
+     */
+    public void dispose() {
+        for (Subscription subscription : subscriptions)
+            subscription.close();
     }
 
     public void setFocusTo(Element focused) {
@@ -0,0 +1,68 @@
+import jgl.event.EventListener;
+import jgl.event.EventMetrics;
+import jgl.event.EventPublisher;
+import jgl.event.Subscription;
+import jgl.event.events.KeyPressEvent;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Measures publication with listeners that are later unregistered, closed or collected, and checks that the dispatch
+ * metrics neither report them nor keep them reachable.
+ */
+public class DispatchMetricsTest {
+
+    public static void main(String[] args) throws InterruptedException {
+        EventPublisher publisher = new EventPublisher();
+        publisher.setMetricsEnabled(true);
+
+        EventListener<KeyPressEvent> kept = new Ignore();
+        EventListener<KeyPressEvent> unregistered = new Ignore();
+        EventListener<KeyPressEvent> scoped = new Ignore();
+        EventListener<KeyPressEvent> weak = new Ignore();
+        publisher.register(KeyPressEvent.class, kept);
+        publisher.register(KeyPressEvent.class, unregistered);
+        Subscription subscription = publisher.registerScoped(KeyPressEvent.class, scoped, 0);
+        publisher.registerWeak(KeyPressEvent.class, weak, 0);
+        publisher.publish(new KeyPressEvent(1, 0));
+        expectTimings(publisher, 4);
+
+        publisher.unregister(KeyPressEvent.class, unregistered);
+        subscription.close();
+        expectTimings(publisher, 2);
+
+        WeakReference<Object> reference = new WeakReference<>(weak);
+        weak = null;
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        if (reference.get() != null)
+            throw new IllegalStateException("The metrics kept a weak listener reachable");
+        expectTimings(publisher, 1);
+        if (publisher.metrics().listeners().get(0).listener() != kept)
+            throw new IllegalStateException("The remaining timing is not of the registered listener");
+
+        System.out.println("Only registered listeners are timed");
+    }
+
+    /**
+     * A listener that does nothing, created anew each time; a lambda without captures would be a shared constant that
+     * is never collected.
+     */
+    private static final class Ignore implements EventListener<KeyPressEvent> {
+        @Override
+        public void handle(KeyPressEvent event) {
+        }
+    }
+
+    private static void expectTimings(EventPublisher publisher, int expected) {
+        EventMetrics metrics = publisher.metrics();
+        for (EventMetrics.ListenerTiming timing : metrics.listeners()) {
+            if (timing.listener() == null)
+                throw new IllegalStateException("A timing has no listener");
+        }
+        if (metrics.listeners().size() != expected)
+            throw new IllegalStateException(metrics.listeners().size() + " listeners timed instead of " + expected);
+    }
+}
@@ -0,0 +1,90 @@
+import jgl.io.buffer.DynamicByteBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Compares the bulk primitive transfers of {@link DynamicByteBuffer} against per-element writes and against
+ * {@link ByteBuffer} views over a heap array. Run it with a warmed-up JIT in mind: the first rounds are discarded.
+ */
+public class DynamicByteBufferBenchmark {
+
+    private static final int ELEMENTS = 1 << 16;
+    private static final int ROUNDS = 2_000;
+    private static final int WARMUP_ROUNDS = 500;
+
+    private static long blackhole;
+
+    public static void main(String[] args) {
+        int[] ints = new int[ELEMENTS];
+        float[] floats = new float[ELEMENTS];
+        for (int i = 0; i < ELEMENTS; i++) {
+            ints[i] = i * 31;
+            floats[i] = i * 0.5f;
+        }
+
+        for (DynamicByteBuffer.ByteOrder order : DynamicByteBuffer.ByteOrder.values()) {
+            System.out.println("== " + order + " ==");
+            ByteOrder nioOrder = order == DynamicByteBuffer.ByteOrder.BIG_ENDIAN ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+
+            DynamicByteBuffer dynamic = new DynamicByteBuffer(new byte[ELEMENTS * 4]).setByteOrder(order);
+            ByteBuffer nio = ByteBuffer.allocate(ELEMENTS * 4).order(nioOrder);
+
+            run("DynamicByteBuffer.writeInt loop", () -> {
+                dynamic.resetPositions();
+                for (int value : ints)
+                    dynamic.writeInt(value);
+            });
+            run("DynamicByteBuffer.writeInts", () -> {
+                dynamic.resetPositions();
+                dynamic.writeInts(ints, 0, ints.length);
+            });
+            run("ByteBuffer.asIntBuffer().put", () -> {
+                nio.clear();
+                nio.asIntBuffer().put(ints, 0, ints.length);
+            });
+            run("DynamicByteBuffer.readInts", () -> {
+                dynamic.setReadPosition(0);
+                dynamic.readInts(ints, 0, ints.length);
+                blackhole += ints[ELEMENTS - 1];
+            });
+            run("ByteBuffer.asIntBuffer().get", () -> {
+                nio.clear();
+                nio.asIntBuffer().get(ints, 0, ints.length);
+                blackhole += ints[ELEMENTS - 1];
+            });
+            run("DynamicByteBuffer.writeFloats", () -> {
+                dynamic.resetPositions();
+                dynamic.writeFloats(floats, 0, floats.length);
+            });
+            run("ByteBuffer.asFloatBuffer().put", () -> {
+                nio.clear();
+                nio.asFloatBuffer().put(floats, 0, floats.length);
+            });
+            run("DynamicByteBuffer.readFloats", () -> {
+                dynamic.setReadPosition(0);
+                dynamic.readFloats(floats, 0, floats.length);
+                blackhole += (long) floats[ELEMENTS - 1];
+            });
+            run("ByteBuffer.asFloatBuffer().get", () -> {
+                nio.clear();
+                nio.asFloatBuffer().get(floats, 0, floats.length);
+                blackhole += (long) floats[ELEMENTS - 1];
+            });
+        }
+        System.out.println("(" + blackhole + ")");
+    }
+
+    private static void run(String name, Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+            round.run();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++)
+            round.run();
+        long elapsed = System.nanoTime() - start;
+
+        double gigabytes = (double) ROUNDS * ELEMENTS * 4 / (1 << 30);
+        System.out.printf("%-36s %8.2f GB/s%n", name, gigabytes / (elapsed / 1e9));
+    }
+}
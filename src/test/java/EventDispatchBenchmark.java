@@ -0,0 +1,77 @@
+import jgl.event.EventListener;
+import jgl.event.EventPublisher;
+import jgl.event.Subscribe;
+import jgl.event.events.KeyPressEvent;
+import jgl.event.events.MouseMoveEvent;
+
+/**
+ * Compares publishing to objects registered with {@link EventPublisher#registerSubscriber(Object)} against publishing
+ * to equivalent hand-written listeners, {@value #SUBSCRIBERS} of each per event type. Run it with a warmed-up JIT in
+ * mind: the first rounds are discarded.
+ */
+public class EventDispatchBenchmark {
+
+    private static final int EVENTS = 1 << 16;
+    private static final int ROUNDS = 200;
+    private static final int WARMUP_ROUNDS = 100;
+    private static final int SUBSCRIBERS = 8;
+
+    private static long blackhole;
+
+    public static void main(String[] args) {
+        EventPublisher listeners = new EventPublisher();
+        EventPublisher subscribers = new EventPublisher();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            Counter counter = new Counter();
+            listeners.register(KeyPressEvent.class, (EventListener<KeyPressEvent>) counter::keyPressed, 0);
+            listeners.register(MouseMoveEvent.class, (EventListener<MouseMoveEvent>) counter::mouseMoved, 1);
+            subscribers.registerSubscriber(new Counter());
+        }
+
+        KeyPressEvent key = new KeyPressEvent(65, 0);
+        MouseMoveEvent move = new MouseMoveEvent(0, 0, 0, 0, 1, 1);
+        Runnable[] rounds = {
+                () -> {
+                    for (int i = 0; i < EVENTS; i++)
+                        listeners.publish((i & 1) == 0 ? key : move);
+                },
+                () -> {
+                    for (int i = 0; i < EVENTS; i++)
+                        subscribers.publish((i & 1) == 0 ? key : move);
+                }
+        };
+        String[] names = {"Hand-written listeners", "@Subscribe methods"};
+
+        // Both variants share the call sites inside EventPublisher.publish, so they are warmed up and measured
+        // interleaved; measuring one after the other would favour whichever ran first.
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            for (Runnable round : rounds)
+                round.run();
+        }
+        long[] elapsed = new long[rounds.length];
+        for (int i = 0; i < ROUNDS; i++) {
+            for (int r = 0; r < rounds.length; r++) {
+                long start = System.nanoTime();
+                rounds[r].run();
+                elapsed[r] += System.nanoTime() - start;
+            }
+        }
+
+        for (int r = 0; r < rounds.length; r++)
+            System.out.printf("%-24s %8.2f ns/event%n", names[r], (double) elapsed[r] / ((long) ROUNDS * EVENTS));
+        System.out.println("(" + blackhole + ")");
+    }
+
+    public static class Counter {
+
+        @Subscribe
+        void keyPressed(KeyPressEvent event) {
+            blackhole += event.getKey();
+        }
+
+        @Subscribe(priority = 1)
+        private void mouseMoved(MouseMoveEvent event) {
+            blackhole += event.getToX();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+import jgl.io.buffer.DynamicByteBuffer;
+import jgl.io.buffer.FrameDecoder;
+
+/**
+ * Feeds a {@link FrameDecoder} frames in small pieces, enough to make it compact its buffer, and checks that they come
+ * back whole. Also checks that a length prefix above the maximum is rejected by the append that delivers it, while an
+ * earlier frame is still waiting to be returned.
+ */
+public class FrameDecoderTest {
+
+    public static void main(String[] args) {
+        for (DynamicByteBuffer.ByteOrder order : DynamicByteBuffer.ByteOrder.values()) {
+            byte[] stream = frames(order, 0, 1, 300, 9000, 7);
+            FrameDecoder decoder = new FrameDecoder(9000, order);
+            int frames = 0;
+            for (int i = 0; i < stream.length; i += 5) {
+                decoder.append(stream, i, Math.min(5, stream.length - i));
+                for (DynamicByteBuffer frame; (frame = decoder.nextFrame()) != null; frames++)
+                    checkFrame(frame);
+            }
+            if (frames != 5 || decoder.buffered() != 0)
+                throw new IllegalStateException(order + ": " + frames + " frames decoded, " + decoder.buffered() + " bytes left");
+        }
+
+        FrameDecoder decoder = new FrameDecoder(64);
+        byte[] stream = frames(DynamicByteBuffer.ByteOrder.BIG_ENDIAN, 10, 65);
+        decoder.append(stream, 0, 4 + 10 + 2);
+        try {
+            decoder.append(stream, 4 + 10 + 2, 2);
+            throw new IllegalStateException("An oversize length prefix was accepted");
+        } catch (IllegalStateException e) {
+            if (!e.getMessage().startsWith("Invalid frame length 65"))
+                throw e;
+        }
+        checkFrame(decoder.nextFrame());
+
+        System.out.println("All frames decoded");
+    }
+
+    /**
+     * Encodes frames whose payloads count up from their length, so that every frame can be checked on its own.
+     */
+    private static byte[] frames(DynamicByteBuffer.ByteOrder order, int... lengths) {
+        DynamicByteBuffer buffer = new DynamicByteBuffer(new byte[16]).setByteOrder(order);
+        for (int length : lengths) {
+            buffer.writeInt(length);
+            for (int i = 0; i < length; i++)
+                buffer.writeByte((byte) (length + i));
+        }
+        return buffer.readBytes(buffer.getWritePosition());
+    }
+
+    private static void checkFrame(DynamicByteBuffer frame) {
+        int length = frame.capacity();
+        for (int i = 0; i < length; i++) {
+            if (frame.readByte() != (byte) (length + i))
+                throw new IllegalStateException("Byte " + i + " of a frame of " + length + " bytes is corrupt");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+import jgl.event.EventPublisher;
+import jgl.event.events.MouseDragEvent;
+import jgl.event.events.MouseEvent;
+import jgl.event.events.MouseMoveEvent;
+import jgl.event.events.MousePressEvent;
+
+import static org.lwjgl.glfw.GLFW.GLFW_MOUSE_BUTTON_LEFT;
+import static org.lwjgl.glfw.GLFW.GLFW_MOUSE_BUTTON_RIGHT;
+
+/**
+ * Publishes mouse events to listeners keyed to the left and right buttons and checks which of them are notified. The
+ * button of a move or drag event is the mask of buttons held, so a left drag carries the mask 1, which is the index
+ * of the right button; neither a move nor a drag may reach a keyed listener.
+ */
+public class MouseRoutingTest {
+
+    private static int left, right, unkeyed;
+
+    public static void main(String[] args) {
+        EventPublisher publisher = new EventPublisher();
+        publisher.registerKeyed(MouseEvent.class, GLFW_MOUSE_BUTTON_LEFT, event -> left++, 0);
+        publisher.registerKeyed(MouseEvent.class, GLFW_MOUSE_BUTTON_RIGHT, event -> right++, 0);
+        publisher.register(MouseEvent.class, event -> unkeyed++);
+
+        // Filled the way the mouse fills its pooled events
+        MouseDragEvent drag = new MouseDragEvent(0, 0, 0, 0, 0, 0);
+        drag.setButton(1 << GLFW_MOUSE_BUTTON_LEFT);
+        publisher.publish(drag);
+        publisher.publish(new MouseMoveEvent(0, 0, 20, 20, 30, 30));
+        check("a drag and a move", 0, 0, 2);
+
+        publisher.publish(new MousePressEvent(GLFW_MOUSE_BUTTON_RIGHT, 0, 30, 30));
+        check("a right press", 0, 1, 3);
+        publisher.publish(new MousePressEvent(GLFW_MOUSE_BUTTON_LEFT, 0, 30, 30));
+        check("a left press", 1, 1, 4);
+
+        drag = new MouseDragEvent(1 << GLFW_MOUSE_BUTTON_RIGHT, 0, 1, 2, 3, 4);
+        if (drag.getButton() != 1 << GLFW_MOUSE_BUTTON_RIGHT || drag.getX() != 1 || drag.getY() != 2)
+            throw new IllegalStateException("The drag event did not keep its constructor arguments");
+
+        System.out.println("Keyed listeners only received button presses");
+    }
+
+    private static void check(String after, int expectedLeft, int expectedRight, int expectedUnkeyed) {
+        if (left != expectedLeft || right != expectedRight || unkeyed != expectedUnkeyed)
+            throw new IllegalStateException("After " + after + ": left " + left + ", right " + right + ", unkeyed "
+                    + unkeyed + " instead of " + expectedLeft + ", " + expectedRight + ", " + expectedUnkeyed);
+    }
+}
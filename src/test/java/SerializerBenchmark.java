@@ -0,0 +1,84 @@
+import jgl.io.buffer.DynamicByteBuffer;
+import jgl.io.serial.BitWidth;
+import jgl.io.serial.Serializer;
+
+/**
+ * Compares writing and reading a record with a {@link Serializer} against the equivalent hand-written sequence of
+ * {@link DynamicByteBuffer} calls. Run it with a warmed-up JIT in mind: the first rounds are discarded.
+ */
+public class SerializerBenchmark {
+
+    private static final int VALUES = 1 << 14;
+    private static final int ROUNDS = 200;
+    private static final int WARMUP_ROUNDS = 100;
+
+    private static final Serializer<Move> MOVE = Serializer.of(Move.class);
+
+    private static long blackhole;
+
+    public static void main(String[] args) {
+        Move[] moves = new Move[64];
+        for (int i = 0; i < moves.length; i++)
+            moves[i] = new Move(i * 31, i & 15, (i & 1) == 0, "player" + (i & 7), i * 0.5f);
+        DynamicByteBuffer buffer = new DynamicByteBuffer(new byte[VALUES * 32]);
+
+        Runnable[] rounds = {
+                () -> {
+                    buffer.setWritePosition(0);
+                    buffer.setReadPosition(0);
+                    for (int i = 0; i < VALUES; i++)
+                        writeByHand(buffer, moves[i & 63]);
+                    for (int i = 0; i < VALUES; i++)
+                        blackhole += readByHand(buffer).entity();
+                },
+                () -> {
+                    buffer.setWritePosition(0);
+                    buffer.setReadPosition(0);
+                    for (int i = 0; i < VALUES; i++)
+                        MOVE.write(buffer, moves[i & 63]);
+                    for (int i = 0; i < VALUES; i++)
+                        blackhole += MOVE.read(buffer).entity();
+                }
+        };
+        String[] names = {"Hand-written calls", "Serializer"};
+
+        // Both variants share the DynamicByteBuffer methods they call, so they are warmed up and measured interleaved;
+        // measuring one after the other would favour whichever ran first.
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            for (Runnable round : rounds)
+                round.run();
+        }
+        long[] elapsed = new long[rounds.length];
+        for (int i = 0; i < ROUNDS; i++) {
+            for (int r = 0; r < rounds.length; r++) {
+                long start = System.nanoTime();
+                rounds[r].run();
+                elapsed[r] += System.nanoTime() - start;
+            }
+        }
+
+        for (int r = 0; r < rounds.length; r++)
+            System.out.printf("%-20s %8.2f ns/value%n", names[r], (double) elapsed[r] / ((long) ROUNDS * VALUES));
+        System.out.println("(" + blackhole + ")");
+    }
+
+    private static void writeByHand(DynamicByteBuffer buffer, Move move) {
+        buffer.writeInt(move.entity());
+        buffer.writeBits(move.direction(), 4);
+        buffer.writeBit(move.running());
+        buffer.flushBits();
+        buffer.writeString(move.name());
+        buffer.writeFloat(move.speed());
+    }
+
+    private static Move readByHand(DynamicByteBuffer buffer) {
+        int entity = buffer.readInt();
+        int direction = buffer.readBits(4);
+        boolean running = buffer.readBit();
+        buffer.discardBits();
+        return new Move(entity, direction, running, buffer.readString(), buffer.readFloat());
+    }
+
+    record Move(int entity, @BitWidth(4) int direction, @BitWidth(1) boolean running, String name, float speed) {
+    }
+}
@@ -0,0 +1,178 @@
+import jgl.io.buffer.DataBuffer;
+import jgl.io.buffer.DynamicByteBuffer;
+import jgl.io.buffer.NativeByteBuffer;
+import jgl.io.serial.BitWidth;
+import jgl.io.serial.Serialize;
+import jgl.io.serial.Serializer;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Writes values of every kind of field a {@link Serializer} supports and checks that they read back equal: primitives,
+ * strings, enums, bit-packed fields, nested records and annotated classes, arrays of all of these, and the fields an
+ * annotated class inherits from an annotated superclass. Every value is written to both a {@link DynamicByteBuffer} and a
+ * {@link NativeByteBuffer}, which must end up holding the same bytes.
+ */
+public class SerializerTest {
+
+    enum Direction {NORTH, EAST, SOUTH, WEST}
+
+    record Vector(float x, float y) {
+    }
+
+    record Move(int entity, @BitWidth(2) int direction, @BitWidth(1) boolean running,
+                @BitWidth(value = 5, signed = true) int turn, float speed) {
+    }
+
+    record Everything(boolean flag, byte b, short s, char c, int i, long l, float f, double d, String name,
+                      Direction facing, Vector position, Move move) {
+    }
+
+    record Sequences(byte[] bytes, short[] shorts, int[] ints, long[] longs, float[] floats, double[] doubles,
+                   boolean[] flags, char[] chars, String[] names, Direction[] path, Vector[] points,
+                   @BitWidth(3) int[] packed, int[][] grid) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Sequences a && Arrays.equals(bytes, a.bytes) && Arrays.equals(shorts, a.shorts)
+                    && Arrays.equals(ints, a.ints) && Arrays.equals(longs, a.longs) && Arrays.equals(floats, a.floats)
+                    && Arrays.equals(doubles, a.doubles) && Arrays.equals(flags, a.flags) && Arrays.equals(chars, a.chars)
+                    && Arrays.equals(names, a.names) && Arrays.equals(path, a.path) && Arrays.equals(points, a.points)
+                    && Arrays.equals(packed, a.packed) && Arrays.deepEquals(grid, a.grid);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.deepToString(new Object[]{bytes, shorts, ints, longs, floats, doubles, flags, chars, names,
+                    path, points, packed, grid});
+        }
+    }
+
+    @Serialize
+    static class Entity {
+        private int id;
+        @BitWidth(4)
+        int layer;
+        transient int cached = -1;
+
+        private Entity() {
+        }
+
+        Entity(int id, int layer) {
+            this.id = id;
+            this.layer = layer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o != null && o.getClass() == getClass() && ((Entity) o).id == id && ((Entity) o).layer == layer;
+        }
+
+        @Override
+        public String toString() {
+            return "id=" + id + ", layer=" + layer;
+        }
+    }
+
+    @Serialize
+    static class Player extends Entity {
+        private String name;
+        private Vector position;
+        @BitWidth(7)
+        private int level;
+
+        private Player() {
+        }
+
+        Player(int id, int layer, String name, Vector position, int level) {
+            super(id, layer);
+            this.name = name;
+            this.position = position;
+            this.level = level;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return super.equals(o) && Objects.equals(((Player) o).name, name)
+                    && Objects.equals(((Player) o).position, position) && ((Player) o).level == level;
+        }
+
+        @Override
+        public String toString() {
+            return super.toString() + ", name=" + name + ", position=" + position + ", level=" + level;
+        }
+    }
+
+    @Serialize
+    static class Party {
+        Player leader;
+        Entity[] members;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Party p && Objects.equals(leader, p.leader) && Arrays.equals(members, p.members);
+        }
+
+        @Override
+        public String toString() {
+            return "leader=" + leader + ", members=" + Arrays.toString(members);
+        }
+    }
+
+    public static void main(String[] args) {
+        Move move = new Move(7, 3, true, -9, 1.5f);
+        roundTrip(Move.class, move);
+        roundTrip(Everything.class, new Everything(true, (byte) -3, (short) 1234, 'é', Integer.MIN_VALUE,
+                Long.MAX_VALUE, 0.25f, Math.PI, "héllo wörld", Direction.WEST, new Vector(1, -2), move));
+        roundTrip(Sequences.class, new Sequences(new byte[]{1, -2, 3}, new short[]{-4, 5}, new int[]{6, -7, 8},
+                new long[]{Long.MIN_VALUE}, new float[]{9.5f}, new double[]{}, new boolean[]{true, false, true},
+                new char[]{'a', 'Ω'}, new String[]{"", "two"}, new Direction[]{Direction.SOUTH, Direction.NORTH},
+                new Vector[]{new Vector(3, 4)}, new int[]{0, 7, 5, 1}, new int[][]{{1, 2}, {}, {3}}));
+
+        Player player = new Player(42, 9, "Ada", new Vector(10, 20), 99);
+        roundTrip(Entity.class, new Entity(1, 15));
+        roundTrip(Player.class, player);
+
+        Party party = new Party();
+        party.leader = player;
+        party.members = new Entity[]{new Entity(2, 3), new Entity(4, 5)};
+        roundTrip(Party.class, party);
+
+        System.out.println("All values read back equal");
+    }
+
+    /**
+     * Writes a value to a heap and a native buffer, checks that both hold the same bytes, and reads it back from each.
+     */
+    private static <T> void roundTrip(Class<T> type, T value) {
+        DynamicByteBuffer heap = new DynamicByteBuffer(new byte[16]);
+        try (NativeByteBuffer offHeap = new NativeByteBuffer(16)) {
+            roundTrip(type, value, heap);
+            roundTrip(type, value, offHeap);
+            heap.setReadPosition(0);
+            offHeap.setReadPosition(0);
+            if (!Arrays.equals(heap.readBytes(heap.getWritePosition()), offHeap.readBytes(offHeap.getWritePosition())))
+                throw new IllegalStateException(type.getSimpleName() + " was encoded differently off the heap");
+        }
+        System.out.println(type.getSimpleName() + ": " + heap.getWritePosition() + " bytes for two copies");
+    }
+
+    /**
+     * Writes a value twice, followed by a marker, and checks that both copies and the marker read back unchanged.
+     */
+    private static <T> void roundTrip(Class<T> type, T value, DataBuffer buffer) {
+        Serializer<T> serializer = Serializer.of(type);
+        serializer.write(buffer, value);
+        serializer.write(buffer, value);
+        buffer.writeInt(0xCAFEBABE);
+
+        for (int i = 0; i < 2; i++) {
+            T read = serializer.read(buffer);
+            if (!value.equals(read))
+                throw new IllegalStateException(type.getSimpleName() + " read back as " + read + " instead of " + value);
+        }
+        if (buffer.readInt() != 0xCAFEBABE || buffer.getReadPosition() != buffer.getWritePosition())
+            throw new IllegalStateException(type.getSimpleName() + " was not read back to its exact end");
+    }
+}
@@ -0,0 +1,42 @@
+import jgl.io.buffer.DynamicByteBuffer;
+import jgl.io.buffer.StringTable;
+
+import java.util.Random;
+
+/**
+ * Sends a long sequence of repeated strings through a pair of {@link StringTable}s, with limits below, at and above the
+ * number of distinct strings, and checks that every string reads back and that both tables stay in sync, including
+ * after being cleared.
+ */
+public class StringTableTest {
+
+    public static void main(String[] args) {
+        for (int maxEntries : new int[]{0, 5, 1000, 5000}) {
+            StringTable outgoing = new StringTable(maxEntries);
+            StringTable incoming = new StringTable(maxEntries);
+            DynamicByteBuffer buffer = new DynamicByteBuffer(new byte[16]);
+
+            Random random = new Random(maxEntries);
+            String[] sent = new String[20_000];
+            for (int i = 0; i < sent.length; i++) {
+                sent[i] = "string" + random.nextInt(3000);
+                outgoing.write(buffer, sent[i]);
+            }
+            for (String expected : sent) {
+                String read = incoming.read(buffer);
+                if (!expected.equals(read))
+                    throw new IllegalStateException("Read " + read + " instead of " + expected);
+            }
+            if (outgoing.size() != incoming.size() || outgoing.size() > maxEntries)
+                throw new IllegalStateException("Tables of " + outgoing.size() + " and " + incoming.size() + " strings");
+
+            outgoing.clear();
+            incoming.clear();
+            outgoing.write(buffer, "again");
+            outgoing.write(buffer, "again");
+            if (!incoming.read(buffer).equals("again") || !incoming.read(buffer).equals("again"))
+                throw new IllegalStateException("The tables are out of sync after being cleared");
+            System.out.println(maxEntries + " entries: " + buffer.getWritePosition() + " bytes");
+        }
+    }
+}
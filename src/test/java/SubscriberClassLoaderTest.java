@@ -0,0 +1,88 @@
+import jgl.event.EventPublisher;
+import jgl.event.Subscribe;
+import jgl.event.events.KeyPressEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Registers a subscriber whose class is defined by a separate class loader, the way {@code PluginLoader} loads the
+ * classes of a plugin, and checks that its {@link Subscribe} methods are notified.
+ */
+public class SubscriberClassLoaderTest {
+
+    public static void main(String[] args) throws Exception {
+        Class<?> type = new IsolatingClassLoader(PluginCounter.class).loadClass(PluginCounter.class.getName());
+        if (type.getClassLoader() == PluginCounter.class.getClassLoader())
+            throw new IllegalStateException("The subscriber was not loaded by a separate class loader");
+        Object subscriber = type.getDeclaredConstructor().newInstance();
+
+        EventPublisher publisher = new EventPublisher();
+        int registered = publisher.registerSubscriber(subscriber);
+        for (int key = 0; key < 10; key++)
+            publisher.publish(new KeyPressEvent(key, 0));
+
+        long total = type.getField("total").getLong(subscriber);
+        if (registered != 2 || total != 2 * 45)
+            throw new IllegalStateException("Expected 2 methods notified with a total of 90, got " + registered + " and " + total);
+        if (!publisher.unregisterSubscriber(subscriber))
+            throw new IllegalStateException("The subscriber could not be unregistered");
+        publisher.publish(new KeyPressEvent(100, 0));
+        if (type.getField("total").getLong(subscriber) != total)
+            throw new IllegalStateException("An unregistered subscriber was notified");
+
+        System.out.println("Subscriber from " + type.getClassLoader() + " received " + total);
+    }
+
+    /**
+     * A subscriber with a public and a private handler.
+     */
+    public static class PluginCounter {
+
+        public long total;
+
+        @Subscribe
+        public void keyPressed(KeyPressEvent event) {
+            total += event.getKey();
+        }
+
+        @Subscribe(priority = 1)
+        private void keyPressedFirst(KeyPressEvent event) {
+            total += event.getKey();
+        }
+    }
+
+    /**
+     * Defines one class itself from the class file of the application class loader and delegates every other class to
+     * its parent.
+     */
+    private static class IsolatingClassLoader extends ClassLoader {
+
+        private final String isolated;
+
+        IsolatingClassLoader(Class<?> isolated) {
+            super(isolated.getClassLoader());
+            this.isolated = isolated.getName();
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(isolated))
+                return super.loadClass(name, resolve);
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        if (in == null)
+                            throw new ClassNotFoundException(name);
+                        byte[] bytes = in.readAllBytes();
+                        loaded = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return loaded;
+            }
+        }
+    }
+}